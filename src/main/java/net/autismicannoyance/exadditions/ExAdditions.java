@@ -2,7 +2,10 @@ package net.autismicannoyance.exadditions;
 
 import net.autismicannoyance.exadditions.block.entity.ModBlockEntities;
 import net.autismicannoyance.exadditions.command.BlackHoleCommand;
+import net.autismicannoyance.exadditions.command.CharmIndexCommand;
 import net.autismicannoyance.exadditions.command.HeadlessZombieCommand;
+import net.autismicannoyance.exadditions.command.HijackCommand;
+import net.autismicannoyance.exadditions.command.MagnetismCommand;
 import net.autismicannoyance.exadditions.command.ResetVoidCommand;
 import net.autismicannoyance.exadditions.command.TestRenderCommand;
 import net.autismicannoyance.exadditions.effect.ModEffects;
@@ -133,6 +136,9 @@ public class ExAdditions {
         ResetVoidCommand.register(event.getDispatcher());
         //TestRenderCommand.register(event.getDispatcher()); // Uncomment if needed
         HeadlessZombieCommand.register(event.getDispatcher());
+        MagnetismCommand.register(event.getDispatcher());
+        CharmIndexCommand.register(event.getDispatcher());
+        HijackCommand.register(event.getDispatcher());
     }
 
     public void onAttributeCreate(EntityAttributeCreationEvent event) {
@@ -7,59 +7,47 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.ArrayList;
 import java.util.List;
 
 @Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID, value = Dist.CLIENT)
 public class AdaptationWheelRenderer {
 
-    private static final ConcurrentHashMap<Integer, WheelData> WHEEL_DATA = new ConcurrentHashMap<>();
+    private static final AttachedEffects.Kind<WheelData> WHEELS = AttachedEffects.register(
+            new AttachedEffects.Kind<>(RenderLevelStageEvent.Stage.AFTER_ENTITIES) {
+                @Override
+                protected boolean render(RenderLevelStageEvent event, Minecraft mc, Entity entity, WheelData data) {
+                    if (!(entity instanceof PlayerlikeEntity playerlikeEntity)) return false;
+
+                    // Update rotation from entity if available
+                    data.targetRotation = playerlikeEntity.getWheelRotation();
+
+                    renderAdaptationWheel(playerlikeEntity, data, event.getPartialTick());
+                    return true;
+                }
+            });
 
     public static void onWheelRotation(int entityId, float rotation, float resistanceLevel) {
-        WheelData data = WHEEL_DATA.computeIfAbsent(entityId, id -> new WheelData());
+        WheelData data = WHEELS.getOrCreate(entityId, id -> new WheelData());
         data.targetRotation = rotation;
         data.resistanceLevel = resistanceLevel;
-        data.lastUpdateTime = System.currentTimeMillis();
     }
 
     @SubscribeEvent
-    public static void onRenderLevel(RenderLevelStageEvent event) {
-        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_ENTITIES) return;
-
-        Minecraft mc = Minecraft.getInstance();
-        if (mc.level == null) return;
-
-        float partialTick = event.getPartialTick();
-
-        // Clean up old data
-        long currentTime = System.currentTimeMillis();
-        WHEEL_DATA.entrySet().removeIf(entry -> currentTime - entry.getValue().lastUpdateTime > 30000); // 30 seconds
-
-        // Find and render wheels for all PlayerlikeEntity instances
-        for (Entity entity : mc.level.entitiesForRendering()) {
-            if (entity instanceof PlayerlikeEntity playerlikeEntity) {
-                int entityId = entity.getId();
-
-                // Create wheel data if it doesn't exist (for continuous rendering)
-                WheelData data = WHEEL_DATA.computeIfAbsent(entityId, id -> {
-                    WheelData newData = new WheelData();
-                    newData.targetRotation = playerlikeEntity.getWheelRotation();
-                    newData.currentRotation = newData.targetRotation;
-                    newData.lastUpdateTime = currentTime;
-                    return newData;
-                });
-
-                // Update rotation from entity if available
-                data.targetRotation = playerlikeEntity.getWheelRotation();
-                data.lastUpdateTime = currentTime;
-
-                renderAdaptationWheel(playerlikeEntity, data, partialTick);
-            }
-        }
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (!event.getLevel().isClientSide() || !(event.getEntity() instanceof PlayerlikeEntity playerlikeEntity)) return;
+
+        // Every Playerlike gets a wheel for as long as it's loaded
+        WHEELS.getOrCreate(playerlikeEntity.getId(), id -> {
+            WheelData newData = new WheelData();
+            newData.targetRotation = playerlikeEntity.getWheelRotation();
+            newData.currentRotation = newData.targetRotation;
+            return newData;
+        });
     }
 
     private static void renderAdaptationWheel(PlayerlikeEntity entity, WheelData data, float partialTick) {
@@ -388,6 +376,5 @@ public class AdaptationWheelRenderer {
         float currentRotation = 0.0f;
         float targetRotation = 0.0f;
         float resistanceLevel = 0.0f;
-        long lastUpdateTime = System.currentTimeMillis();
     }
 }
\ No newline at end of file
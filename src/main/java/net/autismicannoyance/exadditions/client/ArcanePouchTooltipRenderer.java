@@ -9,7 +9,6 @@ import net.minecraft.client.gui.screens.inventory.InventoryScreen;
 import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import java.util.Optional;
@@ -136,22 +135,14 @@ public class ArcanePouchTooltipRenderer implements ClientTooltipComponent {
                 return;
             }
 
-            EntityType<?> type = maybeType.get();
-            Entity entity = type.create(mc.level);
-            if (!(entity instanceof LivingEntity living)) {
+            // Built once and reused across frames, we only re-pose it here
+            LivingEntity living = PreviewEntityCache.get(tag);
+            if (living == null) {
                 graphics.fill(screenX - 2, screenY - 2, screenX + 2, screenY + 2, 0xFFFF6600);
                 return;
             }
 
-            // Load entity data
-            CompoundTag loadTag = tag.copy();
-            loadTag.remove("Pos");
-            loadTag.remove("UUID");
-            loadTag.remove("UUIDLeast");
-            loadTag.remove("UUIDMost");
-
             try {
-                living.load(loadTag);
                 living.tickCount = (int) (mc.level.getGameTime() % 24000);
 
                 // Calculate entity size based on Y position (simulate perspective)
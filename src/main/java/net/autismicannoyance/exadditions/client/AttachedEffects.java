@@ -0,0 +1,122 @@
+package net.autismicannoyance.exadditions.client;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.entity.Entity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntFunction;
+
+/**
+ * Client registry for visual effects that follow an entity (eyes, cocoons, the adaptation wheel).
+ *
+ * Each effect {@link Kind} keeps its per-entity data keyed by entity id. One render-stage handler
+ * walks only the kinds registered for the current stage and resolves their entities through the
+ * level's id lookup, so a frame costs one lookup per active effect, not a scan of every loaded
+ * entity. Entries are dropped when their entity leaves the client level, when the level unloads
+ * (dimension change, disconnect), or when the kind's render callback says it's finished.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID, value = Dist.CLIENT)
+public final class AttachedEffects {
+    private static final List<Kind<?>> KINDS = new CopyOnWriteArrayList<>();
+
+    private AttachedEffects() {}
+
+    public static <T> Kind<T> register(Kind<T> kind) {
+        KINDS.add(kind);
+        return kind;
+    }
+
+    /**
+     * One type of attached effect, rendered in a single batch at its stage.
+     */
+    public abstract static class Kind<T> {
+        private final RenderLevelStageEvent.Stage stage;
+        private final Map<Integer, T> entries = new ConcurrentHashMap<>();
+
+        protected Kind(RenderLevelStageEvent.Stage stage) {
+            this.stage = stage;
+        }
+
+        public void put(int entityId, T data) {
+            entries.put(entityId, data);
+        }
+
+        public T getOrCreate(int entityId, IntFunction<T> factory) {
+            return entries.computeIfAbsent(entityId, factory::apply);
+        }
+
+        public void remove(int entityId) {
+            entries.remove(entityId);
+        }
+
+        public int size() {
+            return entries.size();
+        }
+
+        // Called once before the first entry of a non-empty batch
+        protected void begin(RenderLevelStageEvent event, Minecraft mc) {}
+
+        /**
+         * Render one entry; return false to drop it.
+         */
+        protected abstract boolean render(RenderLevelStageEvent event, Minecraft mc, Entity entity, T data);
+
+        // Called once after the last entry of a batch that began
+        protected void end(RenderLevelStageEvent event, Minecraft mc) {}
+
+        private void renderAll(RenderLevelStageEvent event, Minecraft mc) {
+            if (entries.isEmpty()) return;
+            begin(event, mc);
+            Iterator<Map.Entry<Integer, T>> it = entries.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<Integer, T> entry = it.next();
+                Entity entity = mc.level.getEntity(entry.getKey());
+                if (entity == null || entity.isRemoved() || !render(event, mc, entity, entry.getValue())) {
+                    it.remove();
+                }
+            }
+            end(event, mc);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onRenderLevel(RenderLevelStageEvent event) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) return;
+
+        for (Kind<?> kind : KINDS) {
+            if (kind.stage == event.getStage()) {
+                kind.renderAll(event, mc);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide()) return;
+        int id = event.getEntity().getId();
+        for (Kind<?> kind : KINDS) {
+            kind.remove(id);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        // Entity ids are per level, so nothing carries over to the next one
+        if (!event.getLevel().isClientSide()) return;
+        for (Kind<?> kind : KINDS) {
+            kind.entries.clear();
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package net.autismicannoyance.exadditions.client;
+
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Procedural lightning bolt shapes, generated from a seed into packed float arrays and cached.
+ *
+ * A bolt is keyed by its seed, its endpoints quantized to {@value #QUANTUM} blocks, its detail
+ * level and its chain level, so a flickering chain between mobs that stand still cycles through a
+ * few cached shapes instead of re-subdividing its path on every flicker. Points are xyz offsets
+ * from the quantized start and are already smoothed. The arrays are handed to
+ * {@link VectorRenderer} as-is and must never be modified.
+ */
+public final class BoltGeometry {
+    public static final int DETAIL_FULL = 0;
+    public static final int DETAIL_REDUCED = 1;
+    public static final int DETAIL_MINIMAL = 2;
+
+    private static final double QUANTUM = 0.25;
+    private static final int CACHE_SIZE = 256;
+
+    // Path generation, unchanged from the old per-flicker generator
+    private static final float MIN_SEGMENT_LENGTH = 0.25f;
+    private static final float MAX_SEGMENT_LENGTH = 1.0f;
+    private static final float BASE_DEVIATION = 0.5f;
+    private static final float DEVIATION_DECAY = 0.8f;
+    private static final int MIN_SEGMENTS = 5;
+
+    private static final float PRIMARY_BRANCH_PROBABILITY = 0.35f;
+    private static final float SECONDARY_BRANCH_PROBABILITY = 0.25f;
+    private static final int MAX_BRANCH_DEPTH = 2;
+
+    private static final Map<Key, BoltGeometry> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, BoltGeometry> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private record Key(long seed, int sx, int sy, int sz, int ex, int ey, int ez, int detail, int chainLevel) {}
+
+    public final Vec3 origin;
+    public final float[] main;
+    public final float[][] branches;
+    public final int[] branchDepths;
+    private final int segmentCount;
+
+    private BoltGeometry(Vec3 origin, float[] main, float[][] branches, int[] branchDepths) {
+        this.origin = origin;
+        this.main = main;
+        this.branches = branches;
+        this.branchDepths = branchDepths;
+
+        int segments = Math.max(0, main.length / 3 - 1);
+        for (float[] branch : branches) {
+            segments += Math.max(0, branch.length / 3 - 1);
+        }
+        this.segmentCount = segments;
+    }
+
+    /**
+     * Line segments in the bolt, main path and branches together.
+     */
+    public int segmentCount() {
+        return segmentCount;
+    }
+
+    public static BoltGeometry get(long seed, Vec3 start, Vec3 end, int detail, int chainLevel) {
+        Key key = new Key(seed, quantize(start.x), quantize(start.y), quantize(start.z),
+                quantize(end.x), quantize(end.y), quantize(end.z), detail, chainLevel);
+        BoltGeometry cached = CACHE.get(key);
+        if (cached == null) {
+            cached = generate(key);
+            CACHE.put(key, cached);
+        }
+        return cached;
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static int quantize(double coordinate) {
+        return Mth.floor(coordinate / QUANTUM + 0.5);
+    }
+
+    private static BoltGeometry generate(Key key) {
+        RandomSource random = RandomSource.create(key.seed());
+        Vec3 origin = new Vec3(key.sx() * QUANTUM, key.sy() * QUANTUM, key.sz() * QUANTUM);
+        Vec3 end = new Vec3((key.ex() - key.sx()) * QUANTUM, (key.ey() - key.sy()) * QUANTUM, (key.ez() - key.sz()) * QUANTUM);
+
+        List<Vec3> mainPath = generatePath(random, Vec3.ZERO, end, key.detail());
+        List<float[]> branches = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        int maxDepth = key.detail() == DETAIL_FULL ? MAX_BRANCH_DEPTH : key.detail() == DETAIL_REDUCED ? 1 : 0;
+        generateBranches(random, mainPath, 0, maxDepth, key.chainLevel(), key.detail(), branches, depths);
+
+        int[] branchDepths = new int[depths.size()];
+        for (int i = 0; i < branchDepths.length; i++) {
+            branchDepths[i] = depths.get(i);
+        }
+        return new BoltGeometry(origin, smoothAndPack(mainPath), branches.toArray(new float[0][]), branchDepths);
+    }
+
+    private static List<Vec3> generatePath(RandomSource random, Vec3 start, Vec3 end, int detail) {
+        List<Vec3> path = new ArrayList<>();
+        path.add(start);
+
+        Vec3 direction = end.subtract(start);
+        double totalDistance = direction.length();
+
+        if (totalDistance < 0.1) {
+            path.add(end);
+            return path;
+        }
+
+        direction = direction.normalize();
+
+        float segmentLength = MIN_SEGMENT_LENGTH + random.nextFloat() * (MAX_SEGMENT_LENGTH - MIN_SEGMENT_LENGTH);
+        int segments = Math.max(MIN_SEGMENTS * 2, (int)(totalDistance / segmentLength));
+        if (detail == DETAIL_REDUCED) {
+            segments = Math.max(MIN_SEGMENTS, segments / 2);
+        } else if (detail == DETAIL_MINIMAL) {
+            segments = MIN_SEGMENTS;
+        }
+
+        // Perpendicular vectors for deviation
+        Vec3 perpendicular1 = direction.cross(new Vec3(0, 1, 0));
+        if (perpendicular1.length() < 0.1) {
+            perpendicular1 = direction.cross(new Vec3(1, 0, 0));
+        }
+        perpendicular1 = perpendicular1.normalize();
+        Vec3 perpendicular2 = direction.cross(perpendicular1).normalize();
+
+        Vec3 currentDeviation = Vec3.ZERO;
+
+        for (int i = 1; i < segments; i++) {
+            double t = (double) i / segments;
+            Vec3 basePoint = start.add(direction.scale(totalDistance * t));
+
+            double deviationStrength = BASE_DEVIATION * 0.6 * Math.pow(DEVIATION_DECAY, t * 2.0);
+
+            // High momentum keeps the curve smooth
+            double momentum = 0.85;
+            Vec3 newRandomDeviation = new Vec3(
+                    random.nextGaussian() * deviationStrength * 0.6,
+                    random.nextGaussian() * deviationStrength * 0.4,
+                    random.nextGaussian() * deviationStrength * 0.6
+            );
+
+            currentDeviation = currentDeviation.scale(momentum).add(newRandomDeviation.scale(1 - momentum));
+
+            path.add(basePoint
+                    .add(perpendicular1.scale(currentDeviation.x))
+                    .add(perpendicular2.scale(currentDeviation.z))
+                    .add(0, currentDeviation.y, 0));
+        }
+
+        path.add(end);
+        return path;
+    }
+
+    private static void generateBranches(RandomSource random, List<Vec3> path, int depth, int maxDepth, int chainLevel,
+                                         int detail, List<float[]> branches, List<Integer> depths) {
+        if (depth >= maxDepth || path.size() < 3) return;
+
+        float branchProbability = depth == 0 ? PRIMARY_BRANCH_PROBABILITY : SECONDARY_BRANCH_PROBABILITY;
+        branchProbability *= (1.0f / (1.0f + depth * 0.4f + chainLevel * 0.2f));
+
+        for (int i = 1; i < path.size() - 1; i++) {
+            if (random.nextFloat() >= branchProbability) continue;
+
+            Vec3 branchStart = path.get(i);
+
+            double branchAngle = (random.nextGaussian() * 0.3) * Math.PI;
+            double branchElevation = (random.nextGaussian() * 0.15) * Math.PI;
+
+            Vec3 branchDir = new Vec3(
+                    Math.cos(branchAngle) * Math.cos(branchElevation),
+                    Math.sin(branchElevation),
+                    Math.sin(branchAngle) * Math.cos(branchElevation)
+            ).normalize();
+
+            // Branch length shrinks with depth
+            double baseBranchLength = 0.6 + random.nextGaussian() * 0.3;
+            double branchLength = Math.abs(baseBranchLength) * Math.pow(0.65, depth);
+            branchLength = Math.max(0.2, Math.min(2.0, branchLength));
+
+            List<Vec3> branchPath = generatePath(random, branchStart, branchStart.add(branchDir.scale(branchLength)), detail);
+            if (branchPath.size() < 2) continue;
+
+            branches.add(smoothAndPack(branchPath));
+            depths.add(depth);
+
+            if (depth < maxDepth - 1 && random.nextFloat() < 0.3f) {
+                generateBranches(random, branchPath, depth + 1, maxDepth, chainLevel, detail, branches, depths);
+            }
+        }
+    }
+
+    // 20/60/20 moving average over the inner points, endpoints kept, packed as xyz floats
+    private static float[] smoothAndPack(List<Vec3> path) {
+        float[] packed = new float[path.size() * 3];
+        for (int i = 0; i < path.size(); i++) {
+            Vec3 point = path.get(i);
+            if (i > 0 && i < path.size() - 1) {
+                point = path.get(i - 1).scale(0.2).add(point.scale(0.6)).add(path.get(i + 1).scale(0.2));
+            }
+            packed[i * 3] = (float) point.x;
+            packed[i * 3 + 1] = (float) point.y;
+            packed[i * 3 + 2] = (float) point.z;
+        }
+        return packed;
+    }
+}
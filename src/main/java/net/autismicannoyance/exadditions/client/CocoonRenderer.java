@@ -5,7 +5,6 @@ import com.mojang.blaze3d.vertex.BufferBuilder;
 import com.mojang.blaze3d.vertex.DefaultVertexFormat;
 import com.mojang.blaze3d.vertex.Tesselator;
 import com.mojang.blaze3d.vertex.VertexFormat;
-import net.autismicannoyance.exadditions.ExAdditions;
 import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GameRenderer;
@@ -13,39 +12,45 @@ import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.phys.Vec3;
-import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.client.event.RenderLevelStageEvent;
-import net.minecraftforge.eventbus.api.SubscribeEvent;
-import net.minecraftforge.fml.common.Mod;
 import org.joml.Matrix4f;
 
-import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID, value = Dist.CLIENT)
 public class CocoonRenderer {
-    private static final Map<Integer, CocoonEffectData> EFFECTS = new ConcurrentHashMap<>();
+    private static final AttachedEffects.Kind<CocoonEffectData> EFFECTS = AttachedEffects.register(
+            new AttachedEffects.Kind<>(RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) {
+                @Override
+                protected void begin(RenderLevelStageEvent event, Minecraft mc) {
+                    beginBatch(event, mc);
+                }
+
+                @Override
+                protected boolean render(RenderLevelStageEvent event, Minecraft mc, Entity entity, CocoonEffectData effect) {
+                    return renderCocoon(event, entity, effect);
+                }
+
+                @Override
+                protected void end(RenderLevelStageEvent event, Minecraft mc) {
+                    endBatch();
+                }
+            });
+
+    // Valid between beginBatch and endBatch
+    private static BufferBuilder buffer;
+    private static Matrix4f matrix;
+    private static Vec3 camPos;
 
     public static void addEffect(int entityId, int lifetime) {
-        EFFECTS.put(entityId, new CocoonEffectData(entityId, lifetime));
+        EFFECTS.put(entityId, new CocoonEffectData(lifetime));
     }
 
-    @SubscribeEvent
-    public static void onRenderLevel(RenderLevelStageEvent event) {
-        if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS) return;
-
-        Minecraft mc = Minecraft.getInstance();
-        if (mc.level == null) return;
-
+    private static void beginBatch(RenderLevelStageEvent event, Minecraft mc) {
         Camera cam = mc.gameRenderer.getMainCamera();
-        Vec3 camPos = cam.getPosition();
+        camPos = cam.getPosition();
 
-        Tesselator tess = Tesselator.getInstance();
-        BufferBuilder buffer = tess.getBuilder();
+        buffer = Tesselator.getInstance().getBuilder();
 
         // **Use org.joml.Matrix4f** exactly (matches VertexConsumer.vertex signature in your mappings)
-        Matrix4f matrix = event.getPoseStack().last().pose();
+        matrix = event.getPoseStack().last().pose();
 
         // Render setup
         RenderSystem.enableBlend();
@@ -57,49 +62,44 @@ public class CocoonRenderer {
         RenderSystem.setShaderColor(1f, 1f, 1f, 1f);
 
         buffer.begin(VertexFormat.Mode.TRIANGLES, DefaultVertexFormat.POSITION_COLOR);
+    }
 
-        Iterator<Map.Entry<Integer, CocoonEffectData>> iter = EFFECTS.entrySet().iterator();
-        while (iter.hasNext()) {
-            Map.Entry<Integer, CocoonEffectData> entry = iter.next();
-            CocoonEffectData effect = entry.getValue();
-
-            if (effect.age >= effect.lifetime) {
-                iter.remove();
-                continue;
-            }
-
-            Entity target = mc.level.getEntity(effect.entityId);
-            if (!(target instanceof LivingEntity)) {
-                iter.remove();
-                continue;
-            }
-
-            // advance effect
-            effect.age++;
-            effect.angle += 4.0f;
-
-            float partial = event.getPartialTick();
-            double ex = Mth.lerp(partial, target.xOld, target.getX());
-            double ey = Mth.lerp(partial, target.yOld, target.getY()) + target.getBbHeight() / 2.0;
-            double ez = Mth.lerp(partial, target.zOld, target.getZ());
-
-            // camera-relative coordinates (this is the common pattern)
-            double cx = ex - camPos.x;
-            double cy = ey - camPos.y;
-            double cz = ez - camPos.z;
-
-            for (int i = 0; i < 5; i++) {
-                float baseAngle = effect.angle * (i % 2 == 0 ? 1f : -1f) + (i * 72f);
-                drawSpinningTriangle(buffer, matrix, cx, cy, cz, baseAngle, effect.radius);
-            }
+    private static boolean renderCocoon(RenderLevelStageEvent event, Entity target, CocoonEffectData effect) {
+        if (effect.age >= effect.lifetime || !(target instanceof LivingEntity)) {
+            return false;
         }
 
+        // advance effect
+        effect.age++;
+        effect.angle += 4.0f;
+
+        float partial = event.getPartialTick();
+        double ex = Mth.lerp(partial, target.xOld, target.getX());
+        double ey = Mth.lerp(partial, target.yOld, target.getY()) + target.getBbHeight() / 2.0;
+        double ez = Mth.lerp(partial, target.zOld, target.getZ());
+
+        // camera-relative coordinates (this is the common pattern)
+        double cx = ex - camPos.x;
+        double cy = ey - camPos.y;
+        double cz = ez - camPos.z;
+
+        for (int i = 0; i < 5; i++) {
+            float baseAngle = effect.angle * (i % 2 == 0 ? 1f : -1f) + (i * 72f);
+            drawSpinningTriangle(buffer, matrix, cx, cy, cz, baseAngle, effect.radius);
+        }
+        return true;
+    }
+
+    private static void endBatch() {
         // flush vertices (use end() in your mappings)
-        tess.end();
+        Tesselator.getInstance().end();
 
         // restore GL state
         RenderSystem.enableCull();
         RenderSystem.disableBlend();
+
+        buffer = null;
+        matrix = null;
     }
 
     private static void drawSpinningTriangle(BufferBuilder buffer, Matrix4f matrix, double cx, double cy, double cz, float angleDeg, float radius) {
@@ -119,14 +119,12 @@ public class CocoonRenderer {
     }
 
     private static class CocoonEffectData {
-        final int entityId;
         float angle = 0f;
         final int lifetime;
         int age = 0;
         final float radius;
 
-        CocoonEffectData(int entityId, int lifetime) {
-            this.entityId = entityId;
+        CocoonEffectData(int lifetime) {
             this.lifetime = lifetime;
             this.radius = 1.2f;
         }
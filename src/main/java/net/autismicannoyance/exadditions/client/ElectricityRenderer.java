@@ -1,6 +1,7 @@
 package net.autismicannoyance.exadditions.client;
 
 import net.autismicannoyance.exadditions.client.VectorRenderer;
+import net.minecraft.client.Minecraft;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
@@ -24,7 +25,6 @@ public class ElectricityRenderer {
     private static final float MAIN_BOLT_THICKNESS = 0.15f;
     private static final float PRIMARY_BRANCH_THICKNESS = 0.08f;
     private static final float SECONDARY_BRANCH_THICKNESS = 0.04f;
-    private static final float TERTIARY_BRANCH_THICKNESS = 0.02f;
     private static final float GLOW_THICKNESS = 0.35f;
 
     // Updated color scheme (white to yellow gradient)
@@ -37,7 +37,6 @@ public class ElectricityRenderer {
     // Branch colors
     private static final int PRIMARY_BRANCH_COLOR = 0xFFFFFFDD;    // Light cream
     private static final int SECONDARY_BRANCH_COLOR = 0xFFFFFF88;  // Medium cream
-    private static final int TERTIARY_BRANCH_COLOR = 0xFFFFDD44;   // Yellow-cream
 
     // Optimized cloud colors - fewer layers for better performance
     private static final int CLOUD_DARK_CORE = 0xCC1A1A1A;
@@ -47,7 +46,7 @@ public class ElectricityRenderer {
 
     // Enhanced animation parameters - faster clearing
     private static final int BOLT_LIFETIME = 8; // Reduced from 12 for faster clearing
-    private static final int FLICKER_INTERVAL = 2;
+    private static final int FLICKER_INTERVAL = 2; // Ticks, so the flicker rate doesn't follow the frame rate
     private static final float MAX_CHAIN_DISTANCE = 6.0f;
 
     // Optimized cloud parameters - shorter lifetimes for less lag
@@ -55,18 +54,14 @@ public class ElectricityRenderer {
     private static final float CLOUD_SIZE = 3.5f;
     private static final int CLOUD_RENDER_LIFETIME = 60; // Reduced from 80
 
-    // Improved generation parameters for more natural lightning
-    private static final float MIN_SEGMENT_LENGTH = 0.25f;
-    private static final float MAX_SEGMENT_LENGTH = 1.0f;
-    private static final float BASE_DEVIATION = 0.5f;
-    private static final float DEVIATION_DECAY = 0.8f;
-    private static final int MIN_SEGMENTS = 5;
+    // Flicker shapes cycle through this many cached bolts per link
+    private static final int FLICKER_VARIANTS = 4;
 
-    // Multi-level branching parameters
-    private static final float PRIMARY_BRANCH_PROBABILITY = 0.35f; // Reduced for performance
-    private static final float SECONDARY_BRANCH_PROBABILITY = 0.25f; // Reduced for performance
-    private static final float TERTIARY_BRANCH_PROBABILITY = 0.15f; // Reduced for performance
-    private static final int MAX_BRANCH_DEPTH = 2; // Reduced from 3
+    // Bolt detail by camera distance, and segment-layers submitted per tick before detail is forced down
+    private static final double FULL_DETAIL_DISTANCE = 24.0;
+    private static final double REDUCED_DETAIL_DISTANCE = 64.0;
+    private static final int SEGMENT_BUDGET_PER_TICK = 4096;
+    private static int segmentsThisTick = 0;
 
     /**
      * Creates a chained electricity effect between entities
@@ -107,9 +102,6 @@ public class ElectricityRenderer {
             ElectricChain chain = new ElectricChain(source, validTargets, duration, isCloudLightning, cloudPosition);
             activeChains.put(chainId, chain);
             chain.generateBolts(level);
-
-            System.out.println("Created electricity chain: " + (isCloudLightning ? "cloud" : "normal") +
-                    " with " + validTargets.size() + " targets, cloud pos: " + cloudPosition);
         }
     }
 
@@ -137,9 +129,6 @@ public class ElectricityRenderer {
             ElectricChain chain = new ElectricChain(null, validTargets, duration, true, cloudPosition);
             activeChains.put(chainId, chain);
             chain.generateBolts(level);
-
-            System.out.println("Created cloud lightning chain from " + cloudPosition +
-                    " with " + validTargets.size() + " targets");
         }
     }
 
@@ -154,11 +143,11 @@ public class ElectricityRenderer {
 
         StormCloud cloud = new StormCloud(cloudPosition, duration, player);
         activeStormClouds.put(cloudId, cloud);
-
-        System.out.println("Created storm cloud visual at: " + cloudPosition);
     }
 
     public static void tick() {
+        segmentsThisTick = 0;
+
         // Tick lightning chains
         Iterator<Map.Entry<Integer, ElectricChain>> chainIterator = activeChains.entrySet().iterator();
         while (chainIterator.hasNext()) {
@@ -185,6 +174,7 @@ public class ElectricityRenderer {
     public static void clearAll() {
         activeChains.clear();
         activeStormClouds.clear();
+        BoltGeometry.clear();
     }
 
     /**
@@ -345,6 +335,8 @@ public class ElectricityRenderer {
         private int nextFlicker = 0;
         private final boolean fromCloud;
         private final Vec3 cloudPosition; // Store actual cloud position
+        private final long seed = random.nextLong();
+        private int flicker = 0;
 
         public ElectricChain(Entity source, List<LivingEntity> targets, int duration, boolean fromCloud, Vec3 cloudPosition) {
             this.source = source;
@@ -358,8 +350,9 @@ public class ElectricityRenderer {
             age++;
 
             if (age >= nextFlicker) {
+                flicker++;
                 generateBolts(source != null ? source.level() : targets.get(0).level());
-                nextFlicker = age + FLICKER_INTERVAL + random.nextInt(2);
+                nextFlicker = age + FLICKER_INTERVAL;
             }
 
             return age >= duration;
@@ -400,7 +393,7 @@ public class ElectricityRenderer {
                 if (currentPos == null) continue;
 
                 // For cloud lightning, all connections are considered primary level
-                generateAdvancedLightningBolt(previousPos, currentPos, 0);
+                generateAdvancedLightningBolt(previousPos, currentPos, 0, i);
 
                 // Update previous position for next iteration
                 previousPos = currentPos;
@@ -423,7 +416,7 @@ public class ElectricityRenderer {
                 // Subsequent connections are between mobs (chainLevel = 1)
                 int chainLevel = (i == 0) ? 0 : 1;
 
-                generateAdvancedLightningBolt(previousPos, currentPos, chainLevel);
+                generateAdvancedLightningBolt(previousPos, currentPos, chainLevel, i);
 
                 // Update previous position for next iteration
                 previousPos = currentPos;
@@ -437,213 +430,89 @@ public class ElectricityRenderer {
             return entity.position().add(0, entity.getBbHeight() * 0.5, 0);
         }
 
-        private void generateAdvancedLightningBolt(Vec3 start, Vec3 end, int chainLevel) {
-            // Generate more natural main path with smoother curves
-            List<Vec3> mainPath = generateSmoothLightningPath(start, end);
-
-            if (mainPath.size() < 2) return;
-
-            // Draw layered bolt for better visual effect
-            drawLayeredBolt(mainPath, chainLevel);
-
-            // Generate multi-level branching system (reduced complexity)
-            generateOptimizedBranches(mainPath, 0, chainLevel);
-        }
-
-        private List<Vec3> generateSmoothLightningPath(Vec3 start, Vec3 end) {
-            List<Vec3> path = new ArrayList<>();
-            path.add(start);
+        private void generateAdvancedLightningBolt(Vec3 start, Vec3 end, int chainLevel, int link) {
+            int detail = detailFor(start.add(end).scale(0.5));
 
-            Vec3 direction = end.subtract(start);
-            double totalDistance = direction.length();
-
-            if (totalDistance < 0.1) {
-                path.add(end);
-                return path;
+            // Same seed for the same link and flicker variant, so still targets reuse cached shapes
+            long boltSeed = (seed * 31 + link) * 31 + flicker % FLICKER_VARIANTS;
+            BoltGeometry bolt = BoltGeometry.get(boltSeed, start, end, detail, chainLevel);
+            if (segmentsThisTick + cost(bolt, detail) > SEGMENT_BUDGET_PER_TICK && detail != BoltGeometry.DETAIL_MINIMAL) {
+                detail = BoltGeometry.DETAIL_MINIMAL;
+                bolt = BoltGeometry.get(boltSeed, start, end, detail, chainLevel);
             }
+            int cost = cost(bolt, detail);
+            if (segmentsThisTick + cost > SEGMENT_BUDGET_PER_TICK) return;
+            segmentsThisTick += cost;
 
-            direction = direction.normalize();
-
-            // Generate more segments for smoother curves
-            float segmentLength = MIN_SEGMENT_LENGTH + random.nextFloat() * (MAX_SEGMENT_LENGTH - MIN_SEGMENT_LENGTH);
-            int segments = Math.max(MIN_SEGMENTS * 2, (int)(totalDistance / segmentLength)); // Double the segments
+            drawLayeredBolt(bolt, chainLevel, detail);
 
-            // Create perpendicular vectors for deviation
-            Vec3 perpendicular1 = direction.cross(new Vec3(0, 1, 0));
-            if (perpendicular1.length() < 0.1) {
-                perpendicular1 = direction.cross(new Vec3(1, 0, 0));
+            for (int i = 0; i < bolt.branches.length; i++) {
+                int depth = bolt.branchDepths[i];
+                if (depth == 0) {
+                    drawBranchBolt(bolt.origin, bolt.branches[i], depth, chainLevel, PRIMARY_BRANCH_COLOR, PRIMARY_BRANCH_THICKNESS);
+                } else {
+                    drawBranchBolt(bolt.origin, bolt.branches[i], depth, chainLevel, SECONDARY_BRANCH_COLOR, SECONDARY_BRANCH_THICKNESS);
+                }
             }
-            perpendicular1 = perpendicular1.normalize();
-            Vec3 perpendicular2 = direction.cross(perpendicular1).normalize();
-
-            // Generate path with smoother curves and more natural deviation
-            Vec3 currentDeviation = Vec3.ZERO;
-
-            for (int i = 1; i < segments; i++) {
-                double t = (double) i / segments;
-                Vec3 basePoint = start.add(direction.scale(totalDistance * t));
-
-                // Reduced deviation strength for smoother curves
-                double deviationStrength = BASE_DEVIATION * 0.6 * Math.pow(DEVIATION_DECAY, t * 2.0);
-
-                // Higher momentum for smoother curves
-                double momentum = 0.85; // Increased from 0.7
-                Vec3 newRandomDeviation = new Vec3(
-                        (random.nextGaussian()) * deviationStrength * 0.6, // Reduced chaos
-                        (random.nextGaussian()) * deviationStrength * 0.4,
-                        (random.nextGaussian()) * deviationStrength * 0.6
-                );
-
-                currentDeviation = currentDeviation.scale(momentum).add(newRandomDeviation.scale(1 - momentum));
-
-                // Apply perpendicular deviation
-                Vec3 deviatedPoint = basePoint
-                        .add(perpendicular1.scale(currentDeviation.x))
-                        .add(perpendicular2.scale(currentDeviation.z))
-                        .add(0, currentDeviation.y, 0);
+        }
 
-                path.add(deviatedPoint);
-            }
+        private int detailFor(Vec3 position) {
+            double distance = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition().distanceTo(position);
+            if (distance < FULL_DETAIL_DISTANCE) return BoltGeometry.DETAIL_FULL;
+            if (distance < REDUCED_DETAIL_DISTANCE) return BoltGeometry.DETAIL_REDUCED;
+            return BoltGeometry.DETAIL_MINIMAL;
+        }
 
-            path.add(end);
-            return path;
+        // Segments times layers; branches are drawn with up to three layers
+        private int cost(BoltGeometry bolt, int detail) {
+            int mainSegments = Math.max(0, bolt.main.length / 3 - 1);
+            return mainSegments * mainLayers(detail) + (bolt.segmentCount() - mainSegments) * 3;
         }
 
-        private void drawLayeredBolt(List<Vec3> path, int chainLevel) {
-            if (path.size() < 2) return;
+        private int mainLayers(int detail) {
+            return detail == BoltGeometry.DETAIL_FULL ? 5 : detail == BoltGeometry.DETAIL_REDUCED ? 3 : 2;
+        }
 
-            // Apply smoothing to the path for better visual quality
-            List<Vec3> smoothPath = applySmoothingFilter(path);
+        private void drawLayeredBolt(BoltGeometry bolt, int chainLevel, int detail) {
+            float[] path = bolt.main;
+            if (path.length < 6) return;
 
             // Adjust thickness and brightness based on chain level
             float thicknessMultiplier = 1.0f / (1.0f + chainLevel * 0.25f);
             float brightnessMultiplier = 1.0f / (1.0f + chainLevel * 0.15f);
 
-            // Draw multiple layers for realistic glow effect with updated colors
-
             // Outermost glow layer (very soft and wide)
-            int softGlow = adjustColorBrightness(GLOW_COLOR, brightnessMultiplier * 0.4f);
-            VectorRenderer.drawPolylineWorld(smoothPath, softGlow,
-                    GLOW_THICKNESS * thicknessMultiplier * 2.2f, false, BOLT_LIFETIME, null);
+            if (detail != BoltGeometry.DETAIL_MINIMAL) {
+                int softGlow = adjustColorBrightness(GLOW_COLOR, brightnessMultiplier * 0.4f);
+                VectorRenderer.drawPolylineWorld(bolt.origin, path, softGlow,
+                        GLOW_THICKNESS * thicknessMultiplier * 2.2f, false, BOLT_LIFETIME, null);
+            }
 
             // Outer glow layer
             int outerGlow = adjustColorBrightness(OUTER_COLOR, brightnessMultiplier * 0.7f);
-            VectorRenderer.drawPolylineWorld(smoothPath, outerGlow,
+            VectorRenderer.drawPolylineWorld(bolt.origin, path, outerGlow,
                     GLOW_THICKNESS * thicknessMultiplier * 1.5f, false, BOLT_LIFETIME, null);
 
-            // Middle layer
-            int middleColor = adjustColorBrightness(MIDDLE_COLOR, brightnessMultiplier * 0.85f);
-            VectorRenderer.drawPolylineWorld(smoothPath, middleColor,
-                    MAIN_BOLT_THICKNESS * thicknessMultiplier * 1.8f, false, BOLT_LIFETIME, null);
+            if (detail == BoltGeometry.DETAIL_FULL) {
+                // Middle layer
+                int middleColor = adjustColorBrightness(MIDDLE_COLOR, brightnessMultiplier * 0.85f);
+                VectorRenderer.drawPolylineWorld(bolt.origin, path, middleColor,
+                        MAIN_BOLT_THICKNESS * thicknessMultiplier * 1.8f, false, BOLT_LIFETIME, null);
 
-            // Inner layer
-            int innerColor = adjustColorBrightness(INNER_COLOR, brightnessMultiplier * 0.95f);
-            VectorRenderer.drawPolylineWorld(smoothPath, innerColor,
-                    MAIN_BOLT_THICKNESS * thicknessMultiplier * 1.2f, false, BOLT_LIFETIME, null);
+                // Inner layer
+                int innerColor = adjustColorBrightness(INNER_COLOR, brightnessMultiplier * 0.95f);
+                VectorRenderer.drawPolylineWorld(bolt.origin, path, innerColor,
+                        MAIN_BOLT_THICKNESS * thicknessMultiplier * 1.2f, false, BOLT_LIFETIME, null);
+            }
 
             // Core layer (brightest, thinnest)
             int coreColor = adjustColorBrightness(CORE_COLOR, brightnessMultiplier);
-            VectorRenderer.drawPolylineWorld(smoothPath, coreColor,
+            VectorRenderer.drawPolylineWorld(bolt.origin, path, coreColor,
                     MAIN_BOLT_THICKNESS * thicknessMultiplier * 0.6f, false, BOLT_LIFETIME, null);
         }
 
-        /**
-         * Applies a smoothing filter to reduce sharp angles in lightning paths
-         */
-        private List<Vec3> applySmoothingFilter(List<Vec3> originalPath) {
-            if (originalPath.size() <= 2) {
-                return new ArrayList<>(originalPath);
-            }
-
-            List<Vec3> smoothedPath = new ArrayList<>();
-            smoothedPath.add(originalPath.get(0)); // Keep first point unchanged
-
-            // Apply moving average smoothing to intermediate points
-            for (int i = 1; i < originalPath.size() - 1; i++) {
-                Vec3 prev = originalPath.get(i - 1);
-                Vec3 current = originalPath.get(i);
-                Vec3 next = originalPath.get(i + 1);
-
-                // Weighted average: 20% previous, 60% current, 20% next
-                Vec3 smoothed = prev.scale(0.2)
-                        .add(current.scale(0.6))
-                        .add(next.scale(0.2));
-
-                smoothedPath.add(smoothed);
-            }
-
-            smoothedPath.add(originalPath.get(originalPath.size() - 1)); // Keep last point unchanged
-            return smoothedPath;
-        }
-
-        private void generateOptimizedBranches(List<Vec3> mainPath, int depth, int chainLevel) {
-            if (depth >= MAX_BRANCH_DEPTH || mainPath.size() < 3) return;
-
-            // Determine branch probability and color based on depth
-            float branchProbability;
-            int branchColor;
-            float branchThickness;
-
-            switch (depth) {
-                case 0: // Primary branches
-                    branchProbability = PRIMARY_BRANCH_PROBABILITY;
-                    branchColor = PRIMARY_BRANCH_COLOR;
-                    branchThickness = PRIMARY_BRANCH_THICKNESS;
-                    break;
-                default: // Secondary branches
-                    branchProbability = SECONDARY_BRANCH_PROBABILITY;
-                    branchColor = SECONDARY_BRANCH_COLOR;
-                    branchThickness = SECONDARY_BRANCH_THICKNESS;
-                    break;
-            }
-
-            // Reduce probability for chain level and depth
-            branchProbability *= (1.0f / (1.0f + depth * 0.4f + chainLevel * 0.2f));
-
-            for (int i = 1; i < mainPath.size() - 1; i++) {
-                if (random.nextFloat() < branchProbability) {
-                    Vec3 branchStart = mainPath.get(i);
-
-                    // Calculate main direction for reference
-                    Vec3 mainDir = mainPath.get(i + 1).subtract(mainPath.get(i - 1)).normalize();
-
-                    // Create branch direction with more natural variation
-                    double branchAngle = (random.nextGaussian() * 0.3) * Math.PI;
-                    double branchElevation = (random.nextGaussian() * 0.15) * Math.PI;
-
-                    Vec3 branchDir = new Vec3(
-                            Math.cos(branchAngle) * Math.cos(branchElevation),
-                            Math.sin(branchElevation),
-                            Math.sin(branchAngle) * Math.cos(branchElevation)
-                    ).normalize();
-
-                    // Branch length decreases with depth, but varies more naturally
-                    double baseBranchLength = 0.6 + random.nextGaussian() * 0.3;
-                    double branchLength = Math.abs(baseBranchLength) * Math.pow(0.65, depth);
-                    branchLength = Math.max(0.2, Math.min(2.0, branchLength));
-
-                    // Generate smoother branch path
-                    Vec3 branchEnd = branchStart.add(branchDir.scale(branchLength));
-                    List<Vec3> branchPath = generateSmoothLightningPath(branchStart, branchEnd);
-
-                    if (branchPath.size() >= 2) {
-                        // Draw branch with appropriate style for its level
-                        drawBranchBolt(branchPath, depth, chainLevel, branchColor, branchThickness);
-
-                        // Recursive branching with reduced probability
-                        if (depth < MAX_BRANCH_DEPTH - 1 && random.nextFloat() < 0.3f) {
-                            generateOptimizedBranches(branchPath, depth + 1, chainLevel);
-                        }
-                    }
-                }
-            }
-        }
-
-        private void drawBranchBolt(List<Vec3> path, int depth, int chainLevel, int baseColor, float thickness) {
-            if (path.size() < 2) return;
-
-            // Apply ultra-smoothing to all branch paths for perfect alignment
-            List<Vec3> ultraSmoothPath = applySmoothingFilter(path);
+        private void drawBranchBolt(Vec3 origin, float[] path, int depth, int chainLevel, int baseColor, float thickness) {
+            if (path.length < 6) return;
 
             // Smoother scaling factors
             float depthFade = (float) Math.pow(0.85, depth);
@@ -653,59 +522,34 @@ public class ElectricityRenderer {
             // Branches get progressively thinner with smoother scaling
             float branchThickness = thickness * totalFade;
 
-            // Enhanced layering based on branch depth - all use ultra-smooth path
             switch (depth) {
                 case 0: // Primary branches - full layering with smooth scaling
                 {
                     int branchGlow = adjustColorBrightness(GLOW_COLOR, totalFade * 0.7f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchGlow,
+                    VectorRenderer.drawPolylineWorld(origin, path, branchGlow,
                             branchThickness * 3.5f, false, BOLT_LIFETIME, null);
 
                     int branchOuter = adjustColorBrightness(OUTER_COLOR, totalFade * 0.85f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchOuter,
+                    VectorRenderer.drawPolylineWorld(origin, path, branchOuter,
                             branchThickness * 2.5f, false, BOLT_LIFETIME, null);
 
                     int branchMain = adjustColorBrightness(baseColor, totalFade * 0.95f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchMain,
+                    VectorRenderer.drawPolylineWorld(origin, path, branchMain,
                             branchThickness * 1.2f, false, BOLT_LIFETIME, null);
                 }
                 break;
 
-                case 1: // Secondary branches - smooth two-layer
+                default: // Secondary branches - smooth two-layer
                 {
                     int branchGlow = adjustColorBrightness(GLOW_COLOR, totalFade * 0.75f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchGlow,
+                    VectorRenderer.drawPolylineWorld(origin, path, branchGlow,
                             branchThickness * 2.8f, false, BOLT_LIFETIME, null);
 
                     int branchMain = adjustColorBrightness(baseColor, totalFade * 0.92f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchMain,
+                    VectorRenderer.drawPolylineWorld(origin, path, branchMain,
                             branchThickness * 1.1f, false, BOLT_LIFETIME, null);
                 }
                 break;
-
-                case 2: // Tertiary branches - refined
-                {
-                    int branchGlow = adjustColorBrightness(GLOW_COLOR, totalFade * 0.65f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchGlow,
-                            branchThickness * 2.3f, false, BOLT_LIFETIME, null);
-
-                    int branchMain = adjustColorBrightness(baseColor, totalFade * 0.88f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchMain,
-                            branchThickness * 0.9f, false, BOLT_LIFETIME, null);
-                }
-                break;
-
-                default: // Quaternary branches - subtle but visible
-                {
-                    int branchGlow = adjustColorBrightness(GLOW_COLOR, totalFade * 0.55f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchGlow,
-                            branchThickness * 2.0f, false, BOLT_LIFETIME, null);
-
-                    int branchMain = adjustColorBrightness(baseColor, totalFade * 0.82f);
-                    VectorRenderer.drawPolylineWorld(ultraSmoothPath, branchMain,
-                            branchThickness * 0.75f, false, BOLT_LIFETIME, null);
-                }
-                break;
             }
         }
 
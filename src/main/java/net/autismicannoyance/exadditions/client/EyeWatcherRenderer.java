@@ -1,7 +1,6 @@
             package net.autismicannoyance.exadditions.client;
 
             import com.mojang.blaze3d.systems.RenderSystem;
-            import net.autismicannoyance.exadditions.ExAdditions;
             import net.minecraft.client.Camera;
             import net.minecraft.client.Minecraft;
             import net.minecraft.client.renderer.GameRenderer;
@@ -11,15 +10,11 @@
             import net.minecraft.world.entity.LivingEntity;
             import net.minecraft.world.level.block.state.BlockState;
             import net.minecraft.world.phys.Vec3;
-            import net.minecraftforge.api.distmarker.Dist;
             import net.minecraftforge.client.event.RenderLevelStageEvent;
-            import net.minecraftforge.eventbus.api.SubscribeEvent;
-            import net.minecraftforge.fml.common.Mod;
             import org.joml.Quaternionf;
             import org.joml.Vector3f;
 
             import java.util.*;
-            import java.util.concurrent.ConcurrentHashMap;
 
             /**
              * Reworked EyeWatcherRenderer — uses robust polygon offset via edge-offset/intersection,
@@ -27,9 +22,29 @@
              *
              * Keeps: blinking, repositioning, 3x multiplier, darting iris, and uses VectorRenderer planes.
              */
-            @Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID, value = Dist.CLIENT)
             public final class EyeWatcherRenderer {
-                private static final Map<Integer, EyeEffectData> EFFECTS = new ConcurrentHashMap<>();
+                private static final AttachedEffects.Kind<EyeEffectData> EFFECTS = AttachedEffects.register(
+                        new AttachedEffects.Kind<>(RenderLevelStageEvent.Stage.AFTER_PARTICLES) {
+                            @Override
+                            protected void begin(RenderLevelStageEvent event, Minecraft mc) {
+                                RenderSystem.enableBlend();
+                                RenderSystem.defaultBlendFunc();
+                                RenderSystem.disableCull();
+                                RenderSystem.enableDepthTest();
+                                RenderSystem.setShader(GameRenderer::getPositionColorShader);
+                            }
+
+                            @Override
+                            protected boolean render(RenderLevelStageEvent event, Minecraft mc, Entity entity, EyeEffectData data) {
+                                return renderEyes(event, mc, entity, data);
+                            }
+
+                            @Override
+                            protected void end(RenderLevelStageEvent event, Minecraft mc) {
+                                RenderSystem.enableCull();
+                                RenderSystem.disableBlend();
+                            }
+                        });
                 private static final Random RAND = new Random();
 
                 // general config
@@ -51,96 +66,74 @@
 
                 public static void addEffect(int entityId, int eyeCount, int lifetimeTicks) {
                     int multiplied = Math.max(MIN_EYES, Math.min(MAX_EYES, eyeCount * 3));
-                    EFFECTS.put(entityId, new EyeEffectData(entityId, multiplied, lifetimeTicks));
+                    EFFECTS.put(entityId, new EyeEffectData(multiplied, lifetimeTicks));
                 }
 
                 public static void removeEffect(int entityId) {
                     EFFECTS.remove(entityId);
                 }
 
-                @SubscribeEvent
-                public static void onRenderLevel(RenderLevelStageEvent event) {
-                    if (event.getStage() != RenderLevelStageEvent.Stage.AFTER_PARTICLES) return;
-
-                    Minecraft mc = Minecraft.getInstance();
-                    if (mc.level == null) return;
-
-                    RenderSystem.enableBlend();
-                    RenderSystem.defaultBlendFunc();
-                    RenderSystem.disableCull();
-                    RenderSystem.enableDepthTest();
-                    RenderSystem.setShader(GameRenderer::getPositionColorShader);
+                private static boolean renderEyes(RenderLevelStageEvent event, Minecraft mc, Entity maybe, EyeEffectData data) {
+                    // lifetime
+                    if (data.lifetime >= 0 && data.age++ >= data.lifetime) return false;
+                    if (!(maybe instanceof LivingEntity target)) return false;
 
                     float partial = event.getPartialTick();
 
-                    Iterator<Map.Entry<Integer, EyeEffectData>> it = EFFECTS.entrySet().iterator();
-                    while (it.hasNext()) {
-                        Map.Entry<Integer, EyeEffectData> ent = it.next();
-                        EyeEffectData data = ent.getValue();
-
-                        // lifetime
-                        if (data.lifetime >= 0 && data.age++ >= data.lifetime) { it.remove(); continue; }
-
-                        Entity maybe = mc.level.getEntity(data.entityId);
-                        if (!(maybe instanceof LivingEntity target)) { it.remove(); continue; }
-
-                        // interpolated target position
-                        double tx = Mth.lerp(partial, target.xOld, target.getX());
-                        double ty = Mth.lerp(partial, target.yOld, target.getY()) + target.getBbHeight() * 0.5;
-                        double tz = Mth.lerp(partial, target.zOld, target.getZ());
-                        Vec3 targetPos = new Vec3(tx, ty, tz);
+                    // interpolated target position
+                    double tx = Mth.lerp(partial, target.xOld, target.getX());
+                    double ty = Mth.lerp(partial, target.yOld, target.getY()) + target.getBbHeight() * 0.5;
+                    double tz = Mth.lerp(partial, target.zOld, target.getZ());
+                    Vec3 targetPos = new Vec3(tx, ty, tz);
 
-                        data.ensureEyesInitialized(target, mc);
+                    data.ensureEyesInitialized(target, mc);
 
-                        for (EyeInstance inst : data.eyes) {
-                            Vec3 baseWorld = targetPos.add(inst.offset);
+                    for (EyeInstance inst : data.eyes) {
+                        Vec3 baseWorld = targetPos.add(inst.offset);
 
-                            // if inside block, try repositioning
-                            if (isInsideBlock(mc, baseWorld)) {
-                                inst.repositionTimer--;
-                                if (inst.repositionTimer <= 0) {
-                                    inst.offset = pickOffsetAroundTarget(target, mc);
-                                    inst.repositionTimer = 40;
-                                }
-                                continue;
+                        // if inside block, try repositioning
+                        if (isInsideBlock(mc, baseWorld)) {
+                            inst.repositionTimer--;
+                            if (inst.repositionTimer <= 0) {
+                                inst.offset = pickOffsetAroundTarget(target, mc);
+                                inst.repositionTimer = 40;
                             }
+                            continue;
+                        }
 
-                            // blinking
-                            if (inst.cooldown-- <= 0) {
-                                if (!inst.blinking && RAND.nextFloat() < 0.04f) {
-                                    inst.blinking = true;
-                                    inst.initialBlinkDuration = 8 + RAND.nextInt(8);
-                                    inst.blinkTimer = inst.initialBlinkDuration;
-                                }
-                                inst.cooldown = 30 + RAND.nextInt(60);
-                            }
-                            if (inst.blinking) {
-                                inst.blinkTimer--;
-                                if (inst.blinkTimer <= 0) inst.blinking = false;
-                            }
-                            float blinkFraction = 0f;
-                            if (inst.blinking) {
-                                float t = 1f - ((float) inst.blinkTimer / Math.max(1, inst.initialBlinkDuration));
-                                blinkFraction = (float) Math.sin(t * Math.PI);
+                        // blinking
+                        if (inst.cooldown-- <= 0) {
+                            if (!inst.blinking && RAND.nextFloat() < 0.04f) {
+                                inst.blinking = true;
+                                inst.initialBlinkDuration = 8 + RAND.nextInt(8);
+                                inst.blinkTimer = inst.initialBlinkDuration;
                             }
+                            inst.cooldown = 30 + RAND.nextInt(60);
+                        }
+                        if (inst.blinking) {
+                            inst.blinkTimer--;
+                            if (inst.blinkTimer <= 0) inst.blinking = false;
+                        }
+                        float blinkFraction = 0f;
+                        if (inst.blinking) {
+                            float t = 1f - ((float) inst.blinkTimer / Math.max(1, inst.initialBlinkDuration));
+                            blinkFraction = (float) Math.sin(t * Math.PI);
+                        }
 
-                            // orientation quaternion: rotate local +Z to look vector
-                            Vec3 look = targetPos.subtract(baseWorld);
-                            Vector3f lookJ = new Vector3f((float) look.x, (float) look.y, (float) look.z);
-                            if (lookJ.length() <= 1e-6f) continue;
-                            lookJ.normalize();
-                            Quaternionf quat = new Quaternionf().rotationTo(new Vector3f(0f, 0f, 1f), lookJ);
+                        // orientation quaternion: rotate local +Z to look vector
+                        Vec3 look = targetPos.subtract(baseWorld);
+                        Vector3f lookJ = new Vector3f((float) look.x, (float) look.y, (float) look.z);
+                        if (lookJ.length() <= 1e-6f) continue;
+                        lookJ.normalize();
+                        Quaternionf quat = new Quaternionf().rotationTo(new Vector3f(0f, 0f, 1f), lookJ);
 
-                            // animate iris/pupil jitter
-                            animateIris(inst);
+                        // animate iris/pupil jitter
+                        animateIris(inst);
 
-                            // draw using robust offset polygon & centroid-based fan
-                            drawEye(baseWorld, inst, quat, blinkFraction);
-                        }
+                        // draw using robust offset polygon & centroid-based fan
+                        drawEye(baseWorld, inst, quat, blinkFraction);
                     }
-
-                    RenderSystem.enableCull();
-                    RenderSystem.disableBlend();
+                    return true;
                 }
 
                 /* ----------- drawing helpers ----------- */
@@ -385,13 +378,11 @@
                 /* ---------- data ---------- */
 
                 private static final class EyeEffectData {
-                    final int entityId;
                     final int lifetime;
                     int age = 0;
                     final List<EyeInstance> eyes = new ArrayList<>();
 
-                    EyeEffectData(int entityId, int count, int lifetime) {
-                        this.entityId = entityId;
+                    EyeEffectData(int count, int lifetime) {
                         this.lifetime = lifetime;
                         for (int i = 0; i < count; i++) eyes.add(new EyeInstance());
                     }
@@ -6,15 +6,12 @@ import net.minecraft.client.gui.Font;
 import net.minecraft.client.gui.GuiGraphics;
 import net.minecraft.client.gui.screens.inventory.InventoryScreen;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.world.entity.Entity;
-import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.client.gui.screens.inventory.tooltip.ClientTooltipComponent;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 /**
  * MobBundle tooltip renderer (Forge 1.20.1, parchment mappings).
@@ -254,28 +251,9 @@ public class MobBundleTooltipRenderer implements ClientTooltipComponent {
 
     private void renderEntityIcon(GuiGraphics graphics, Minecraft mc, CompoundTag tag, int iconCx, int iconCy, int iconSize, double angleDeg, double time) {
         try {
-            String id = tag.getString("id");
-            Optional<EntityType<?>> maybeType = EntityType.byString(id);
-            if (maybeType.isEmpty()) {
-                drawPlaceholder(graphics, iconCx - iconSize / 2, iconCy - iconSize / 2, iconSize);
-                return;
-            }
-
-            EntityType<?> type = maybeType.get();
-            Entity entity = type.create(mc.level);
-            if (!(entity instanceof LivingEntity living)) {
-                drawPlaceholder(graphics, iconCx - iconSize / 2, iconCy - iconSize / 2, iconSize);
-                return;
-            }
-
-            CompoundTag loadTag = tag.copy();
-            loadTag.remove("Pos");
-            loadTag.remove("UUID");
-            loadTag.remove("UUIDLeast");
-            loadTag.remove("UUIDMost");
-            try {
-                living.load(loadTag);
-            } catch (Exception ex) {
+            // Built once and reused across frames, we only re-pose it here
+            LivingEntity living = PreviewEntityCache.get(tag);
+            if (living == null) {
                 drawPlaceholder(graphics, iconCx - iconSize / 2, iconCy - iconSize / 2, iconSize);
                 return;
             }
@@ -0,0 +1,130 @@
+package net.autismicannoyance.exadditions.client;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Client-side cache of the fake entities drawn in mob tooltips (MobBundle, ArcanePouch).
+ *
+ * Building a preview means EntityType.create + copy + load of the full mob NBT, which is far too
+ * expensive to repeat for every stored mob every frame. Entities are keyed by a hash of the mob
+ * tag (ignoring position / UUID / motion, which don't affect how the mob looks), kept in a small
+ * LRU, and the whole cache is dropped shortly after no tooltip asks for it (tooltip closed) or
+ * when the client level changes. Renderers only update rotation / tickCount each frame.
+ */
+@OnlyIn(Dist.CLIENT)
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID, value = Dist.CLIENT)
+public final class PreviewEntityCache {
+    private static final int MAX_ENTRIES = 128;
+    // Ticks without any lookup before we assume the tooltip closed and free everything
+    private static final int IDLE_TICKS_BEFORE_CLEAR = 10;
+
+    // Keys that change constantly but don't affect the rendered model
+    private static final Set<String> IGNORED_KEYS = Set.of("Pos", "UUID", "UUIDLeast", "UUIDMost", "Motion", "Rotation");
+
+    // Access-ordered for LRU. Null values are cached failures (unknown type / not living / bad NBT).
+    private static final Map<Integer, LivingEntity> ENTITIES = new LinkedHashMap<>(32, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, LivingEntity> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private static ClientLevel cachedLevel;
+    private static int idleTicks;
+
+    private PreviewEntityCache() {}
+
+    /**
+     * Get (or build once) the preview entity for a stored mob tag.
+     *
+     * @return the cached entity, or null if the tag can't be turned into a LivingEntity
+     */
+    @Nullable
+    public static LivingEntity get(CompoundTag tag) {
+        Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) return null;
+        if (mc.level != cachedLevel) {
+            clear();
+            cachedLevel = mc.level;
+        }
+        idleTicks = 0;
+
+        int key = previewKey(tag);
+        if (ENTITIES.containsKey(key)) {
+            return ENTITIES.get(key);
+        }
+
+        LivingEntity built = build(mc.level, tag);
+        ENTITIES.put(key, built);
+        return built;
+    }
+
+    public static void clear() {
+        ENTITIES.clear();
+        cachedLevel = null;
+    }
+
+    public static int size() {
+        return ENTITIES.size();
+    }
+
+    @Nullable
+    private static LivingEntity build(ClientLevel level, CompoundTag tag) {
+        try {
+            Optional<EntityType<?>> maybeType = EntityType.byString(tag.getString("id"));
+            if (maybeType.isEmpty()) return null;
+
+            Entity entity = maybeType.get().create(level);
+            if (!(entity instanceof LivingEntity living)) return null;
+
+            CompoundTag loadTag = tag.copy();
+            for (String ignored : IGNORED_KEYS) {
+                loadTag.remove(ignored);
+            }
+            living.load(loadTag);
+            return living;
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Same as CompoundTag.hashCode() (sum of key ^ value hashes) but skipping IGNORED_KEYS,
+     * so we don't have to copy the tag just to hash it.
+     */
+    private static int previewKey(CompoundTag tag) {
+        int hash = 0;
+        for (String key : tag.getAllKeys()) {
+            if (IGNORED_KEYS.contains(key)) continue;
+            Tag value = tag.get(key);
+            hash += key.hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+        return hash;
+    }
+
+    @SubscribeEvent
+    public static void onClientTick(TickEvent.ClientTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ENTITIES.isEmpty()) return;
+        if (++idleTicks > IDLE_TICKS_BEFORE_CLEAR || Minecraft.getInstance().level != cachedLevel) {
+            clear();
+        }
+    }
+}
@@ -58,6 +58,11 @@ public class VectorRenderer {
         COMMANDS.add(new PolylineCommand(points, colorArgb, thickness, thicknessIsPixels, lifetimeTicks, transform));
     }
 
+    // Polyline from packed xyz offsets around origin; the array is shared, not copied, and must not change afterwards
+    public static void drawPolylineWorld(Vec3 origin, float[] packedPoints, int colorArgb, float thickness, boolean thicknessIsPixels, int lifetimeTicks, Transform transform) {
+        COMMANDS.add(new PackedPolylineCommand(origin, packedPoints, colorArgb, thickness, thicknessIsPixels, lifetimeTicks, transform));
+    }
+
     // Plane/triangle rendering
     public static void drawPlaneWorld(Vec3 a, Vec3 b, Vec3 c, int[] perVertexArgb, boolean doubleSided, int lifetimeTicks, Transform transform) {
         COMMANDS.add(new PlaneCommand(a, b, c, perVertexArgb, doubleSided, lifetimeTicks, null, null, transform));
@@ -482,6 +487,56 @@ public class VectorRenderer {
         }
     }
 
+    private static class PackedPolylineCommand extends RenderCommand {
+        private final Vec3 origin;
+        private final float[] points;
+        private final Vec3 centroid;
+        private final int color;
+        private final float thicknessValue;
+        private final boolean thicknessIsPixels;
+
+        PackedPolylineCommand(Vec3 origin, float[] points, int color, float thicknessValue, boolean thicknessIsPixels, int lifetime, Transform transform) {
+            super(lifetime, transform);
+            this.origin = origin;
+            this.points = points;
+            this.color = color; this.thicknessValue = thicknessValue; this.thicknessIsPixels = thicknessIsPixels;
+
+            double avgX = 0, avgY = 0, avgZ = 0;
+            int count = points.length / 3;
+            for (int i = 0; i < count; i++) {
+                avgX += points[i * 3]; avgY += points[i * 3 + 1]; avgZ += points[i * 3 + 2];
+            }
+            this.centroid = count == 0 ? origin : origin.add(avgX / count, avgY / count, avgZ / count);
+        }
+
+        @Override
+        public float getAlpha() {
+            return ((color >> 24) & 0xFF) / 255f;
+        }
+
+        @Override
+        public double getDistanceToCamera(Vec3 camPos, float partialTick, Minecraft mc) {
+            if (points.length < 3) return Double.MAX_VALUE;
+            return camPos.distanceTo(applyTransform(centroid, transform));
+        }
+
+        @Override
+        void render(BufferBuilder buffer, Matrix4f poseMatrix, Vec3 camPos, float partialTick, Minecraft mc) {
+            int count = points.length / 3;
+            if (count < 2) return;
+            Vec3 pa = applyTransform(point(0), transform);
+            for (int i = 1; i < count; i++) {
+                Vec3 pb = applyTransform(point(i), transform);
+                renderLine(buffer, poseMatrix, pa, pb, camPos, color, thicknessValue, thicknessIsPixels, mc);
+                pa = pb;
+            }
+        }
+
+        private Vec3 point(int i) {
+            return origin.add(points[i * 3], points[i * 3 + 1], points[i * 3 + 2]);
+        }
+    }
+
     private static class PlaneCommand extends RenderCommand {
         private final Vec3 aOrig, bOrig, cOrig;
         private final int[] colors;
@@ -0,0 +1,37 @@
+package net.autismicannoyance.exadditions.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.autismicannoyance.exadditions.event.CharmIndex;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.commands.arguments.EntityArgument;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerPlayer;
+
+/**
+ * Debug command comparing a player's charm index against a full inventory scan.
+ */
+public final class CharmIndexCommand {
+
+    private CharmIndexCommand() {}
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("charmindex")
+                .requires(source -> source.hasPermission(2)) // op level 2
+                .executes(context -> dump(context, context.getSource().getPlayerOrException()))
+                .then(Commands.argument("player", EntityArgument.player())
+                        .executes(context -> dump(context, EntityArgument.getPlayer(context, "player"))))
+        );
+    }
+
+    private static int dump(CommandContext<CommandSourceStack> context, ServerPlayer player) throws CommandSyntaxException {
+        boolean consistent = true;
+        for (String line : CharmIndex.dump(player)) {
+            consistent &= !line.endsWith("MISMATCH");
+            context.getSource().sendSuccess(() -> Component.literal(line), false);
+        }
+        return consistent ? 1 : 0;
+    }
+}
@@ -0,0 +1,36 @@
+package net.autismicannoyance.exadditions.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.context.CommandContext;
+import net.autismicannoyance.exadditions.event.HijackFollowerPaths;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Debug command for hijacked followers: path calculation counts.
+ */
+public final class HijackCommand {
+
+    private HijackCommand() {}
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("hijack")
+                .requires(source -> source.hasPermission(2)) // op level 2
+                .then(Commands.literal("stats")
+                        .executes(HijackCommand::getStats))
+        );
+    }
+
+    private static int getStats(CommandContext<CommandSourceStack> context) {
+        int[] tick = HijackFollowerPaths.lastTick();
+        int[] second = HijackFollowerPaths.lastSecond();
+        int groups = HijackFollowerPaths.groupCount();
+        int followers = HijackFollowerPaths.followerCount();
+        context.getSource().sendSuccess(() -> Component.literal("Hijack pathing: " + groups + " group(s), "
+                + followers + " follower(s) on shared paths"), false);
+        context.getSource().sendSuccess(() -> Component.literal(" Path calculations last tick: " + tick[0]
+                + " shared, " + tick[1] + " solo; last second: " + second[0] + " shared, " + second[1] + " solo"), false);
+        return second[0] + second[1];
+    }
+}
@@ -0,0 +1,50 @@
+package net.autismicannoyance.exadditions.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.context.CommandContext;
+import net.autismicannoyance.exadditions.event.MagnetismAttraction;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+
+/**
+ * Commands for tuning the Magnetism attraction pass: cadence, stats.
+ */
+public final class MagnetismCommand {
+
+    private MagnetismCommand() {}
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal("magnetism")
+                .requires(source -> source.hasPermission(2)) // op level 2
+                .then(Commands.literal("cadence")
+                        .executes(MagnetismCommand::getCadence)
+                        .then(Commands.argument("ticks", IntegerArgumentType.integer(1, MagnetismAttraction.MAX_CADENCE))
+                                .executes(MagnetismCommand::setCadence)))
+                .then(Commands.literal("stats")
+                        .executes(MagnetismCommand::getStats))
+        );
+    }
+
+    private static int getCadence(CommandContext<CommandSourceStack> context) {
+        int cadence = MagnetismAttraction.getCadence();
+        context.getSource().sendSuccess(() -> Component.literal("Magnetism pulls items every " + cadence + " tick(s)"), false);
+        return cadence;
+    }
+
+    private static int setCadence(CommandContext<CommandSourceStack> context) {
+        int ticks = IntegerArgumentType.getInteger(context, "ticks");
+        MagnetismAttraction.setCadence(ticks);
+        context.getSource().sendSuccess(() -> Component.literal("Magnetism now pulls items every " + ticks + " tick(s)"), true);
+        return ticks;
+    }
+
+    private static int getStats(CommandContext<CommandSourceStack> context) {
+        int tracked = MagnetismAttraction.trackedItems();
+        int sleeping = MagnetismAttraction.sleepingItems();
+        context.getSource().sendSuccess(() -> Component.literal("Magnetism: " + tracked + " item(s) tracked, "
+                + sleeping + " asleep, cadence " + MagnetismAttraction.getCadence()), false);
+        return tracked;
+    }
+}
@@ -2,17 +2,20 @@ package net.autismicannoyance.exadditions.command;
 
 import com.mojang.brigadier.CommandDispatcher;
 import com.mojang.brigadier.context.CommandContext;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.world.RegionFileInspector;
 import net.autismicannoyance.exadditions.world.dimension.ModDimensions;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
-import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
 
+import javax.annotation.Nullable;
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -20,10 +23,14 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
+import java.util.concurrent.CompletableFuture;
 import java.util.regex.Pattern;
 
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
 public class ResetVoidCommand {
+    // Region scan for a pending reset, done once the reset has started (server thread only)
+    @Nullable
+    private static CompletableFuture<?> pendingScan;
 
     public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
         dispatcher.register(Commands.literal("resetvoid")
@@ -53,6 +60,11 @@ public class ResetVoidCommand {
             return 0;
         }
 
+        if (ResetVoidTask.isRunning() || isScanPending()) {
+            source.sendFailure(Component.literal("A Void Dimension reset is already in progress"));
+            return 0;
+        }
+
         source.sendSuccess(() -> Component.literal("Starting complete reset of ALL chunks in the Void Dimension..."), true);
 
         // Get all chunks (both loaded and saved to disk)
@@ -84,39 +96,46 @@ public class ResetVoidCommand {
             return 0;
         }
 
-        // Get all saved chunks from region files
-        try {
-            Set<ChunkPos> savedChunks = getAllSavedChunks(voidLevel);
-            allChunks.addAll(savedChunks);
+        // Region headers are read on the IO pool; the reset starts back on the server thread
+        pendingScan = RegionFileInspector.scanAsync(getRegionPath(voidLevel))
+                .whenCompleteAsync((report, error) ->
+                        startReset(source, player, voidLevel, allChunks, error == null ? report : null), voidLevel.getServer());
 
-            if (!savedChunks.isEmpty()) {
-                int savedCount = savedChunks.size();
-                source.sendSuccess(() -> Component.literal("Found " + savedCount + " saved chunks on disk"), false);
-            }
+        return 1;
+    }
 
-        } catch (Exception e) {
+    private static boolean isScanPending() {
+        return pendingScan != null && !pendingScan.isDone();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        // The server thread is gone, so a scan still pending will never hand over to a reset
+        pendingScan = null;
+    }
+
+    private static void startReset(CommandSourceStack source, ServerPlayer player, ServerLevel voidLevel,
+                                   Set<ChunkPos> allChunks, @Nullable RegionFileInspector.RegionReport report) {
+        if (report == null) {
             source.sendSuccess(() -> Component.literal("Warning: Could not scan region files - will only reset loaded chunks"), false);
+        } else if (!report.chunks().isEmpty()) {
+            // Only chunks that are really present in the region files, not whole 32x32 regions
+            for (RegionFileInspector.ChunkInfo info : report.chunks()) {
+                allChunks.add(info.pos());
+            }
+            source.sendSuccess(() -> Component.literal("Found " + report.chunks().size() + " saved chunks on disk ("
+                    + (report.totalBytes() / 1024) + " KiB in " + report.regionFiles() + " region files)"), false);
         }
 
         if (allChunks.isEmpty()) {
             source.sendSuccess(() -> Component.literal("No chunks found in the Void Dimension to reset"), true);
-            return 0;
+            return;
         }
 
         int totalCount = allChunks.size();
         source.sendSuccess(() -> Component.literal("Found " + totalCount + " total chunks to reset. Processing..."), false);
 
-        // Process chunks - separate the counting from the lambda usage
-        ResetResults results = processChunks(voidLevel, allChunks);
-
-        // Now use the final results in lambdas
-        source.sendSuccess(() -> Component.literal("Reset complete! Cleared " + results.chunksCleared() + " loaded chunks and deleted " + results.regionFilesDeleted() + " region files. All areas will regenerate with fresh terrain when visited."), true);
-
-        return results.totalProcessed();
-    }
-
-    private static ResetResults processChunks(ServerLevel voidLevel, Set<ChunkPos> allChunks) {
-        // Clear all loaded chunks
+        // Only loaded chunks need clearing in-world, the rest goes with the region files
         List<ChunkPos> loadedChunks = new ArrayList<>();
         for (ChunkPos chunkPos : allChunks) {
             if (voidLevel.hasChunk(chunkPos.x, chunkPos.z)) {
@@ -124,167 +143,39 @@ public class ResetVoidCommand {
             }
         }
 
-        int chunksCleared = 0;
-        for (ChunkPos chunkPos : loadedChunks) {
-            if (clearLoadedChunk(voidLevel, chunkPos)) {
-                chunksCleared++;
-            }
-        }
-
-        // Delete region files for complete reset
-        int regionFilesDeleted = 0;
-        try {
-            regionFilesDeleted = deleteAllRegionFiles(voidLevel);
-        } catch (Exception e) {
-            // Handle silently for now
-        }
-
-        return new ResetResults(chunksCleared, regionFilesDeleted, chunksCleared + regionFilesDeleted);
+        // Clearing runs over the next ticks (progress on a boss bar), region files go on the IO pool
+        ResetVoidTask.start(source, voidLevel, getRegionPath(voidLevel), loadedChunks, player);
     }
 
-    // Simple record to hold results
-    private record ResetResults(int chunksCleared, int regionFilesDeleted, int totalProcessed) {}
-
-    private static Set<ChunkPos> getAllSavedChunks(ServerLevel level) throws Exception {
-        Set<ChunkPos> savedChunks = new HashSet<>();
-
-        // Get the dimension's region folder path
+    static Path getRegionPath(ServerLevel level) {
         Path worldPath = level.getServer().getWorldPath(net.minecraft.world.level.storage.LevelResource.ROOT);
         Path dimensionPath = worldPath.resolve("dimensions").resolve("exadditions").resolve("void_dim");
-        Path regionPath = dimensionPath.resolve("region");
-
-        if (!Files.exists(regionPath)) {
-            return savedChunks; // No region files exist yet
-        }
-
-        // Pattern to match region file names (r.x.z.mca)
-        Pattern regionPattern = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
-
-        // Scan all region files
-        Files.list(regionPath).forEach(file -> {
-            String fileName = file.getFileName().toString();
-            Matcher matcher = regionPattern.matcher(fileName);
-
-            if (matcher.matches()) {
-                int regionX = Integer.parseInt(matcher.group(1));
-                int regionZ = Integer.parseInt(matcher.group(2));
-
-                // Each region file contains 32x32 chunks
-                for (int chunkX = regionX * 32; chunkX < (regionX + 1) * 32; chunkX++) {
-                    for (int chunkZ = regionZ * 32; chunkZ < (regionZ + 1) * 32; chunkZ++) {
-                        savedChunks.add(new ChunkPos(chunkX, chunkZ));
-                    }
-                }
-            }
-        });
-
-        return savedChunks;
-    }
-
-    private static boolean clearLoadedChunk(ServerLevel level, ChunkPos chunkPos) {
-        try {
-            if (!level.hasChunk(chunkPos.x, chunkPos.z)) {
-                return false;
-            }
-
-            // Get the chunk bounds
-            int minX = chunkPos.getMinBlockX();
-            int maxX = chunkPos.getMaxBlockX();
-            int minZ = chunkPos.getMinBlockZ();
-            int maxZ = chunkPos.getMaxBlockZ();
-
-            // Clear absolutely everything in the chunk
-            for (int x = minX; x <= maxX; x++) {
-                for (int z = minZ; z <= maxZ; z++) {
-                    for (int y = level.getMinBuildHeight(); y < level.getMaxBuildHeight(); y++) {
-                        BlockPos pos = new BlockPos(x, y, z);
-                        level.setBlock(pos, Blocks.AIR.defaultBlockState(), 2 | 16);
-                    }
-                }
-            }
-
-            // Get the chunk and mark it for regeneration
-            var chunk = level.getChunk(chunkPos.x, chunkPos.z);
-            chunk.setUnsaved(true);
-
-            // Reset all sections in the chunk
-            for (var section : chunk.getSections()) {
-                section.recalcBlockCounts();
-            }
-
-            // Clear any entities in the chunk (but not players)
-            try {
-                AABB chunkBounds = new AABB(minX, level.getMinBuildHeight(), minZ,
-                        maxX + 1, level.getMaxBuildHeight(), maxZ + 1);
-
-                level.getEntitiesOfClass(net.minecraft.world.entity.Entity.class, chunkBounds)
-                        .forEach(entity -> {
-                            if (!(entity instanceof ServerPlayer)) {
-                                entity.discard();
-                            }
-                        });
-            } catch (Exception e) {
-                // Entity clearing failed, but block clearing succeeded
-            }
-
-            return true;
-
-        } catch (Exception e) {
-            return false;
-        }
+        return dimensionPath.resolve("region");
     }
 
-    private static int deleteAllRegionFiles(ServerLevel level) throws Exception {
-        // Get the dimension's region folder path
-        Path worldPath = level.getServer().getWorldPath(net.minecraft.world.level.storage.LevelResource.ROOT);
-        Path dimensionPath = worldPath.resolve("dimensions").resolve("exadditions").resolve("void_dim");
-        Path regionPath = dimensionPath.resolve("region");
-
+    /**
+     * Deletes every region file of the void dimension. Does plain file IO only, so it is safe
+     * to run off the server thread.
+     */
+    static int deleteAllRegionFiles(Path regionPath) {
         if (!Files.exists(regionPath)) {
             return 0; // No region files to delete
         }
 
+        Pattern regionPattern = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
         int deletedCount = 0;
 
-        // Delete all .mca files in the region directory
-        try {
-            Files.list(regionPath)
-                    .filter(file -> file.getFileName().toString().endsWith(".mca"))
-                    .forEach(file -> {
-                        try {
-                            Files.delete(file);
-                        } catch (Exception e) {
-                            // Continue deleting other files even if one fails
-                        }
-                    });
-
-            // Count how many were deleted by checking what's left
-            long remainingFiles = Files.list(regionPath)
-                    .filter(file -> file.getFileName().toString().endsWith(".mca"))
-                    .count();
-
-            // If we had files before and none now, we deleted them all
-            deletedCount = (int) (Files.list(regionPath.getParent().resolve("region_backup_temp")).count() - remainingFiles);
-
-        } catch (Exception e) {
-            // Simpler approach - just try to delete common region files
-            Pattern regionPattern = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
-
-            File regionDir = regionPath.toFile();
-            if (regionDir.exists() && regionDir.isDirectory()) {
-                File[] files = regionDir.listFiles();
-                if (files != null) {
-                    for (File file : files) {
-                        if (regionPattern.matcher(file.getName()).matches()) {
-                            if (file.delete()) {
-                                deletedCount++;
-                            }
-                        }
-                    }
+        File regionDir = regionPath.toFile();
+        File[] files = regionDir.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                // Continue deleting other files even if one fails
+                if (regionPattern.matcher(file.getName()).matches() && file.delete()) {
+                    deletedCount++;
                 }
             }
         }
 
         return deletedCount;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,210 @@
+package net.autismicannoyance.exadditions.command;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.Util;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.game.ClientboundLevelChunkWithLightPacket;
+import net.minecraft.server.level.ServerBossEvent;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.level.ThreadedLevelLightEngine;
+import net.minecraft.world.BossEvent;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ai.village.poi.PoiManager;
+import net.minecraft.world.entity.ai.village.poi.PoiRecord;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Incremental, section-level reset of the Void Dimension started by /resetvoid.
+ *
+ * Instead of ~500k setBlock calls per chunk, every non-empty LevelChunkSection is swapped for an
+ * empty one (biomes are kept), block entities / POIs / heightmaps are cleared directly, the chunk
+ * is relit once and resent as a single packet. Work is spread across ticks with a fixed time
+ * budget and shown on a boss bar; region files are deleted on the IO pool at the end.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class ResetVoidTask {
+    private static final List<ResetVoidTask> ACTIVE = new ArrayList<>();
+
+    // Server-thread time spent per tick on clearing chunks
+    private static final long TICK_BUDGET_NANOS = 10_000_000L; // 10 ms
+
+    private final CommandSourceStack source;
+    private final ServerLevel level;
+    private final Path regionPath;
+    private final Deque<ChunkPos> pending;
+    private final int total;
+    private final ServerBossEvent progressBar;
+    private int chunksCleared;
+
+    private ResetVoidTask(CommandSourceStack source, ServerLevel level, Path regionPath, Collection<ChunkPos> chunks) {
+        this.source = source;
+        this.level = level;
+        this.regionPath = regionPath;
+        this.pending = new ArrayDeque<>(chunks);
+        this.total = Math.max(1, chunks.size());
+        this.progressBar = new ServerBossEvent(Component.literal("Resetting Void Dimension"),
+                BossEvent.BossBarColor.PURPLE, BossEvent.BossBarOverlay.PROGRESS);
+        this.progressBar.setProgress(0f);
+    }
+
+    public static boolean isRunning() {
+        return !ACTIVE.isEmpty();
+    }
+
+    public static void start(CommandSourceStack source, ServerLevel level, Path regionPath,
+                             Collection<ChunkPos> chunks, @Nullable ServerPlayer viewer) {
+        ResetVoidTask task = new ResetVoidTask(source, level, regionPath, chunks);
+        if (viewer != null) task.progressBar.addPlayer(viewer);
+        ACTIVE.add(task);
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || ACTIVE.isEmpty()) return;
+        ACTIVE.removeIf(ResetVoidTask::tick);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        for (ResetVoidTask task : ACTIVE) {
+            task.progressBar.removeAllPlayers();
+        }
+        ACTIVE.clear();
+    }
+
+    /**
+     * @return true once the task is finished and can be dropped
+     */
+    private boolean tick() {
+        long deadline = System.nanoTime() + TICK_BUDGET_NANOS;
+        while (!pending.isEmpty() && System.nanoTime() < deadline) {
+            if (clearLoadedChunk(level, pending.poll())) {
+                chunksCleared++;
+            }
+        }
+
+        progressBar.setProgress(1f - (float) pending.size() / total);
+        if (!pending.isEmpty()) return false;
+
+        progressBar.removeAllPlayers();
+        finish();
+        return true;
+    }
+
+    private void finish() {
+        int cleared = chunksCleared;
+        CompletableFuture.supplyAsync(() -> ResetVoidCommand.deleteAllRegionFiles(regionPath), Util.ioPool())
+                .whenCompleteAsync((deleted, error) -> {
+                    int regionFilesDeleted = error == null ? deleted : 0;
+                    source.sendSuccess(() -> Component.literal("Reset complete! Cleared " + cleared + " loaded chunks and deleted "
+                            + regionFilesDeleted + " region files. All areas will regenerate with fresh terrain when visited."), true);
+                }, level.getServer());
+    }
+
+    // ---------------- section-level chunk clear ----------------
+
+    static boolean clearLoadedChunk(ServerLevel level, ChunkPos chunkPos) {
+        try {
+            LevelChunk chunk = level.getChunkSource().getChunkNow(chunkPos.x, chunkPos.z);
+            if (chunk == null) return false;
+
+            // Block entities first so their tickers / containers are detached properly
+            for (BlockPos pos : new ArrayList<>(chunk.getBlockEntities().keySet())) {
+                chunk.removeBlockEntity(pos);
+            }
+
+            PoiManager poiManager = level.getPoiManager();
+            poiManager.getInChunk(type -> true, chunkPos, PoiManager.Occupancy.ANY)
+                    .map(PoiRecord::getPos)
+                    .toList()
+                    .forEach(poiManager::remove);
+
+            // Swap every populated section for an empty one, keeping the section's biomes
+            ThreadedLevelLightEngine lightEngine = level.getChunkSource().getLightEngine();
+            LevelChunkSection[] sections = chunk.getSections();
+            for (int i = 0; i < sections.length; i++) {
+                LevelChunkSection section = sections[i];
+                if (section.hasOnlyAir()) continue;
+
+                PalettedContainer<BlockState> emptyStates = new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY,
+                        Blocks.AIR.defaultBlockState(), PalettedContainer.Strategy.SECTION_STATES);
+                sections[i] = new LevelChunkSection(emptyStates, section.getBiomes());
+                lightEngine.updateSectionStatus(SectionPos.of(chunkPos, chunk.getSectionYFromSectionIndex(i)), true);
+            }
+
+            Set<Heightmap.Types> heightmapTypes = EnumSet.noneOf(Heightmap.Types.class);
+            for (Map.Entry<Heightmap.Types, Heightmap> entry : chunk.getHeightmaps()) {
+                heightmapTypes.add(entry.getKey());
+            }
+            if (!heightmapTypes.isEmpty()) {
+                Heightmap.primeHeightmaps(chunk, heightmapTypes);
+            }
+
+            chunk.setUnsaved(true);
+
+            // Clear any entities in the chunk (but not players)
+            try {
+                AABB chunkBounds = new AABB(chunkPos.getMinBlockX(), level.getMinBuildHeight(), chunkPos.getMinBlockZ(),
+                        chunkPos.getMaxBlockX() + 1, level.getMaxBuildHeight(), chunkPos.getMaxBlockZ() + 1);
+
+                level.getEntitiesOfClass(Entity.class, chunkBounds)
+                        .forEach(entity -> {
+                            if (!(entity instanceof ServerPlayer)) {
+                                entity.discard();
+                            }
+                        });
+            } catch (Exception e) {
+                // Entity clearing failed, but block clearing succeeded
+            }
+
+            // Relight once, then replace the client's copy of the chunk with one packet
+            lightEngine.lightChunk(chunk, false)
+                    .thenRunAsync(() -> resendChunk(level, chunk), level.getServer());
+            lightEngine.tryScheduleUpdate();
+
+            return true;
+
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static void resendChunk(ServerLevel level, LevelChunk chunk) {
+        List<ServerPlayer> players = level.getChunkSource().chunkMap.getPlayers(chunk.getPos(), false);
+        if (players.isEmpty()) return;
+
+        ClientboundLevelChunkWithLightPacket packet =
+                new ClientboundLevelChunkWithLightPacket(chunk, level.getLightEngine(), null, null);
+        for (ServerPlayer player : players) {
+            player.connection.send(packet);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.autismicannoyance.exadditions.effect;
 
+import net.autismicannoyance.exadditions.world.SafeLandingIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
@@ -27,8 +28,8 @@ public class EnderosisEffect extends MobEffect {
     @Override
     public void applyEffectTick(LivingEntity entity, int amplifier) {
         if (entity instanceof Player player && !player.level().isClientSide) {
-            // Check if player is touching water
-            if (isInWater(player)) {
+            // Check if player is touching water (cached until they move or nearby blocks change)
+            if (WaterContactTracker.isTouchingWater(player)) {
                 teleportAwayFromWater(player, amplifier);
                 // Deal 1 heart (2 health points) of damage
                 player.hurt(player.level().damageSources().magic(), 2.0f);
@@ -38,73 +39,32 @@ public class EnderosisEffect extends MobEffect {
 
     @Override
     public boolean isDurationEffectTick(int duration, int amplifier) {
-        // Check every tick for water contact
+        // Check every tick for water contact, the tracker makes this a lookup
         return true;
     }
 
-    /**
-     * Check if the entity is in contact with water
-     */
-    private boolean isInWater(LivingEntity entity) {
-        // Check if entity is in water fluid
-        if (entity.isInWater()) {
-            return true;
-        }
-
-        // Also check blocks around the entity for water
-        Level level = entity.level();
-        BlockPos pos = entity.blockPosition();
-
-        for (int x = -1; x <= 1; x++) {
-            for (int y = -1; y <= 1; y++) {
-                for (int z = -1; z <= 1; z++) {
-                    BlockPos checkPos = pos.offset(x, y, z);
-                    FluidState fluidState = level.getFluidState(checkPos);
-                    if (fluidState.getType() == Fluids.WATER || fluidState.getType() == Fluids.FLOWING_WATER) {
-                        return true;
-                    }
-
-                    // Also check for water blocks
-                    BlockState blockState = level.getBlockState(checkPos);
-                    if (blockState.is(Blocks.WATER)) {
-                        return true;
-                    }
-                }
-            }
-        }
-
-        return false;
-    }
-
     /**
      * Teleport the player away from water
      */
     private void teleportAwayFromWater(Player player, int amplifier) {
         Level level = player.level();
-        RandomSource random = level.random;
 
         // Calculate teleport range: 8 + (2 * level)
         int range = 8 + (2 * amplifier);
 
-        // Try to find a safe teleport location
-        for (int attempts = 0; attempts < 16; attempts++) {
-            double deltaX = (random.nextDouble() - 0.5) * 2.0 * range;
-            double deltaY = (random.nextDouble() - 0.5) * 2.0 * 8; // Smaller Y range
-            double deltaZ = (random.nextDouble() - 0.5) * 2.0 * range;
-
+        // Land on a random safe spot in range
+        if (level instanceof ServerLevel serverLevel) {
             Vec3 currentPos = player.position();
-            Vec3 targetPos = currentPos.add(deltaX, deltaY, deltaZ);
+            BlockPos targetBlockPos = SafeLandingIndex.randomWithin(serverLevel, player.blockPosition(), range, 8,
+                    serverLevel.random);
 
-            BlockPos targetBlockPos = new BlockPos((int)targetPos.x, (int)targetPos.y, (int)targetPos.z);
+            if (targetBlockPos != null) {
+                Vec3 targetPos = Vec3.atBottomCenterOf(targetBlockPos);
 
-            // Check if the target location is safe (not in water, not in solid blocks)
-            if (isSafeTeleportLocation(level, targetBlockPos)) {
                 // Spawn particles at original location
-                if (level instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(ParticleTypes.PORTAL,
-                            currentPos.x, currentPos.y + 1.0, currentPos.z,
-                            32, 0.5, 1.0, 0.5, 0.5);
-                }
+                serverLevel.sendParticles(ParticleTypes.PORTAL,
+                        currentPos.x, currentPos.y + 1.0, currentPos.z,
+                        32, 0.5, 1.0, 0.5, 0.5);
 
                 // Teleport the player
                 player.teleportTo(targetPos.x, targetPos.y, targetPos.z);
@@ -114,11 +74,9 @@ public class EnderosisEffect extends MobEffect {
                         SoundSource.PLAYERS, 1.0f, 1.0f);
 
                 // Spawn particles at destination
-                if (level instanceof ServerLevel serverLevel) {
-                    serverLevel.sendParticles(ParticleTypes.PORTAL,
-                            targetPos.x, targetPos.y + 1.0, targetPos.z,
-                            32, 0.5, 1.0, 0.5, 0.5);
-                }
+                serverLevel.sendParticles(ParticleTypes.PORTAL,
+                        targetPos.x, targetPos.y + 1.0, targetPos.z,
+                        32, 0.5, 1.0, 0.5, 0.5);
 
                 return; // Successfully teleported
             }
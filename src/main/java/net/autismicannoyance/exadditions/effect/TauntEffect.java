@@ -20,10 +20,6 @@ import java.util.*;
 
 public class TauntEffect extends MobEffect {
 
-    private static final Set<UUID> modifiedMobs = new HashSet<>();
-    private static final Map<UUID, SimpleAttackGoal> addedGoals = new HashMap<>();
-    private static final Map<UUID, TauntTarget> mobTauntTargets = new HashMap<>();
-
     public TauntEffect() {
         super(MobEffectCategory.HARMFUL, 0xff3300);
     }
@@ -42,27 +38,18 @@ public class TauntEffect extends MobEffect {
                 taunted.getX() + radius, taunted.getY() + radius, taunted.getZ() + radius
         );
 
-        for (LivingEntity near : serverLevel.getEntitiesOfClass(LivingEntity.class, area, e -> e != taunted && e.isAlive())) {
-            if (!(near instanceof Mob mob)) continue;
-
-            if (!modifiedMobs.contains(mob.getUUID()) && mob instanceof PathfinderMob pmob) {
-                SimpleAttackGoal goal = new SimpleAttackGoal(pmob, taunted, amplifier);
-                pmob.goalSelector.addGoal(0, goal);
-                addedGoals.put(mob.getUUID(), goal);
-                modifiedMobs.add(mob.getUUID());
-            }
-
-            considerTargeting(mob, taunted, amplifier, serverLevel, radius);
+        for (Mob mob : serverLevel.getEntitiesOfClass(Mob.class, area, e -> e != taunted && e.isAlive())) {
+            considerTargeting(mob, taunted, amplifier, serverLevel);
         }
     }
 
-    private void considerTargeting(Mob mob, LivingEntity taunted, int amplifier, ServerLevel server, double tauntRadius) {
-        TauntTarget current = mobTauntTargets.get(mob.getUUID());
+    private void considerTargeting(Mob mob, LivingEntity taunted, int amplifier, ServerLevel server) {
+        TauntRegistry.Binding current = TauntRegistry.get(server, mob);
         double newDistSq = mob.distanceToSqr(taunted);
 
-        if (shouldReplaceTarget(current, amplifier, newDistSq)) {
-            mob.setTarget(taunted);
-            mobTauntTargets.put(mob.getUUID(), new TauntTarget(taunted, amplifier, tauntRadius));
+        if (shouldReplaceTarget(mob, current, amplifier, newDistSq)) {
+            SimpleAttackGoal goal = mob instanceof PathfinderMob pmob ? new SimpleAttackGoal(pmob, taunted, amplifier) : null;
+            TauntRegistry.bind(server, mob, taunted, amplifier, goal);
         }
 
         double provokeChance = 0.1 + amplifier * 0.05; // stronger -> more visuals
@@ -73,12 +60,12 @@ public class TauntEffect extends MobEffect {
         }
     }
 
-    private boolean shouldReplaceTarget(TauntTarget current, int newAmp, double newDistSq) {
-        if (current == null || !current.target.isAlive()) return true;
-        if (current.target instanceof Player p && p.isCreative()) return true;
-        if (newAmp > current.amplifier) return true;
-        if (newAmp < current.amplifier) return false;
-        double currentDistSq = current.target.distanceToSqr(current.target);
+    private boolean shouldReplaceTarget(Mob mob, TauntRegistry.Binding current, int newAmp, double newDistSq) {
+        if (current == null || !current.taunter().isAlive()) return true;
+        if (current.taunter() instanceof Player p && p.isCreative()) return true;
+        if (newAmp > current.amplifier()) return true;
+        if (newAmp < current.amplifier()) return false;
+        double currentDistSq = mob.distanceToSqr(current.taunter());
         return newDistSq < currentDistSq;
     }
 
@@ -94,22 +81,8 @@ public class TauntEffect extends MobEffect {
         Level world = taunted.level();
         if (!(world instanceof ServerLevel serverLevel)) return;
 
-        double radius = 64.0;
-        AABB area = new AABB(
-                taunted.getX() - radius, taunted.getY() - radius, taunted.getZ() - radius,
-                taunted.getX() + radius, taunted.getY() + radius, taunted.getZ() + radius
-        );
-
-        for (Mob mob : serverLevel.getEntitiesOfClass(Mob.class, area)) {
-            if (mob.getTarget() == taunted) {
-                mob.setTarget(null);
-            }
-            if (modifiedMobs.remove(mob.getUUID())) {
-                SimpleAttackGoal goal = addedGoals.remove(mob.getUUID());
-                if (goal != null) mob.goalSelector.removeGoal(goal);
-            }
-            mobTauntTargets.remove(mob.getUUID());
-        }
+        // Only the mobs this entity actually taunted, no area sweep
+        TauntRegistry.release(serverLevel, taunted);
     }
 
     private static class SimpleAttackGoal extends Goal {
@@ -170,6 +143,4 @@ public class TauntEffect extends MobEffect {
             return 2.0f;
         }
     }
-
-    private record TauntTarget(LivingEntity target, int amplifier, double tauntRadius) {}
 }
@@ -0,0 +1,192 @@
+package net.autismicannoyance.exadditions.effect;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.goal.Goal;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Who is taunting whom, per level and in both directions.
+ *
+ * Each taunted mob has at most one {@link Binding} (the taunter it is chasing, plus the goal we
+ * injected), and each taunter knows its mobs, so ending a taunt only touches the mobs it actually
+ * bound. Entries are removed when either side dies or leaves the level, and whole levels are
+ * dropped on unload, so nothing outlives the entities involved.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class TauntRegistry {
+    private static final Map<ResourceKey<Level>, LevelTaunts> LEVELS = new HashMap<>();
+
+    public record Binding(Mob mob, LivingEntity taunter, int amplifier, @Nullable Goal goal) {}
+
+    private static class LevelTaunts {
+        final Map<UUID, Binding> byMob = new HashMap<>();
+        final Map<UUID, Set<UUID>> byTaunter = new HashMap<>();
+
+        boolean isEmpty() {
+            return byMob.isEmpty();
+        }
+    }
+
+    @Nullable
+    public static Binding get(ServerLevel level, Mob mob) {
+        LevelTaunts taunts = LEVELS.get(level.dimension());
+        return taunts == null ? null : taunts.byMob.get(mob.getUUID());
+    }
+
+    /**
+     * Point {@code mob} at {@code taunter}, replacing whatever taunt it was under before
+     * (including that taunt's goal).
+     */
+    public static void bind(ServerLevel level, Mob mob, LivingEntity taunter, int amplifier, @Nullable Goal goal) {
+        LevelTaunts taunts = LEVELS.computeIfAbsent(level.dimension(), k -> new LevelTaunts());
+        unbind(taunts, mob.getUUID());
+
+        if (goal != null) {
+            mob.goalSelector.addGoal(0, goal);
+        }
+        mob.setTarget(taunter);
+        taunts.byMob.put(mob.getUUID(), new Binding(mob, taunter, amplifier, goal));
+        taunts.byTaunter.computeIfAbsent(taunter.getUUID(), k -> new HashSet<>()).add(mob.getUUID());
+    }
+
+    /**
+     * End everything {@code taunter} started: clear targets and remove the injected goals.
+     */
+    public static void release(ServerLevel level, LivingEntity taunter) {
+        LevelTaunts taunts = LEVELS.get(level.dimension());
+        if (taunts == null) return;
+
+        Set<UUID> mobs = taunts.byTaunter.remove(taunter.getUUID());
+        if (mobs == null) return;
+        for (UUID mobId : mobs) {
+            Binding binding = taunts.byMob.remove(mobId);
+            if (binding != null) {
+                detach(binding);
+            }
+        }
+        if (taunts.isEmpty()) {
+            LEVELS.remove(level.dimension());
+        }
+    }
+
+    private static void unbind(LevelTaunts taunts, UUID mobId) {
+        Binding binding = taunts.byMob.remove(mobId);
+        if (binding == null) return;
+
+        Set<UUID> mobs = taunts.byTaunter.get(binding.taunter().getUUID());
+        if (mobs != null) {
+            mobs.remove(mobId);
+            if (mobs.isEmpty()) {
+                taunts.byTaunter.remove(binding.taunter().getUUID());
+            }
+        }
+        detach(binding);
+    }
+
+    private static void detach(Binding binding) {
+        Mob mob = binding.mob();
+        if (binding.goal() != null) {
+            mob.goalSelector.removeGoal(binding.goal());
+        }
+        if (mob.getTarget() == binding.taunter()) {
+            mob.setTarget(null);
+        }
+    }
+
+    private static void forget(ServerLevel level, Entity entity) {
+        LevelTaunts taunts = LEVELS.get(level.dimension());
+        if (taunts == null) return;
+
+        if (entity instanceof LivingEntity living && taunts.byTaunter.containsKey(living.getUUID())) {
+            release(level, living);
+            taunts = LEVELS.get(level.dimension());
+            if (taunts == null) return;
+        }
+        unbind(taunts, entity.getUUID());
+        if (taunts.isEmpty()) {
+            LEVELS.remove(level.dimension());
+        }
+    }
+
+    // ---------------- metrics ----------------
+
+    public static int taunterCount() {
+        int total = 0;
+        for (LevelTaunts taunts : LEVELS.values()) {
+            total += taunts.byTaunter.size();
+        }
+        return total;
+    }
+
+    public static int boundMobCount() {
+        int total = 0;
+        for (LevelTaunts taunts : LEVELS.values()) {
+            total += taunts.byMob.size();
+        }
+        return total;
+    }
+
+    public static int levelCount() {
+        return LEVELS.size();
+    }
+
+    // ---------------- lifecycle ----------------
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        // A UUID coming back (dimension change, chunk reload) is a new entity; any binding for it is stale
+        if (event.getLevel() instanceof ServerLevel serverLevel && !LEVELS.isEmpty()) {
+            LevelTaunts taunts = LEVELS.get(serverLevel.dimension());
+            if (taunts == null) return;
+            Binding binding = taunts.byMob.get(event.getEntity().getUUID());
+            if (binding != null && binding.mob() != event.getEntity()) {
+                unbind(taunts, event.getEntity().getUUID());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel && !LEVELS.isEmpty()) {
+            forget(serverLevel, event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLivingDeath(LivingDeathEvent event) {
+        if (event.getEntity().level() instanceof ServerLevel serverLevel && !LEVELS.isEmpty()) {
+            forget(serverLevel, event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LEVELS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LEVELS.clear();
+    }
+}
@@ -0,0 +1,172 @@
+package net.autismicannoyance.exadditions.effect;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.tags.FluidTags;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.entity.living.MobEffectEvent;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Tracks whether entities with Enderosis have water in their 3x3x3 block neighbourhood.
+ *
+ * The neighbourhood is scanned once and the answer is kept until the entity moves into another
+ * block or a block within one of that neighbourhood changes (neighbour notify), so a standing
+ * player costs one map lookup per tick instead of 27 fluid lookups.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class WaterContactTracker {
+    private static final Map<UUID, Contact> CONTACTS = new HashMap<>();
+    // Section of the contact's centre block -> contacts there, for neighbour-change lookups
+    private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<List<Contact>>> BY_SECTION = new HashMap<>();
+
+    private static class Contact {
+        final UUID entityId;
+        ResourceKey<Level> dimension;
+        long center;
+        boolean touching;
+        boolean stale = true;
+
+        Contact(UUID entityId) {
+            this.entityId = entityId;
+        }
+    }
+
+    /**
+     * True if the entity is in water or has a water block anywhere in its 3x3x3 neighbourhood.
+     */
+    public static boolean isTouchingWater(LivingEntity entity) {
+        if (entity.isInWater()) {
+            return true;
+        }
+
+        Level level = entity.level();
+        long center = entity.blockPosition().asLong();
+        Contact contact = CONTACTS.computeIfAbsent(entity.getUUID(), Contact::new);
+        if (contact.stale || contact.center != center || contact.dimension != level.dimension()) {
+            unindex(contact);
+            contact.dimension = level.dimension();
+            contact.center = center;
+            contact.touching = scan(level, BlockPos.of(center));
+            contact.stale = false;
+            index(contact);
+        }
+        return contact.touching;
+    }
+
+    public static void forget(Entity entity) {
+        Contact contact = CONTACTS.remove(entity.getUUID());
+        if (contact != null) {
+            unindex(contact);
+        }
+    }
+
+    public static int size() {
+        return CONTACTS.size();
+    }
+
+    private static boolean scan(Level level, BlockPos center) {
+        BlockPos.MutableBlockPos checkPos = new BlockPos.MutableBlockPos();
+        for (int x = -1; x <= 1; x++) {
+            for (int y = -1; y <= 1; y++) {
+                for (int z = -1; z <= 1; z++) {
+                    checkPos.setWithOffset(center, x, y, z);
+                    // Water blocks (source and flowing) and waterlogged blocks all carry a water fluid state
+                    if (level.getFluidState(checkPos).is(FluidTags.WATER)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void index(Contact contact) {
+        BY_SECTION.computeIfAbsent(contact.dimension, k -> new Long2ObjectOpenHashMap<>())
+                .computeIfAbsent(SectionPos.blockToSection(contact.center), k -> new ArrayList<>())
+                .add(contact);
+    }
+
+    private static void unindex(Contact contact) {
+        if (contact.dimension == null) return;
+        Long2ObjectOpenHashMap<List<Contact>> sections = BY_SECTION.get(contact.dimension);
+        if (sections == null) return;
+        long sectionKey = SectionPos.blockToSection(contact.center);
+        List<Contact> contacts = sections.get(sectionKey);
+        if (contacts == null) return;
+        contacts.remove(contact);
+        if (contacts.isEmpty()) {
+            sections.remove(sectionKey);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) return;
+        Long2ObjectOpenHashMap<List<Contact>> sections = BY_SECTION.get(serverLevel.dimension());
+        if (sections == null || sections.isEmpty()) return;
+
+        BlockPos changed = event.getPos();
+        int minX = SectionPos.blockToSectionCoord(changed.getX() - 1), maxX = SectionPos.blockToSectionCoord(changed.getX() + 1);
+        int minY = SectionPos.blockToSectionCoord(changed.getY() - 1), maxY = SectionPos.blockToSectionCoord(changed.getY() + 1);
+        int minZ = SectionPos.blockToSectionCoord(changed.getZ() - 1), maxZ = SectionPos.blockToSectionCoord(changed.getZ() + 1);
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    List<Contact> contacts = sections.get(SectionPos.asLong(sx, sy, sz));
+                    if (contacts == null) continue;
+                    for (Contact contact : contacts) {
+                        if (Math.abs(BlockPos.getX(contact.center) - changed.getX()) <= 1
+                                && Math.abs(BlockPos.getY(contact.center) - changed.getY()) <= 1
+                                && Math.abs(BlockPos.getZ(contact.center) - changed.getZ()) <= 1) {
+                            contact.stale = true;
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEffectRemoved(MobEffectEvent.Remove event) {
+        if (event.getEffect() == ModEffects.ENDEROSIS.get()) {
+            forget(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEffectExpired(MobEffectEvent.Expired event) {
+        if (event.getEffectInstance() != null && event.getEffectInstance().getEffect() == ModEffects.ENDEROSIS.get()) {
+            forget(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!event.getLevel().isClientSide() && !CONTACTS.isEmpty()) {
+            forget(event.getEntity());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        CONTACTS.clear();
+        BY_SECTION.clear();
+    }
+}
@@ -1,6 +1,7 @@
 package net.autismicannoyance.exadditions.entity;
 
 import net.autismicannoyance.exadditions.entity.custom.HeadlessZombieEntity;
+import net.autismicannoyance.exadditions.world.SurfaceFinder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
@@ -50,13 +51,10 @@ public class HeadlessZombieSpawnManager {
             int z = worldSpawn.getZ() + (int) (Math.sin(angle) * distance);
 
             // Find ground level
-            for (int y = serverLevel.getMaxBuildHeight(); y > serverLevel.getMinBuildHeight(); y--) {
-                BlockPos checkPos = new BlockPos(x, y, z);
-                if (!serverLevel.getBlockState(checkPos).isAir() &&
-                        serverLevel.getBlockState(checkPos.above()).isAir() &&
-                        serverLevel.getBlockState(checkPos.above(2)).isAir()) {
-                    return checkPos.above();
-                }
+            BlockPos spawnPos = SurfaceFinder.findSurface(serverLevel, x, z, serverLevel.getMaxBuildHeight(),
+                    serverLevel.getMinBuildHeight() + 1, SurfaceFinder.NOT_AIR, SurfaceFinder.IS_AIR);
+            if (spawnPos != null) {
+                return spawnPos;
             }
         }
 
@@ -1,6 +1,7 @@
 package net.autismicannoyance.exadditions.entity.custom;
 
 import net.autismicannoyance.exadditions.entity.ModEntities;
+import net.autismicannoyance.exadditions.world.SurfaceFinder;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.syncher.EntityDataAccessor;
@@ -309,16 +310,12 @@ public class HeadlessZombieEntity extends Zombie {
         for (int attempts = 0; attempts < 50; attempts++) {
             int x = worldSpawn.getX() + (this.random.nextInt(2000) - 1000);
             int z = worldSpawn.getZ() + (this.random.nextInt(2000) - 1000);
-            int y = serverLevel.getHeight();
 
             // Find ground level
-            for (int checkY = y; checkY > serverLevel.getMinBuildHeight(); checkY--) {
-                BlockPos checkPos = new BlockPos(x, checkY, z);
-                if (!serverLevel.getBlockState(checkPos).isAir() &&
-                        serverLevel.getBlockState(checkPos.above()).isAir() &&
-                        serverLevel.getBlockState(checkPos.above(2)).isAir()) {
-                    return checkPos.above();
-                }
+            BlockPos spawnPos = SurfaceFinder.findSurface(serverLevel, x, z, serverLevel.getHeight(),
+                    serverLevel.getMinBuildHeight() + 1, SurfaceFinder.NOT_AIR, SurfaceFinder.IS_AIR);
+            if (spawnPos != null) {
+                return spawnPos;
             }
         }
 
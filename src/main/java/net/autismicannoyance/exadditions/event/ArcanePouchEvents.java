@@ -2,12 +2,20 @@ package net.autismicannoyance.exadditions.event;
 
 import net.autismicannoyance.exadditions.item.custom.ArcanePouchItem;
 import net.autismicannoyance.exadditions.world.dimension.ArcanePouchDimensionManager;
+import net.autismicannoyance.exadditions.world.dimension.ArcanePouchIndex;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
 import net.minecraftforge.event.entity.living.LivingDeathEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 import java.util.UUID;
@@ -39,4 +47,35 @@ public class ArcanePouchEvents {
             } catch (Exception ignored) {}
         }
     }
-}
\ No newline at end of file
+
+    // ---- Pouch location index (see ArcanePouchIndex) ----
+
+    @SubscribeEvent
+    public static void onItemToss(ItemTossEvent event) {
+        if (event.getEntity().level().isClientSide) return;
+        ArcanePouchIndex.trackItemEntity(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onItemPickup(PlayerEvent.ItemPickupEvent event) {
+        if (!(event.getEntity() instanceof ServerPlayer player)) return;
+        // Slot isn't known yet; the index re-scans this player's inventory on lookup
+        ArcanePouchIndex.trackPlayerSlot(player, event.getStack(), -1);
+    }
+
+    @SubscribeEvent
+    public static void onContainerClose(PlayerContainerEvent.Close event) {
+        if (event.getEntity().level().isClientSide) return;
+        // Pouches left in chests etc. don't tick, so record where they ended up
+        for (Slot slot : event.getContainer().slots) {
+            if (slot.container instanceof BlockEntity blockEntity && slot.hasItem()) {
+                ArcanePouchIndex.trackContainerSlot(blockEntity, slot.getItem(), slot.getContainerSlot());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ArcanePouchIndex.clear();
+    }
+}
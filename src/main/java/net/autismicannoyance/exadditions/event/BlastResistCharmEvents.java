@@ -1,6 +1,5 @@
 package net.autismicannoyance.exadditions.event;
 
-import net.autismicannoyance.exadditions.item.ModItems;
 import net.minecraft.tags.DamageTypeTags;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.event.entity.living.LivingDamageEvent;
@@ -16,7 +15,7 @@ public class BlastResistCharmEvents {
 
         // Check if damage is from explosion
         if (event.getSource().is(DamageTypeTags.IS_EXPLOSION)) {
-            if (player.getInventory().contains(ModItems.BLAST_RESIST_CHARM.get().getDefaultInstance())) {
+            if (CharmIndex.has(player, CharmIndex.Charm.BLAST_RESIST)) {
                 event.setAmount(event.getAmount() * 0.8f);
             }
         }
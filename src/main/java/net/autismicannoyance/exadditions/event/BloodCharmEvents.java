@@ -99,11 +99,6 @@ public class BloodCharmEvents {
 
     /** Find the charm in inventory */
     private static ItemStack getBloodCharm(Player player) {
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.getItem() instanceof BloodCharmItem) {
-                return stack;
-            }
-        }
-        return ItemStack.EMPTY;
+        return CharmIndex.find(player, CharmIndex.Charm.BLOOD);
     }
 }
\ No newline at end of file
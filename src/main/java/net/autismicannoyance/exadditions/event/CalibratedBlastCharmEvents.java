@@ -94,11 +94,6 @@ public class CalibratedBlastCharmEvents {
 
     /** Find the calibrated blast charm in inventory */
     private static ItemStack getCalibratedBlastCharm(Player player) {
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.getItem() instanceof CalibratedBlastCharmItem) {
-                return stack;
-            }
-        }
-        return ItemStack.EMPTY;
+        return CharmIndex.find(player, CharmIndex.Charm.CALIBRATED_BLAST);
     }
 }
\ No newline at end of file
@@ -0,0 +1,268 @@
+package net.autismicannoyance.exadditions.event;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.item.custom.BlastResistCharmItem;
+import net.autismicannoyance.exadditions.item.custom.BloodCharmItem;
+import net.autismicannoyance.exadditions.item.custom.CalibratedBlastCharmItem;
+import net.autismicannoyance.exadditions.item.custom.DeathCharmItem;
+import net.autismicannoyance.exadditions.item.custom.FireResistCharmItem;
+import net.autismicannoyance.exadditions.item.custom.ReflectCharmItem;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerListener;
+import net.minecraft.world.inventory.Slot;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.player.PlayerContainerEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Which charms a player is carrying, and in which inventory slots.
+ *
+ * Each player gets a {@link PlayerCharms} capability holding one slot bitmask per charm kind
+ * (bit i = inventory slot i, armor and offhand included) plus a presence bitset. It is rebuilt
+ * with one full scan when the player joins a level and then kept up to date as a slot listener
+ * on the inventory menu and on every container the player opens, so the damage/death handlers
+ * answer "has charm / which slot" without walking the inventory when the charm is there.
+ *
+ * Listeners only hear about a change when the menu broadcasts it, at the end of the tick, so a
+ * charm put in the inventory directly (a pickup, a command, another mod) is missing from the index
+ * until then. A miss is therefore confirmed with a direct scan, and a found charm rebuilds the
+ * index. Slot answers are checked against the actual stack the same way.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class CharmIndex {
+
+    public static final Capability<PlayerCharms> PLAYER_CHARMS_CAPABILITY =
+            CapabilityManager.get(new CapabilityToken<>() {});
+
+    // Inventory slots 0-35, the part DeathCharmEvents etc. historically searched
+    private static final long MAIN_INVENTORY_MASK = (1L << Inventory.INVENTORY_SIZE) - 1;
+
+    public enum Charm {
+        FIRE_RESIST(FireResistCharmItem.class),
+        BLAST_RESIST(BlastResistCharmItem.class),
+        CALIBRATED_BLAST(CalibratedBlastCharmItem.class),
+        DEATH(DeathCharmItem.class),
+        BLOOD(BloodCharmItem.class),
+        REFLECT(ReflectCharmItem.class);
+
+        private static final Charm[] VALUES = values();
+
+        private final Class<? extends Item> itemClass;
+
+        Charm(Class<? extends Item> itemClass) {
+            this.itemClass = itemClass;
+        }
+
+        public boolean matches(ItemStack stack) {
+            return !stack.isEmpty() && itemClass.isInstance(stack.getItem());
+        }
+    }
+
+    // ---------------- queries ----------------
+
+    /**
+     * True if the charm is anywhere in the player's inventory (main, armor or offhand).
+     */
+    public static boolean has(Player player, Charm charm) {
+        PlayerCharms charms = get(player);
+        if (charms.has(charm)) return true;
+        Inventory inventory = player.getInventory();
+        if (!carries(inventory, charm, inventory.getContainerSize())) return false;
+        charms.rebuild(inventory);
+        return true;
+    }
+
+    /**
+     * First main-inventory slot (0-35) holding the charm, or -1.
+     */
+    public static int slot(Player player, Charm charm) {
+        PlayerCharms charms = get(player);
+        int slot = charms.firstSlot(charm);
+        if (slot >= 0 ? !charm.matches(player.getInventory().getItem(slot))
+                : carries(player.getInventory(), charm, Inventory.INVENTORY_SIZE)) {
+            charms.rebuild(player.getInventory());
+            slot = charms.firstSlot(charm);
+        }
+        return slot;
+    }
+
+    /**
+     * Stack of the charm in the first main-inventory slot holding it, or {@link ItemStack#EMPTY}.
+     */
+    public static ItemStack find(Player player, Charm charm) {
+        int slot = slot(player, charm);
+        return slot < 0 ? ItemStack.EMPTY : player.getInventory().getItem(slot);
+    }
+
+    /**
+     * Index contents next to a fresh full scan, one line per charm kind, for debugging.
+     */
+    public static List<String> dump(Player player) {
+        PlayerCharms charms = get(player);
+        PlayerCharms scanned = new PlayerCharms();
+        scanned.rebuild(player.getInventory());
+
+        List<String> lines = new ArrayList<>();
+        lines.add("Charm index for " + player.getGameProfile().getName() + (charms.listening ? "" : " (not live)"));
+        for (Charm charm : Charm.VALUES) {
+            long indexed = charms.slots[charm.ordinal()];
+            long actual = scanned.slots[charm.ordinal()];
+            lines.add(" " + charm.name() + ": index=" + slotList(indexed) + " scan=" + slotList(actual)
+                    + (indexed == actual ? " OK" : " MISMATCH"));
+        }
+        return lines;
+    }
+
+    private static String slotList(long mask) {
+        if (mask == 0) return "[]";
+        StringBuilder builder = new StringBuilder("[");
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            if (builder.length() > 1) builder.append(',');
+            builder.append(Long.numberOfTrailingZeros(bits));
+        }
+        return builder.append(']').toString();
+    }
+
+    // Direct scan of the first {@code size} slots, for confirming a miss
+    private static boolean carries(Inventory inventory, Charm charm, int size) {
+        for (int i = 0; i < size; i++) {
+            if (charm.matches(inventory.getItem(i))) return true;
+        }
+        return false;
+    }
+
+    private static PlayerCharms get(Player player) {
+        PlayerCharms charms = player.getCapability(PLAYER_CHARMS_CAPABILITY).orElse(null);
+        if (charms == null) {
+            charms = new PlayerCharms();
+        }
+        if (!charms.listening) {
+            // Client side or not joined yet, nobody keeps this index current
+            charms.rebuild(player.getInventory());
+        }
+        return charms;
+    }
+
+    // ---------------- capability ----------------
+
+    public static class PlayerCharms implements ContainerListener {
+        private final long[] slots = new long[Charm.VALUES.length];
+        private int presence;
+        @Nullable
+        private Inventory inventory;
+        private boolean listening;
+
+        public boolean has(Charm charm) {
+            return (presence & (1 << charm.ordinal())) != 0;
+        }
+
+        public int firstSlot(Charm charm) {
+            long main = slots[charm.ordinal()] & MAIN_INVENTORY_MASK;
+            return main == 0 ? -1 : Long.numberOfTrailingZeros(main);
+        }
+
+        void rebuild(Inventory inventory) {
+            this.inventory = inventory;
+            Arrays.fill(slots, 0L);
+            presence = 0;
+            for (int i = 0; i < inventory.getContainerSize(); i++) {
+                update(i, inventory.getItem(i));
+            }
+        }
+
+        private void update(int slot, ItemStack stack) {
+            if (slot < 0 || slot >= Long.SIZE) return;
+            long bit = 1L << slot;
+            for (Charm charm : Charm.VALUES) {
+                int index = charm.ordinal();
+                if (charm.matches(stack)) {
+                    slots[index] |= bit;
+                } else {
+                    slots[index] &= ~bit;
+                }
+                if (slots[index] != 0) {
+                    presence |= 1 << index;
+                } else {
+                    presence &= ~(1 << index);
+                }
+            }
+        }
+
+        @Override
+        public void slotChanged(AbstractContainerMenu menu, int menuSlot, ItemStack stack) {
+            if (menuSlot < 0 || menuSlot >= menu.slots.size()) return;
+            Slot slot = menu.getSlot(menuSlot);
+            if (inventory != null && slot.container == inventory) {
+                update(slot.getContainerSlot(), stack);
+            }
+        }
+
+        @Override
+        public void dataChanged(AbstractContainerMenu menu, int dataSlot, int value) {
+        }
+    }
+
+    public static class PlayerCharmsProvider implements ICapabilityProvider {
+        private final PlayerCharms charms = new PlayerCharms();
+        private final LazyOptional<PlayerCharms> instance = LazyOptional.of(() -> charms);
+
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable net.minecraft.core.Direction side) {
+            return cap == PLAYER_CHARMS_CAPABILITY ? instance.cast() : LazyOptional.empty();
+        }
+    }
+
+    // ---------------- maintenance ----------------
+
+    @SubscribeEvent
+    public static void onAttachCapabilities(AttachCapabilitiesEvent<net.minecraft.world.entity.Entity> event) {
+        if (event.getObject() instanceof Player) {
+            event.addCapability(new ResourceLocation(ExAdditions.MOD_ID, "player_charms"),
+                    new PlayerCharmsProvider());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerJoin(EntityJoinLevelEvent event) {
+        // Login, respawn and dimension change all land here; the inventory is loaded by now
+        if (!(event.getEntity() instanceof ServerPlayer player)) return;
+        player.getCapability(PLAYER_CHARMS_CAPABILITY).ifPresent(charms -> {
+            charms.rebuild(player.getInventory());
+            player.inventoryMenu.addSlotListener(charms);
+            charms.listening = true;
+        });
+    }
+
+    @SubscribeEvent
+    public static void onContainerOpen(PlayerContainerEvent.Open event) {
+        // Player inventory slots of a chest etc. are synced through that menu while it's open
+        event.getEntity().getCapability(PLAYER_CHARMS_CAPABILITY)
+                .ifPresent(charms -> event.getContainer().addSlotListener(charms));
+    }
+
+    @SubscribeEvent
+    public static void onContainerClose(PlayerContainerEvent.Close event) {
+        event.getEntity().getCapability(PLAYER_CHARMS_CAPABILITY)
+                .ifPresent(charms -> event.getContainer().removeSlotListener(charms));
+    }
+}
@@ -236,22 +236,11 @@ public class DeathCharmEvents {
 
     /** Find the charm in inventory */
     private static ItemStack getDeathCharm(Player player) {
-        for (ItemStack stack : player.getInventory().items) {
-            if (stack.getItem() instanceof DeathCharmItem) {
-                return stack;
-            }
-        }
-        return ItemStack.EMPTY;
+        return CharmIndex.find(player, CharmIndex.Charm.DEATH);
     }
 
     /** Find the slot number of the Death Charm in inventory */
     private static int getDeathCharmSlot(Player player) {
-        for (int i = 0; i < player.getInventory().items.size(); i++) {
-            ItemStack stack = player.getInventory().items.get(i);
-            if (stack.getItem() instanceof DeathCharmItem) {
-                return i;
-            }
-        }
-        return -1;
+        return CharmIndex.slot(player, CharmIndex.Charm.DEATH);
     }
 }
\ No newline at end of file
@@ -0,0 +1,140 @@
+package net.autismicannoyance.exadditions.event;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.projectile.Arrow;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-level set of arrows carrying mod enchantments (Homing, Chance, Frost).
+ *
+ * Arrows are registered when they join the level with their flags decoded once from persistent
+ * data, and dropped when they leave it (discard, unload). One pass per level tick steers the
+ * homing ones, resolving each homing target at most once per tick no matter how many arrows
+ * chase it, instead of every player querying a 50-block box for their arrows every tick.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class EnchantedArrowTracker {
+    static final String HOMING_TARGET_KEY = "HomingTarget";
+    static final String IS_HOMING_KEY = "IsHoming";
+    static final String CHANCE_LEVEL_KEY = "ChanceLevel";
+    static final String FROST_LEVEL_KEY = "FrostLevel";
+
+    private static final Map<ResourceKey<Level>, Map<Arrow, ArrowFlags>> ARROWS = new HashMap<>();
+
+    public record ArrowFlags(@Nullable UUID homingTarget, int chanceLevel, int frostLevel) {
+        public boolean isEmpty() {
+            return homingTarget == null && chanceLevel <= 0 && frostLevel <= 0;
+        }
+
+        public static ArrowFlags decode(CompoundTag arrowData) {
+            UUID target = arrowData.getBoolean(IS_HOMING_KEY) && arrowData.hasUUID(HOMING_TARGET_KEY)
+                    ? arrowData.getUUID(HOMING_TARGET_KEY) : null;
+            return new ArrowFlags(target, arrowData.getInt(CHANCE_LEVEL_KEY), arrowData.getInt(FROST_LEVEL_KEY));
+        }
+    }
+
+    public static void track(Arrow arrow, ArrowFlags flags) {
+        if (flags.isEmpty() || !(arrow.level() instanceof ServerLevel serverLevel)) return;
+        ARROWS.computeIfAbsent(serverLevel.dimension(), k -> new IdentityHashMap<>()).put(arrow, flags);
+    }
+
+    /**
+     * Flags of a tracked arrow, or decoded from its persistent data if it isn't tracked.
+     */
+    public static ArrowFlags flags(Arrow arrow) {
+        Map<Arrow, ArrowFlags> arrows = ARROWS.get(arrow.level().dimension());
+        ArrowFlags flags = arrows == null ? null : arrows.get(arrow);
+        return flags != null ? flags : ArrowFlags.decode(arrow.getPersistentData());
+    }
+
+    public static int size() {
+        int total = 0;
+        for (Map<Arrow, ArrowFlags> arrows : ARROWS.values()) {
+            total += arrows.size();
+        }
+        return total;
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel serverLevel)) return;
+        Map<Arrow, ArrowFlags> arrows = ARROWS.get(serverLevel.dimension());
+        if (arrows == null || arrows.isEmpty()) return;
+
+        // Shared across all arrows this tick, several arrows usually chase the same target
+        Map<UUID, Entity> targets = new HashMap<>();
+        for (Map.Entry<Arrow, ArrowFlags> entry : arrows.entrySet()) {
+            UUID targetUUID = entry.getValue().homingTarget();
+            if (targetUUID == null) continue;
+
+            Arrow arrow = entry.getKey();
+            if (arrow.isRemoved()) continue;
+
+            Entity targetEntity = targets.computeIfAbsent(targetUUID, serverLevel::getEntity);
+            if (targetEntity instanceof LivingEntity target && target.isAlive()) {
+                steer(serverLevel, arrow, target);
+            }
+        }
+    }
+
+    private static void steer(ServerLevel serverLevel, Arrow arrow, LivingEntity target) {
+        Vec3 arrowPos = arrow.position();
+        Vec3 targetPos = target.position().add(0, target.getBbHeight() / 2, 0);
+        Vec3 direction = targetPos.subtract(arrowPos).normalize();
+
+        // Gradually adjust arrow velocity toward target
+        Vec3 currentVelocity = arrow.getDeltaMovement();
+        Vec3 newVelocity = currentVelocity.scale(0.9).add(direction.scale(0.1));
+
+        arrow.setDeltaMovement(newVelocity);
+
+        // Update arrow rotation to match new direction
+        arrow.setYRot((float) (Mth.atan2(newVelocity.x, newVelocity.z) * (180F / (float) Math.PI)));
+        arrow.setXRot((float) (Mth.atan2(newVelocity.y, newVelocity.horizontalDistance()) * (180F / (float) Math.PI)));
+
+        serverLevel.sendParticles(ParticleTypes.ENCHANT,
+                arrowPos.x, arrowPos.y, arrowPos.z,
+                2, 0.1, 0.1, 0.1, 0.02);
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (!(event.getEntity() instanceof Arrow arrow) || !(event.getLevel() instanceof ServerLevel serverLevel)) return;
+        Map<Arrow, ArrowFlags> arrows = ARROWS.get(serverLevel.dimension());
+        if (arrows != null) {
+            arrows.remove(arrow);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            ARROWS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        ARROWS.clear();
+    }
+}
@@ -1,17 +1,15 @@
 package net.autismicannoyance.exadditions.event;
 
 import net.autismicannoyance.exadditions.enchantment.ModEnchantments;
+import net.autismicannoyance.exadditions.recipe.SmeltingResults;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.StringTag;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
-import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
-import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.damagesource.DamageSource;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -25,7 +23,6 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.enchantment.EnchantmentHelper;
 import net.minecraft.world.item.crafting.RecipeType;
-import net.minecraft.world.item.crafting.SmeltingRecipe;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -97,21 +94,13 @@ public class EnchantmentEvents {
         }
 
         // SMELTING ENCHANTMENT
-        int smeltingLevel = tool.getEnchantmentLevel(ModEnchantments.SMELTING.get());
-        if (smeltingLevel > 0 && tool.getEnchantmentLevel(net.minecraft.world.item.enchantment.Enchantments.BLOCK_FORTUNE) == 0 &&
-                tool.getEnchantmentLevel(net.minecraft.world.item.enchantment.Enchantments.SILK_TOUCH) == 0) {
-
-            Optional<SmeltingRecipe> recipe = level.getRecipeManager()
-                    .getRecipeFor(RecipeType.SMELTING, new SimpleContainer(new ItemStack(state.getBlock())), level);
-
-            if (recipe.isPresent()) {
-                ItemStack result = recipe.get().getResultItem(level.registryAccess());
-                if (!result.isEmpty()) {
-                    event.setCanceled(true);
-                    level.destroyBlock(pos, false);
-                    ItemEntity itemEntity = new ItemEntity(level, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, result.copy());
-                    level.addFreshEntity(itemEntity);
-                }
+        if (canAutoSmelt(tool)) {
+            ItemStack result = smeltedDrop(level, state);
+            if (!result.isEmpty()) {
+                event.setCanceled(true);
+                level.destroyBlock(pos, false);
+                ItemEntity itemEntity = new ItemEntity(level, pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5, result);
+                level.addFreshEntity(itemEntity);
             }
         }
 
@@ -132,11 +121,8 @@ public class EnchantmentEvents {
 
         // MASTERY ENCHANTMENT - Track blocks mined
         int masteryLevel = tool.getEnchantmentLevel(ModEnchantments.MASTERY.get());
-        if (masteryLevel > 0) {
-            CompoundTag tag = tool.getOrCreateTag();
-            int blocksMined = tag.getInt("MasteryBlocksMined") + 1;
-            tag.putInt("MasteryBlocksMined", blocksMined);
-            updateMasteryTooltip(tool, blocksMined);
+        if (masteryLevel > 0 && !level.isClientSide()) {
+            MasteryProgress.record(player, tool);
         }
 
         // FARMER ENCHANTMENT
@@ -168,7 +154,9 @@ public class EnchantmentEvents {
 
         if (state.getBlock() != oreType) return;
 
-        List<ItemStack> drops = Block.getDrops(state, (ServerLevel) level, startPos, null, player, tool);
+        // Auto-smelt the whole vein, the lookup is memoized so this is one recipe query per ore type
+        ItemStack smelted = canAutoSmelt(tool) ? smeltedDrop(level, state) : ItemStack.EMPTY;
+        List<ItemStack> drops = smelted.isEmpty() ? Block.getDrops(state, (ServerLevel) level, startPos, null, player, tool) : List.of(smelted);
         level.destroyBlock(startPos, false);
 
         for (ItemStack drop : drops) {
@@ -187,6 +175,19 @@ public class EnchantmentEvents {
         }
     }
 
+    // SMELTING only applies when it wouldn't fight Fortune or Silk Touch for the drops
+    private static boolean canAutoSmelt(ItemStack tool) {
+        return tool.getEnchantmentLevel(ModEnchantments.SMELTING.get()) > 0
+                && tool.getEnchantmentLevel(net.minecraft.world.item.enchantment.Enchantments.BLOCK_FORTUNE) == 0
+                && tool.getEnchantmentLevel(net.minecraft.world.item.enchantment.Enchantments.SILK_TOUCH) == 0;
+    }
+
+    // Furnace result of the block itself, or empty if it doesn't smelt
+    private static ItemStack smeltedDrop(Level level, BlockState state) {
+        SmeltingResults.Result result = SmeltingResults.lookup(level, RecipeType.SMELTING, state.getBlock().asItem());
+        return result.isEmpty() ? ItemStack.EMPTY : result.output().copy();
+    }
+
     private static ItemStack findSeedForCrop(Player player, CropBlock crop) {
         for (ItemStack stack : player.getInventory().items) {
             if (stack.getItem() == Items.WHEAT_SEEDS && crop == Blocks.WHEAT) return stack;
@@ -196,25 +197,6 @@ public class EnchantmentEvents {
         return ItemStack.EMPTY;
     }
 
-    private static void updateMasteryTooltip(ItemStack tool, int blocksMined) {
-        CompoundTag display = tool.getOrCreateTagElement("display");
-        net.minecraft.nbt.ListTag lore = display.getList("Lore", 8);
-
-        for (int i = 0; i < lore.size(); i++) {
-            String line = lore.getString(i);
-            if (line.contains("Mastery")) {
-                lore.remove(i);
-                break;
-            }
-        }
-
-        double bonus = Math.log(blocksMined) / Math.log(10) * 100; // log10(n) * 100%
-        String masteryLine = "§6Mastery: " + blocksMined + " mined (+" + String.format("%.1f", bonus) + "% speed)";
-        lore.add(StringTag.valueOf("{\"text\":\"" + masteryLine + "\"}"));
-
-        display.put("Lore", lore);
-    }
-
     // REJUVENATE ENCHANTMENT - repaired on break speed and heal
     @SubscribeEvent
     public static void onBreakSpeed(PlayerEvent.BreakSpeed event) {
@@ -415,7 +397,7 @@ public class EnchantmentEvents {
         }
     }
 
-    // LAVA WALKER, MAGNETISM, MARATHON - per-player tick
+    // LAVA WALKER, MARATHON - per-player tick
     @SubscribeEvent
     public static void onPlayerTick(net.minecraftforge.event.TickEvent.PlayerTickEvent event) {
         if (event.phase != net.minecraftforge.event.TickEvent.Phase.END) return;
@@ -424,40 +406,11 @@ public class EnchantmentEvents {
         ItemStack boots = player.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.FEET);
 
         int lavaWalkerLevel = boots.getEnchantmentLevel(ModEnchantments.LAVA_WALKER.get());
-        if (lavaWalkerLevel > 0) {
-            int radius = lavaWalkerLevel;
-            BlockPos playerPos = player.blockPosition();
-
-            for (BlockPos pos : BlockPos.betweenClosed(
-                    playerPos.offset(-radius, -1, -radius),
-                    playerPos.offset(radius, -1, radius))) {
-
-                BlockState state = player.level().getBlockState(pos);
-                if (state.getBlock() == Blocks.LAVA) {
-                    player.level().setBlock(pos, Blocks.MAGMA_BLOCK.defaultBlockState(), 3);
-                    player.level().scheduleTick(pos, Blocks.MAGMA_BLOCK, 100 + player.level().random.nextInt(100));
-                }
-            }
+        if (player instanceof net.minecraft.server.level.ServerPlayer serverPlayer) {
+            LavaWalkerFrontier.update(serverPlayer, lavaWalkerLevel);
         }
 
-        // MAGNETISM
-        ItemStack helmet = player.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.HEAD);
-        int magnetismLevel = helmet.getEnchantmentLevel(ModEnchantments.MAGNETISM.get());
-        if (magnetismLevel > 0) {
-            double pullRadius = 3.0 + magnetismLevel * 2.0;
-            double pullStrength = 0.1 * magnetismLevel;
-
-            List<ItemEntity> items = player.level().getEntitiesOfClass(ItemEntity.class,
-                    new AABB(player.getX() - pullRadius, player.getY() - pullRadius, player.getZ() - pullRadius,
-                            player.getX() + pullRadius, player.getY() + pullRadius, player.getZ() + pullRadius));
-
-            for (ItemEntity item : items) {
-                if (item.getAge() < 10) continue;
-                Vec3 direction = player.position().subtract(item.position()).normalize();
-                Vec3 velocity = direction.scale(pullStrength);
-                item.setDeltaMovement(item.getDeltaMovement().add(velocity));
-            }
-        }
+        // MAGNETISM is applied per level in MagnetismAttraction
 
         // MARATHON
         ItemStack legs = player.getItemBySlot(net.minecraft.world.entity.EquipmentSlot.LEGS);
@@ -498,78 +451,48 @@ public class EnchantmentEvents {
         }
     }
 
-    // HOMING: set arrow NBT when arrow spawns
+    // HOMING/CHANCE/FROST: set arrow NBT when arrow spawns and register it with the tracker
     @SubscribeEvent
     public static void onArrowSpawn(EntityJoinLevelEvent event) {
         if (!(event.getEntity() instanceof Arrow)) return;
+        if (event.getLevel().isClientSide()) return;
         Arrow arrow = (Arrow) event.getEntity();
+        CompoundTag arrowTag = arrow.getPersistentData();
+
+        // Reloaded / re-joining arrows already carry their flags
+        EnchantedArrowTracker.ArrowFlags saved = EnchantedArrowTracker.ArrowFlags.decode(arrowTag);
+        if (!saved.isEmpty()) {
+            EnchantedArrowTracker.track(arrow, saved);
+            return;
+        }
+
         if (!(arrow.getOwner() instanceof Player)) return;
         Player player = (Player) arrow.getOwner();
 
         ItemStack bow = player.getMainHandItem();
         int homingLevel = bow.getEnchantmentLevel(ModEnchantments.HOMING.get());
 
+        UUID homingTarget = null;
         if (homingLevel > 0) {
             LivingEntity target = findClosestEntityInCrosshair(player, 32.0);
             if (target != null) {
-                CompoundTag arrowTag = arrow.getPersistentData();
-                arrowTag.putUUID("HomingTarget", target.getUUID());
-                arrowTag.putBoolean("IsHoming", true);
+                homingTarget = target.getUUID();
+                arrowTag.putUUID(EnchantedArrowTracker.HOMING_TARGET_KEY, homingTarget);
+                arrowTag.putBoolean(EnchantedArrowTracker.IS_HOMING_KEY, true);
             }
         }
 
         int chanceLevel = bow.getEnchantmentLevel(ModEnchantments.CHANCE.get());
         if (chanceLevel > 0) {
-            CompoundTag arrowTag = arrow.getPersistentData();
-            arrowTag.putInt("ChanceLevel", chanceLevel);
+            arrowTag.putInt(EnchantedArrowTracker.CHANCE_LEVEL_KEY, chanceLevel);
         }
 
         int frostLevel = bow.getEnchantmentLevel(ModEnchantments.FROST.get());
         if (frostLevel > 0) {
-            CompoundTag arrowTag = arrow.getPersistentData();
-            arrowTag.putInt("FrostLevel", frostLevel);
+            arrowTag.putInt(EnchantedArrowTracker.FROST_LEVEL_KEY, frostLevel);
         }
-    }
-
-    // HOMING: update arrow trajectories (run per-player tick)
-    @SubscribeEvent
-    public static void onArrowTick(net.minecraftforge.event.TickEvent.PlayerTickEvent event) {
-        if (event.phase != net.minecraftforge.event.TickEvent.Phase.END) return;
-        Player player = event.player;
-
-        if (player.level().isClientSide) return;
-
-        List<Arrow> arrows = player.level().getEntitiesOfClass(Arrow.class,
-                player.getBoundingBox().inflate(50.0),
-                arrow -> arrow.getOwner() == player && arrow.getPersistentData().getBoolean("IsHoming"));
 
-        for (Arrow arrow : arrows) {
-            CompoundTag arrowData = arrow.getPersistentData();
-            UUID targetUUID = arrowData.getUUID("HomingTarget");
-
-            if (targetUUID != null) {
-                ServerLevel serverLevel = (ServerLevel) arrow.level();
-                Entity targetEntity = serverLevel.getEntity(targetUUID);
-
-                if (targetEntity instanceof LivingEntity target && target.isAlive()) {
-                    Vec3 arrowPos = arrow.position();
-                    Vec3 targetPos = target.position().add(0, target.getBbHeight() / 2, 0);
-                    Vec3 direction = targetPos.subtract(arrowPos).normalize();
-
-                    Vec3 currentVelocity = arrow.getDeltaMovement();
-                    Vec3 newVelocity = currentVelocity.scale(0.9).add(direction.scale(0.1));
-
-                    arrow.setDeltaMovement(newVelocity);
-
-                    arrow.setYRot((float) (Mth.atan2(newVelocity.x, newVelocity.z) * (180F / (float) Math.PI)));
-                    arrow.setXRot((float) (Mth.atan2(newVelocity.y, newVelocity.horizontalDistance()) * (180F / (float) Math.PI)));
-
-                    serverLevel.sendParticles(ParticleTypes.ENCHANT,
-                            arrowPos.x, arrowPos.y, arrowPos.z,
-                            2, 0.1, 0.1, 0.1, 0.02);
-                }
-            }
-        }
+        EnchantedArrowTracker.track(arrow, new EnchantedArrowTracker.ArrowFlags(homingTarget, chanceLevel, frostLevel));
     }
 
     // Helper: find closest entity near crosshair
@@ -602,10 +525,7 @@ public class EnchantmentEvents {
         int masteryLevel = tool.getEnchantmentLevel(ModEnchantments.MASTERY.get());
         if (masteryLevel == 0) return 1.0f;
 
-        CompoundTag tag = tool.getTag();
-        if (tag == null) return 1.0f;
-
-        int blocksMined = tag.getInt("MasteryBlocksMined");
+        int blocksMined = MasteryProgress.blocksMined(tool);
         if (blocksMined < 10) return 1.0f;
 
         double bonus = Math.log10(blocksMined);
@@ -177,7 +177,7 @@ public class EnchantmentTooltipHandler {
         int level = stack.getEnchantmentLevel(ModEnchantments.MASTERY.get());
         if (level > 0) {
             CompoundTag tag = stack.getTag();
-            int blocksMined = tag != null ? tag.getInt("MasteryBlocksMined") : 0;
+            int blocksMined = tag != null ? tag.getInt(MasteryProgress.BLOCKS_MINED_KEY) : 0;
             double bonus = blocksMined >= 10 ? Math.log10(blocksMined) * 100 : 0;
 
             event.getToolTip().add(Component.literal("§7Mastery I"));
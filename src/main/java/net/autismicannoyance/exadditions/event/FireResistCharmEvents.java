@@ -1,6 +1,5 @@
 package net.autismicannoyance.exadditions.event;
 
-import net.autismicannoyance.exadditions.item.ModItems;
 import net.minecraft.tags.DamageTypeTags;
 import net.minecraft.world.entity.player.Player;
 import net.minecraftforge.event.entity.living.LivingDamageEvent;
@@ -15,7 +14,7 @@ public class FireResistCharmEvents {
         if (!(event.getEntity() instanceof Player player)) return;
 
         if (event.getSource().is(DamageTypeTags.IS_FIRE)) {
-            if (player.getInventory().contains(ModItems.FIRE_RESIST_CHARM.get().getDefaultInstance())) {
+            if (CharmIndex.has(player, CharmIndex.Charm.FIRE_RESIST)) {
                 event.setAmount(event.getAmount() * 0.8f); // reduce fire damage by 20%
             }
         }
@@ -0,0 +1,256 @@
+package net.autismicannoyance.exadditions.event;
+
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.navigation.GroundPathNavigation;
+import net.minecraft.world.entity.ai.navigation.PathNavigation;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Shared paths to an owner for the mobs following them after an AI Hijacker takeover.
+ *
+ * Followers are grouped by navigation type and by their bounding box rounded up to whole blocks,
+ * so a path planned by a zombie is never handed to an iron golem or a spider that can't fit
+ * through the same gaps. The first follower of a group to ask computes a path to the owner.
+ * Every follower of that group that asks within the same window gets its own copy, joined at the
+ * node nearest to it. The path is only recomputed once the owner has moved
+ * {@value #RECOMPUTE_DISTANCE} blocks or it is {@value #MAX_PATH_AGE} ticks old, and never more
+ * than once per {@value #RECALC_WINDOW} ticks. Followers keep their formation slot across
+ * recomputes, in rows of {@value #FORMATION_WIDTH}; each row stops {@value #ROW_SPACING} node(s)
+ * short of the row before it, so the group trails the owner instead of piling onto them. Mobs
+ * that don't walk (flying, swimming), or that are too far from the shared path, still path on
+ * their own.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class HijackFollowerPaths {
+    private static final int RECALC_WINDOW = 10;
+    private static final int MAX_PATH_AGE = 100;
+    private static final double RECOMPUTE_DISTANCE = 3.0;
+    // Farther than this from every node of the shared path and a follower paths on its own
+    private static final double REJOIN_DISTANCE = 6.0;
+    private static final int FORMATION_WIDTH = 3;
+    private static final int ROW_SPACING = 1;
+    private static final int METRICS_WINDOW = 20;
+
+    private static final Map<UUID, Map<GroupKey, Group>> GROUPS = new HashMap<>();
+
+    // Path calculations: this tick so far, and per tick over the last second
+    private static int sharedThisTick;
+    private static int soloThisTick;
+    private static final int[] SHARED_HISTORY = new int[METRICS_WINDOW];
+    private static final int[] SOLO_HISTORY = new int[METRICS_WINDOW];
+    private static int historyIndex;
+
+    // Mobs that can walk the same path: same navigation, same size in whole blocks
+    private record GroupKey(Class<? extends PathNavigation> navigation, int width, int height) {
+        static GroupKey of(Mob mob) {
+            return new GroupKey(mob.getNavigation().getClass(), Mth.ceil(mob.getBbWidth()), Mth.ceil(mob.getBbHeight()));
+        }
+    }
+
+    private static class Group {
+        // Formation slot per follower, kept until the follower stops asking
+        final Int2IntOpenHashMap slots = new Int2IntOpenHashMap();
+        final Int2LongOpenHashMap lastAsked = new Int2LongOpenHashMap();
+        @Nullable
+        ResourceKey<Level> dimension;
+        Vec3 ownerPos = Vec3.ZERO;
+        long computedAt;
+        @Nullable
+        List<Node> nodes;
+        boolean reached;
+
+        void plan(Player owner, long now, @Nullable Path path) {
+            dimension = owner.level().dimension();
+            ownerPos = owner.position();
+            computedAt = now;
+            reached = path != null && path.canReach();
+            if (path == null || path.getNodeCount() == 0) {
+                nodes = null;
+            } else {
+                List<Node> copy = new ArrayList<>(path.getNodeCount());
+                for (int i = 0; i < path.getNodeCount(); i++) {
+                    copy.add(path.getNode(i));
+                }
+                nodes = copy;
+            }
+
+            // Free the slots of followers that have stopped asking (dead, unloaded, released)
+            IntIterator followers = lastAsked.keySet().iterator();
+            while (followers.hasNext()) {
+                int id = followers.nextInt();
+                if (now - lastAsked.get(id) > MAX_PATH_AGE) {
+                    followers.remove();
+                    slots.remove(id);
+                }
+            }
+        }
+
+        boolean isStale(Player owner, long now) {
+            if (dimension != owner.level().dimension()) return true;
+            long age = now - computedAt;
+            if (age < RECALC_WINDOW) return false;
+            return age >= MAX_PATH_AGE
+                    || owner.position().distanceToSqr(ownerPos) > RECOMPUTE_DISTANCE * RECOMPUTE_DISTANCE;
+        }
+
+        int slot(Mob mob, long now) {
+            lastAsked.put(mob.getId(), now);
+            int slot = slots.getOrDefault(mob.getId(), -1);
+            if (slot < 0) {
+                // Lowest free slot, so a newcomer fills a gap without moving anyone else
+                IntOpenHashSet taken = new IntOpenHashSet(slots.values());
+                slot = 0;
+                while (taken.contains(slot)) slot++;
+                slots.put(mob.getId(), slot);
+            }
+            return slot;
+        }
+    }
+
+    /**
+     * Send {@code mob} towards {@code owner}, on the shared path of mobs its size when it can use one.
+     */
+    public static void moveToOwner(Mob mob, Player owner, double speed) {
+        PathNavigation navigation = mob.getNavigation();
+        if (!(navigation instanceof GroundPathNavigation) || mob.level().isClientSide) {
+            moveAlone(navigation, owner, speed);
+            return;
+        }
+
+        long now = mob.level().getGameTime();
+        Group group = GROUPS.computeIfAbsent(owner.getUUID(), uuid -> new HashMap<>())
+                .computeIfAbsent(GroupKey.of(mob), key -> new Group());
+        if (group.isStale(owner, now)) {
+            // The asking follower's navigation plans for everyone its size
+            sharedThisTick++;
+            group.plan(owner, now, navigation.createPath(owner, 0));
+        }
+        int slot = group.slot(mob, now);
+        // No shared path (the planning follower may just be boxed in): everyone paths on their own
+        Path path = group.nodes == null ? null : followerPath(group, slot, mob);
+        if (path == null) {
+            moveAlone(navigation, owner, speed);
+            return;
+        }
+        navigation.moveTo(path, speed);
+    }
+
+    @Nullable
+    private static Path followerPath(Group group, int slot, Mob mob) {
+        List<Node> nodes = group.nodes;
+        int end = Math.max(1, nodes.size() - (slot / FORMATION_WIDTH) * ROW_SPACING);
+
+        // Join at the node closest to the follower
+        BlockPos pos = mob.blockPosition();
+        int join = 0;
+        double best = Double.MAX_VALUE;
+        for (int i = 0; i < end; i++) {
+            double distance = nodes.get(i).asBlockPos().distSqr(pos);
+            if (distance < best) {
+                best = distance;
+                join = i;
+            }
+        }
+        if (best > REJOIN_DISTANCE * REJOIN_DISTANCE) return null;
+
+        // Copies share the nodes but not the progress through them
+        Path path = new Path(new ArrayList<>(nodes.subList(0, end)), nodes.get(end - 1).asBlockPos(),
+                group.reached && end == nodes.size());
+        path.setNextNodeIndex(join);
+        return path;
+    }
+
+    private static void moveAlone(PathNavigation navigation, Player owner, double speed) {
+        soloThisTick++;
+        navigation.moveTo(owner, speed);
+    }
+
+    // ---------------- metrics ----------------
+
+    public static int groupCount() {
+        int groups = 0;
+        for (Map<GroupKey, Group> owned : GROUPS.values()) {
+            groups += owned.size();
+        }
+        return groups;
+    }
+
+    public static int followerCount() {
+        int followers = 0;
+        for (Map<GroupKey, Group> owned : GROUPS.values()) {
+            for (Group group : owned.values()) {
+                followers += group.slots.size();
+            }
+        }
+        return followers;
+    }
+
+    /**
+     * Shared and per-mob path calculations in the last completed tick.
+     */
+    public static int[] lastTick() {
+        int last = (historyIndex + METRICS_WINDOW - 1) % METRICS_WINDOW;
+        return new int[] {SHARED_HISTORY[last], SOLO_HISTORY[last]};
+    }
+
+    /**
+     * Shared and per-mob path calculations over the last {@value #METRICS_WINDOW} ticks.
+     */
+    public static int[] lastSecond() {
+        int shared = 0, solo = 0;
+        for (int i = 0; i < METRICS_WINDOW; i++) {
+            shared += SHARED_HISTORY[i];
+            solo += SOLO_HISTORY[i];
+        }
+        return new int[] {shared, solo};
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END) return;
+        SHARED_HISTORY[historyIndex] = sharedThisTick;
+        SOLO_HISTORY[historyIndex] = soloThisTick;
+        historyIndex = (historyIndex + 1) % METRICS_WINDOW;
+        sharedThisTick = 0;
+        soloThisTick = 0;
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        GROUPS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        GROUPS.clear();
+        sharedThisTick = 0;
+        soloThisTick = 0;
+        Arrays.fill(SHARED_HISTORY, 0);
+        Arrays.fill(SOLO_HISTORY, 0);
+    }
+}
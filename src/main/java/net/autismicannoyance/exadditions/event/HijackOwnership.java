@@ -0,0 +1,196 @@
+package net.autismicannoyance.exadditions.event;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.Mob;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.common.capabilities.CapabilityToken;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+import net.minecraftforge.common.util.LazyOptional;
+import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Who owns a mob taken over with the AI Hijacker.
+ *
+ * The owner is a parsed UUID in a {@link HijackOwner} capability, so the hijacked goals can check
+ * it every AI tick without touching NBT. The capability itself isn't serialized: every mob carries
+ * one, and only the few hijacked ones write the owner to their persistent data, which is read
+ * back into the capability when the mob joins a level. Mobs hijacked by older versions, which
+ * stored the owner as a string, are migrated then too. Loaded hijacked mobs are also indexed by
+ * owner, which the hijacked goals use to tell allies apart without a capability lookup per
+ * candidate.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class HijackOwnership {
+
+    public static final Capability<HijackOwner> HIJACK_OWNER_CAPABILITY =
+            CapabilityManager.get(new CapabilityToken<>() {});
+
+    // Where the owner is kept, in the persistent data of hijacked mobs only
+    private static final String OWNER_KEY = "ExAdditions_HijackOwner";
+    private static final String TIME_KEY = "ExAdditions_HijackedAt";
+    // Where older versions kept the owner, as a string
+    private static final String LEGACY_OWNER_KEY = "ExAdditions_HijackedBy";
+    private static final String LEGACY_TIME_KEY = "ExAdditions_HijackedTime";
+
+    // Loaded hijacked mobs per owner, server side only
+    private static final Map<UUID, Set<Mob>> BY_OWNER = new HashMap<>();
+    // Owner each indexed mob is filed under; capabilities may already be invalidated when a mob leaves
+    private static final Map<Mob, UUID> INDEXED = new IdentityHashMap<>();
+
+    // ---------------- queries ----------------
+
+    @Nullable
+    public static UUID getOwner(Mob mob) {
+        HijackOwner owner = mob.getCapability(HIJACK_OWNER_CAPABILITY).orElse(null);
+        return owner != null ? owner.getOwner() : null;
+    }
+
+    public static boolean isHijacked(Mob mob) {
+        return getOwner(mob) != null;
+    }
+
+    public static boolean isOwnedBy(Mob mob, UUID owner) {
+        return owner.equals(getOwner(mob));
+    }
+
+    /**
+     * Loaded mobs hijacked by {@code owner}, as a read-only live view. Server side only.
+     */
+    public static Collection<Mob> getHijackedBy(UUID owner) {
+        Set<Mob> mobs = BY_OWNER.get(owner);
+        return mobs != null ? Collections.unmodifiableSet(mobs) : Collections.emptySet();
+    }
+
+    /**
+     * Hand {@code mob} to {@code owner}, replacing any previous owner.
+     */
+    public static void setOwner(Mob mob, UUID owner) {
+        mob.getCapability(HIJACK_OWNER_CAPABILITY).ifPresent(cap -> {
+            unindex(mob);
+            long now = mob.level().getGameTime();
+            cap.set(owner, now);
+            CompoundTag data = mob.getPersistentData();
+            data.putUUID(OWNER_KEY, owner);
+            data.putLong(TIME_KEY, now);
+            index(mob, owner);
+        });
+    }
+
+    private static void index(Mob mob, @Nullable UUID owner) {
+        if (owner != null && !mob.level().isClientSide) {
+            BY_OWNER.computeIfAbsent(owner, k -> new HashSet<>()).add(mob);
+            INDEXED.put(mob, owner);
+        }
+    }
+
+    private static void unindex(Mob mob) {
+        UUID owner = INDEXED.remove(mob);
+        if (owner == null) return;
+        Set<Mob> mobs = BY_OWNER.get(owner);
+        if (mobs != null && mobs.remove(mob) && mobs.isEmpty()) {
+            BY_OWNER.remove(owner);
+        }
+    }
+
+    // ---------------- capability ----------------
+
+    public static class HijackOwner {
+        @Nullable
+        private UUID owner;
+        private long hijackedAt;
+
+        @Nullable
+        public UUID getOwner() {
+            return owner;
+        }
+
+        public long getHijackedAt() {
+            return hijackedAt;
+        }
+
+        void set(@Nullable UUID owner, long hijackedAt) {
+            this.owner = owner;
+            this.hijackedAt = hijackedAt;
+        }
+    }
+
+    public static class HijackOwnerProvider implements ICapabilityProvider {
+        private final HijackOwner owner = new HijackOwner();
+        private final LazyOptional<HijackOwner> instance = LazyOptional.of(() -> owner);
+
+        @Nonnull
+        @Override
+        public <T> LazyOptional<T> getCapability(@Nonnull Capability<T> cap, @Nullable Direction side) {
+            return cap == HIJACK_OWNER_CAPABILITY ? instance.cast() : LazyOptional.empty();
+        }
+    }
+
+    // ---------------- maintenance ----------------
+
+    @SubscribeEvent
+    public static void onAttachCapabilities(AttachCapabilitiesEvent<Entity> event) {
+        if (event.getObject() instanceof Mob) {
+            event.addCapability(new ResourceLocation(ExAdditions.MOD_ID, "hijack_owner"),
+                    new HijackOwnerProvider());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof Mob mob)) return;
+        mob.getCapability(HIJACK_OWNER_CAPABILITY).ifPresent(cap -> {
+            CompoundTag data = mob.getPersistentData();
+            if (cap.getOwner() == null && data.hasUUID(OWNER_KEY)) {
+                cap.set(data.getUUID(OWNER_KEY), data.getLong(TIME_KEY));
+            }
+            if (data.contains(LEGACY_OWNER_KEY)) {
+                if (cap.getOwner() == null) {
+                    try {
+                        UUID owner = UUID.fromString(data.getString(LEGACY_OWNER_KEY));
+                        cap.set(owner, data.getLong(LEGACY_TIME_KEY));
+                        data.putUUID(OWNER_KEY, owner);
+                        data.putLong(TIME_KEY, cap.getHijackedAt());
+                    } catch (IllegalArgumentException ignored) {
+                        // Malformed legacy entry, the mob just stays unowned
+                    }
+                }
+                data.remove(LEGACY_OWNER_KEY);
+                data.remove(LEGACY_TIME_KEY);
+            }
+            index(mob, cap.getOwner());
+        });
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof Mob mob)) return;
+        unindex(mob);
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        BY_OWNER.clear();
+        INDEXED.clear();
+    }
+}
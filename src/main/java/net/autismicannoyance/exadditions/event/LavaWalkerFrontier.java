@@ -0,0 +1,180 @@
+package net.autismicannoyance.exadditions.event;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Lava Walker: turns lava under the wearer into magma and back again after a while.
+ *
+ * Only the strip of positions entering the square under the player since their last block
+ * position is looked at, so standing still costs nothing and moving costs one edge of the square.
+ * Every converted block goes into a per-level decay queue keyed by the tick it reverts on; it is
+ * put back to the exact lava state it replaced unless a Lava Walker is still standing over it.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class LavaWalkerFrontier {
+    private static final int MIN_DECAY_TICKS = 100;
+    private static final int DECAY_SPREAD_TICKS = 100;
+    // How long a block is kept when the revert finds someone still standing over it
+    private static final int HOLD_TICKS = 20;
+
+    private static final Map<UUID, Footprint> FOOTPRINTS = new HashMap<>();
+    private static final Map<ResourceKey<Level>, DecayQueue> QUEUES = new HashMap<>();
+
+    // Square of radius `radius` one block under `center`, as of the last update
+    private record Footprint(ResourceKey<Level> dimension, long center, int radius) {
+        boolean covers(ResourceKey<Level> dim, BlockPos pos) {
+            return dimension == dim
+                    && BlockPos.getY(center) - 1 == pos.getY()
+                    && Math.abs(BlockPos.getX(center) - pos.getX()) <= radius
+                    && Math.abs(BlockPos.getZ(center) - pos.getZ()) <= radius;
+        }
+    }
+
+    private static class DecayQueue {
+        // Revert tick -> (packed pos, replaced state id) pairs
+        final Long2ObjectOpenHashMap<LongArrayList> due = new Long2ObjectOpenHashMap<>();
+        long lastDrained = Long.MIN_VALUE;
+
+        void add(long tick, long pos, int stateId) {
+            LongArrayList entries = due.computeIfAbsent(tick, k -> new LongArrayList());
+            entries.add(pos);
+            entries.add(stateId);
+        }
+    }
+
+    /**
+     * Convert the lava newly under {@code player}; a radius of 0 forgets them.
+     */
+    public static void update(ServerPlayer player, int radius) {
+        if (radius <= 0) {
+            FOOTPRINTS.remove(player.getUUID());
+            return;
+        }
+
+        ServerLevel level = player.serverLevel();
+        BlockPos center = player.blockPosition();
+        Footprint previous = FOOTPRINTS.get(player.getUUID());
+        Footprint current = new Footprint(level.dimension(), center.asLong(), radius);
+        if (current.equals(previous)) return;
+        FOOTPRINTS.put(player.getUUID(), current);
+
+        boolean incremental = previous != null
+                && previous.dimension() == current.dimension()
+                && previous.radius() == radius
+                && BlockPos.getY(previous.center()) == center.getY();
+        int ox = incremental ? BlockPos.getX(previous.center()) : Integer.MAX_VALUE / 2;
+        int oz = incremental ? BlockPos.getZ(previous.center()) : Integer.MAX_VALUE / 2;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int y = center.getY() - 1;
+        for (int x = center.getX() - radius; x <= center.getX() + radius; x++) {
+            int minZ = center.getZ() - radius;
+            int maxZ = center.getZ() + radius;
+            if (Math.abs(x - ox) <= radius) {
+                // Column overlaps the old square, only the rows past its edge are new
+                if (oz < center.getZ()) {
+                    minZ = Math.max(minZ, oz + radius + 1);
+                } else {
+                    maxZ = Math.min(maxZ, oz - radius - 1);
+                }
+            }
+            for (int z = minZ; z <= maxZ; z++) {
+                convert(level, pos.set(x, y, z));
+            }
+        }
+    }
+
+    private static void convert(ServerLevel level, BlockPos pos) {
+        BlockState state = level.getBlockState(pos);
+        if (state.getBlock() != Blocks.LAVA) return;
+
+        level.setBlock(pos, Blocks.MAGMA_BLOCK.defaultBlockState(), 3);
+        long revertTick = level.getGameTime() + MIN_DECAY_TICKS + level.random.nextInt(DECAY_SPREAD_TICKS);
+        QUEUES.computeIfAbsent(level.dimension(), k -> new DecayQueue())
+                .add(revertTick, pos.asLong(), Block.getId(state));
+    }
+
+    private static void revert(ServerLevel level, DecayQueue queue, long pos, int stateId, boolean force) {
+        BlockPos blockPos = BlockPos.of(pos);
+        if (!level.isLoaded(blockPos) || !level.getBlockState(blockPos).is(Blocks.MAGMA_BLOCK)) return;
+
+        if (!force) {
+            for (Footprint footprint : FOOTPRINTS.values()) {
+                if (footprint.covers(level.dimension(), blockPos)) {
+                    queue.add(level.getGameTime() + HOLD_TICKS, pos, stateId);
+                    return;
+                }
+            }
+        }
+        level.setBlock(blockPos, Block.stateById(stateId), 3);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel serverLevel)) return;
+        DecayQueue queue = QUEUES.get(serverLevel.dimension());
+        if (queue == null) return;
+
+        long now = serverLevel.getGameTime();
+        long from = queue.lastDrained == Long.MIN_VALUE ? now : queue.lastDrained + 1;
+        queue.lastDrained = now;
+        for (long tick = from; tick <= now && !queue.due.isEmpty(); tick++) {
+            LongArrayList entries = queue.due.remove(tick);
+            if (entries == null) continue;
+            for (int i = 0; i < entries.size(); i += 2) {
+                revert(serverLevel, queue, entries.getLong(i), (int) entries.getLong(i + 1), false);
+            }
+        }
+        if (queue.due.isEmpty()) {
+            QUEUES.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        FOOTPRINTS.remove(event.getEntity().getUUID());
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            QUEUES.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        // Put all pending lava back before the levels are saved, so no magma outlives the session
+        for (ServerLevel level : event.getServer().getAllLevels()) {
+            DecayQueue queue = QUEUES.get(level.dimension());
+            if (queue == null) continue;
+            for (LongArrayList entries : queue.due.values()) {
+                for (int i = 0; i < entries.size(); i += 2) {
+                    revert(level, queue, entries.getLong(i), (int) entries.getLong(i + 1), true);
+                }
+            }
+        }
+        QUEUES.clear();
+        FOOTPRINTS.clear();
+    }
+}
@@ -0,0 +1,243 @@
+package net.autismicannoyance.exadditions.event;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.enchantment.ModEnchantments;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.EquipmentSlot;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.EntityEvent;
+import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Pulls item entities toward players wearing a Magnetism helmet, one pass per level.
+ *
+ * Item entities are bucketed by chunk as they join, move between chunks and leave, so the pass
+ * never queries the level for them. Every {@link #getCadence() cadence} ticks each item in a chunk
+ * some magnet can reach is pulled toward its nearest magnet in range. Items lying still out of
+ * everyone's reach go to sleep and are skipped until they change chunk or the magnets around
+ * their chunk move.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class MagnetismAttraction {
+    public static final int MAX_CADENCE = 20;
+
+    private static final Map<ResourceKey<Level>, LevelItems> LEVELS = new HashMap<>();
+
+    // Ticks between passes, the pull is scaled up to match so the total force stays the same
+    private static int cadence = 1;
+
+    private record Magnet(Vec3 pos, double radius, double strength) {}
+
+    private static class Bucket {
+        final Set<ItemEntity> awake = new HashSet<>();
+        final Set<ItemEntity> asleep = new HashSet<>();
+        // Magnets covering this chunk when the sleepers fell asleep
+        long signature;
+
+        boolean isEmpty() {
+            return awake.isEmpty() && asleep.isEmpty();
+        }
+    }
+
+    private static class LevelItems {
+        final Long2ObjectOpenHashMap<Bucket> buckets = new Long2ObjectOpenHashMap<>();
+        final Map<ItemEntity, Long> chunkOf = new IdentityHashMap<>();
+
+        void add(ItemEntity item, long chunk) {
+            Long previous = chunkOf.put(item, chunk);
+            if (previous != null) {
+                if (previous == chunk) return;
+                removeFromBucket(item, previous);
+            }
+            buckets.computeIfAbsent(chunk, k -> new Bucket()).awake.add(item);
+        }
+
+        void remove(ItemEntity item) {
+            Long chunk = chunkOf.remove(item);
+            if (chunk != null) {
+                removeFromBucket(item, chunk);
+            }
+        }
+
+        private void removeFromBucket(ItemEntity item, long chunk) {
+            Bucket bucket = buckets.get(chunk);
+            if (bucket == null) return;
+            bucket.awake.remove(item);
+            bucket.asleep.remove(item);
+            if (bucket.isEmpty()) {
+                buckets.remove(chunk);
+            }
+        }
+    }
+
+    public static int getCadence() {
+        return cadence;
+    }
+
+    public static void setCadence(int ticks) {
+        cadence = Mth.clamp(ticks, 1, MAX_CADENCE);
+    }
+
+    public static int trackedItems() {
+        int total = 0;
+        for (LevelItems items : LEVELS.values()) {
+            total += items.chunkOf.size();
+        }
+        return total;
+    }
+
+    public static int sleepingItems() {
+        int total = 0;
+        for (LevelItems items : LEVELS.values()) {
+            for (Bucket bucket : items.buckets.values()) {
+                total += bucket.asleep.size();
+            }
+        }
+        return total;
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel serverLevel)) return;
+        if (serverLevel.getGameTime() % cadence != 0) return;
+
+        LevelItems items = LEVELS.get(serverLevel.dimension());
+        if (items == null || items.buckets.isEmpty()) return;
+
+        // Chunk -> magnets whose pull box reaches into it, plus a fingerprint of those magnets
+        Long2ObjectOpenHashMap<List<Magnet>> magnetsByChunk = new Long2ObjectOpenHashMap<>();
+        Long2LongOpenHashMap signatures = new Long2LongOpenHashMap();
+        for (ServerPlayer player : serverLevel.players()) {
+            if (!player.isAlive() || player.isSpectator()) continue;
+            int magnetismLevel = player.getItemBySlot(EquipmentSlot.HEAD).getEnchantmentLevel(ModEnchantments.MAGNETISM.get());
+            if (magnetismLevel <= 0) continue;
+
+            double pullRadius = 3.0 + magnetismLevel * 2.0;
+            Magnet magnet = new Magnet(player.position(), pullRadius, 0.1 * magnetismLevel * cadence);
+            long fingerprint = player.blockPosition().asLong() * 31 + magnetismLevel;
+
+            int minX = SectionPos.blockToSectionCoord(player.getX() - pullRadius);
+            int maxX = SectionPos.blockToSectionCoord(player.getX() + pullRadius);
+            int minZ = SectionPos.blockToSectionCoord(player.getZ() - pullRadius);
+            int maxZ = SectionPos.blockToSectionCoord(player.getZ() + pullRadius);
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    long chunk = ChunkPos.asLong(cx, cz);
+                    magnetsByChunk.computeIfAbsent(chunk, k -> new ArrayList<>()).add(magnet);
+                    signatures.put(chunk, signatures.get(chunk) * 31 + fingerprint);
+                }
+            }
+        }
+        if (magnetsByChunk.isEmpty()) return;
+
+        for (Long2ObjectMap.Entry<List<Magnet>> entry : magnetsByChunk.long2ObjectEntrySet()) {
+            Bucket bucket = items.buckets.get(entry.getLongKey());
+            if (bucket == null) continue;
+
+            long signature = signatures.get(entry.getLongKey());
+            if (bucket.signature != signature) {
+                bucket.awake.addAll(bucket.asleep);
+                bucket.asleep.clear();
+                bucket.signature = signature;
+            }
+            attract(bucket, entry.getValue());
+        }
+    }
+
+    private static void attract(Bucket bucket, List<Magnet> magnets) {
+        Iterator<ItemEntity> iterator = bucket.awake.iterator();
+        while (iterator.hasNext()) {
+            ItemEntity item = iterator.next();
+            if (item.isRemoved() || item.getAge() < 10) continue;
+
+            Vec3 itemPos = item.position();
+            Magnet nearest = null;
+            double nearestDistance = Double.MAX_VALUE;
+            for (Magnet magnet : magnets) {
+                Vec3 offset = magnet.pos().subtract(itemPos);
+                if (Math.abs(offset.x) > magnet.radius() || Math.abs(offset.y) > magnet.radius()
+                        || Math.abs(offset.z) > magnet.radius()) continue;
+                double distance = offset.lengthSqr();
+                if (distance < nearestDistance) {
+                    nearestDistance = distance;
+                    nearest = magnet;
+                }
+            }
+
+            if (nearest != null) {
+                Vec3 direction = nearest.pos().subtract(itemPos).normalize();
+                item.setDeltaMovement(item.getDeltaMovement().add(direction.scale(nearest.strength())));
+            } else if (item.onGround() && item.getDeltaMovement().horizontalDistanceSqr() < 1.0E-4) {
+                iterator.remove();
+                bucket.asleep.add(item);
+            }
+        }
+    }
+
+    // ---------------- bucketing ----------------
+
+    @SubscribeEvent
+    public static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getEntity() instanceof ItemEntity item && event.getLevel() instanceof ServerLevel serverLevel) {
+            LEVELS.computeIfAbsent(serverLevel.dimension(), k -> new LevelItems())
+                    .add(item, item.chunkPosition().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEnteringSection(EntityEvent.EnteringSection event) {
+        if (!event.didChunkChange() || !(event.getEntity() instanceof ItemEntity item)) return;
+        if (!(item.level() instanceof ServerLevel serverLevel)) return;
+        LevelItems items = LEVELS.get(serverLevel.dimension());
+        if (items != null && items.chunkOf.containsKey(item)) {
+            items.add(item, event.getNewPos().chunk().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onEntityLeave(EntityLeaveLevelEvent event) {
+        if (event.getEntity() instanceof ItemEntity item && event.getLevel() instanceof ServerLevel serverLevel) {
+            LevelItems items = LEVELS.get(serverLevel.dimension());
+            if (items != null) {
+                items.remove(item);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LEVELS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LEVELS.clear();
+    }
+}
@@ -0,0 +1,129 @@
+package net.autismicannoyance.exadditions.event;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.server.ServerStoppingEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Blocks-mined counter for the Mastery enchantment.
+ *
+ * Progress is a single int in the tool's {@value #BLOCKS_MINED_KEY} tag and the tooltip renders it
+ * on demand, so nothing is written to the lore. Breaks are counted in memory per player and
+ * written to the stack every {@value #FLUSH_EVERY_BREAKS} breaks or after
+ * {@value #FLUSH_EVERY_TICKS} ticks, whichever comes first, so heavy mining costs one stack
+ * update (and one inventory sync) per batch instead of per block.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class MasteryProgress {
+    public static final String BLOCKS_MINED_KEY = "MasteryBlocksMined";
+
+    private static final int FLUSH_EVERY_BREAKS = 16;
+    private static final int FLUSH_EVERY_TICKS = 20;
+
+    // Written on the server thread, but blocksMined is also reached from client-side player ticks,
+    // which in singleplayer run on another thread against this same map
+    private static final Map<UUID, Pending> PENDING = new ConcurrentHashMap<>();
+
+    private static class Pending {
+        final ItemStack tool;
+        final long since;
+        int breaks;
+
+        Pending(ItemStack tool, long since) {
+            this.tool = tool;
+            this.since = since;
+        }
+    }
+
+    /**
+     * Count one block broken with {@code tool}.
+     */
+    public static void record(Player player, ItemStack tool) {
+        Pending pending = PENDING.get(player.getUUID());
+        if (pending != null && pending.tool != tool) {
+            flush(player);
+            pending = null;
+        }
+        if (pending == null) {
+            pending = new Pending(tool, player.level().getGameTime());
+            PENDING.put(player.getUUID(), pending);
+        }
+        if (++pending.breaks >= FLUSH_EVERY_BREAKS) {
+            flush(player);
+        }
+    }
+
+    /**
+     * Blocks mined with {@code tool}, including breaks that haven't been written to it yet.
+     */
+    public static int blocksMined(ItemStack tool) {
+        CompoundTag tag = tool.getTag();
+        int blocksMined = tag != null ? tag.getInt(BLOCKS_MINED_KEY) : 0;
+        for (Pending pending : PENDING.values()) {
+            if (pending.tool == tool) {
+                blocksMined += pending.breaks;
+            }
+        }
+        return blocksMined;
+    }
+
+    private static void flush(Player player) {
+        Pending pending = PENDING.remove(player.getUUID());
+        if (pending == null || pending.breaks <= 0 || pending.tool.isEmpty()) return;
+
+        CompoundTag tag = pending.tool.getOrCreateTag();
+        tag.putInt(BLOCKS_MINED_KEY, tag.getInt(BLOCKS_MINED_KEY) + pending.breaks);
+        removeLegacyLore(pending.tool);
+    }
+
+    // Older versions kept a "Mastery: N mined" lore line on the tool, the tooltip shows this now
+    private static void removeLegacyLore(ItemStack tool) {
+        CompoundTag display = tool.getTagElement("display");
+        if (display == null || !display.contains("Lore", Tag.TAG_LIST)) return;
+
+        ListTag lore = display.getList("Lore", Tag.TAG_STRING);
+        for (int i = 0; i < lore.size(); i++) {
+            if (lore.getString(i).contains("Mastery")) {
+                lore.remove(i);
+                if (lore.isEmpty()) {
+                    display.remove("Lore");
+                }
+                return;
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerTick(TickEvent.PlayerTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || event.player.level().isClientSide() || PENDING.isEmpty()) return;
+        Pending pending = PENDING.get(event.player.getUUID());
+        if (pending != null && event.player.level().getGameTime() - pending.since >= FLUSH_EVERY_TICKS) {
+            flush(event.player);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onPlayerLoggedOut(PlayerEvent.PlayerLoggedOutEvent event) {
+        flush(event.getEntity());
+    }
+
+    @SubscribeEvent
+    public static void onServerStopping(ServerStoppingEvent event) {
+        for (Player player : event.getServer().getPlayerList().getPlayers()) {
+            flush(player);
+        }
+        PENDING.clear();
+    }
+}
@@ -4,23 +4,19 @@ import net.autismicannoyance.exadditions.enchantment.ModEnchantments;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.util.Mth;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.Arrow;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.phys.EntityHitResult;
-import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.event.entity.ProjectileImpactEvent;
 import net.minecraftforge.event.entity.living.LivingDropsEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
-import java.util.List;
 import java.util.UUID;
 
 @Mod.EventBusSubscriber(modid = "exadditions")
@@ -33,10 +29,10 @@ public class ProjectileEnchantmentEvents {
         if (!(entityHit.getEntity() instanceof LivingEntity target)) return;
         if (!(arrow.getOwner() instanceof Player player)) return;
 
-        CompoundTag arrowData = arrow.getPersistentData();
+        EnchantedArrowTracker.ArrowFlags arrowFlags = EnchantedArrowTracker.flags(arrow);
 
         // FROST ENCHANTMENT
-        int frostLevel = arrowData.getInt("FrostLevel");
+        int frostLevel = arrowFlags.frostLevel();
         if (frostLevel > 0) {
             // Apply slowness and freeze effects
             int duration = frostLevel * 40; // 2 seconds per level in ticks
@@ -56,7 +52,7 @@ public class ProjectileEnchantmentEvents {
         }
 
         // CHANCE ENCHANTMENT (looting effect)
-        int chanceLevel = arrowData.getInt("ChanceLevel");
+        int chanceLevel = arrowFlags.chanceLevel();
         if (chanceLevel > 0) {
             // Store looting level on the target for when it dies
             CompoundTag targetData = target.getPersistentData();
@@ -92,52 +88,4 @@ public class ProjectileEnchantmentEvents {
             }
         }
     }
-
-    // HOMING ENCHANTMENT - Update arrow trajectory
-    @SubscribeEvent
-    public static void onArrowTick(net.minecraftforge.event.TickEvent.PlayerTickEvent event) {
-        if (event.phase != net.minecraftforge.event.TickEvent.Phase.END) return;
-        Player player = event.player;
-
-        // Only run on server side to avoid client/server casting issues
-        if (player.level().isClientSide) return;
-
-        // Find all arrows in the world that belong to this player and have homing
-        List<Arrow> arrows = player.level().getEntitiesOfClass(Arrow.class,
-                player.getBoundingBox().inflate(50.0),
-                arrow -> arrow.getOwner() == player && arrow.getPersistentData().getBoolean("IsHoming"));
-
-        for (Arrow arrow : arrows) {
-            CompoundTag arrowData = arrow.getPersistentData();
-            UUID targetUUID = arrowData.getUUID("HomingTarget");
-
-            if (targetUUID != null) {
-                // Now we know we're on server side, so this cast is safe
-                ServerLevel serverLevel = (ServerLevel) arrow.level();
-                Entity targetEntity = serverLevel.getEntity(targetUUID);
-
-                if (targetEntity instanceof LivingEntity target && target.isAlive()) {
-                    // Calculate homing trajectory
-                    Vec3 arrowPos = arrow.position();
-                    Vec3 targetPos = target.position().add(0, target.getBbHeight() / 2, 0);
-                    Vec3 direction = targetPos.subtract(arrowPos).normalize();
-
-                    // Gradually adjust arrow velocity toward target
-                    Vec3 currentVelocity = arrow.getDeltaMovement();
-                    Vec3 newVelocity = currentVelocity.scale(0.9).add(direction.scale(0.1));
-
-                    arrow.setDeltaMovement(newVelocity);
-
-                    // Update arrow rotation to match new direction
-                    arrow.setYRot((float)(Mth.atan2(newVelocity.x, newVelocity.z) * (double)(180F / (float)Math.PI)));
-                    arrow.setXRot((float)(Mth.atan2(newVelocity.y, newVelocity.horizontalDistance()) * (double)(180F / (float)Math.PI)));
-
-                    // Particle effect
-                    serverLevel.sendParticles(ParticleTypes.ENCHANT,
-                            arrowPos.x, arrowPos.y, arrowPos.z,
-                            2, 0.1, 0.1, 0.1, 0.02);
-                }
-            }
-        }
-    }
 }
\ No newline at end of file
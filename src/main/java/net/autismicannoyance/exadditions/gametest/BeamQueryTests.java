@@ -0,0 +1,210 @@
+package net.autismicannoyance.exadditions.gametest;
+
+import com.mojang.logging.LogUtils;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.item.custom.BeamQuery;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.decoration.ArmorStand;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+import org.slf4j.Logger;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Armor stands placed at known offsets from a diagonal beam, checked against {@link BeamQuery}
+ * and against a brute-force reference that samples the beam densely. Also times BeamQuery
+ * against the single box around the whole beam that it replaced.
+ */
+@GameTestHolder(ExAdditions.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class BeamQueryTests {
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final String TEMPLATE = "gametest/empty_24x16x24";
+    // Diagonally across the template on every axis, with room around both ends
+    private static final Vec3 START = new Vec3(3.5, 2.5, 3.5);
+    private static final Vec3 END = new Vec3(20.5, 13.5, 20.5);
+    private static final double ENTRY_STEP_BACK = 0.05;
+    private static final double REFERENCE_STEP = 0.01;
+    private static final int BENCHMARK_ENTITIES = 300;
+    private static final int BENCHMARK_RUNS = 200;
+
+    @GameTest(template = TEMPLATE)
+    public static void capsuleHitsAndMisses(GameTestHelper helper) {
+        Vec3 start = helper.absoluteVec(START);
+        Vec3 end = helper.absoluteVec(END);
+        double radius = 1.5;
+
+        Set<ArmorStand> stands = new HashSet<>();
+        ArmorStand farOnAxis = stand(helper, stands, start, end, 22.0, 0.0);
+        ArmorStand nearOnAxis = stand(helper, stands, start, end, 6.0, 0.0);
+        // Closest box edge 1.15 from the axis: inside the radius
+        ArmorStand nearSide = stand(helper, stands, start, end, 14.0, 1.5);
+        // Closest box edge 2.65 from the axis: outside it
+        ArmorStand farSide = stand(helper, stands, start, end, 18.0, 3.0);
+        // On the axis, but 3 blocks before the start
+        ArmorStand behind = stand(helper, stands, start, end, -3.0, 0.0);
+        // Within the radius of the start point, but wholly behind it: the start cap is flat
+        ArmorStand justBehind = stand(helper, stands, start, end, -1.0, 0.0);
+
+        List<BeamQuery.Hit<ArmorStand>> hits = BeamQuery.capsule(helper.getLevel(), ArmorStand.class, start, end, radius, stands::contains);
+
+        helper.assertValueEqual(hitEntities(hits), Set.of(nearOnAxis, nearSide, farOnAxis), "capsule hits");
+        helper.assertTrue(!hitEntities(hits).contains(farSide) && !hitEntities(hits).contains(behind), "capsule hit a stand outside it");
+        helper.assertTrue(!hitEntities(hits).contains(justBehind), "capsule hit a stand behind its start");
+        helper.assertValueEqual(hits.stream().map(BeamQuery.Hit::entity).toList(), List.of(nearOnAxis, nearSide, farOnAxis), "capsule order");
+        assertEntries(helper, hits, start, end, along -> radius);
+        helper.assertValueEqual(hitEntities(hits), reference(stands, start, end, along -> radius), "capsule vs reference");
+        helper.succeed();
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void coneHitsAndMisses(GameTestHelper helper) {
+        Vec3 start = helper.absoluteVec(START);
+        Vec3 end = helper.absoluteVec(END);
+        DoubleUnaryOperator radiusAt = along -> 0.1 + along * 0.15;
+
+        Set<ArmorStand> stands = new HashSet<>();
+        // Radius about 0.7 here, so 1.5 to the side is a miss...
+        ArmorStand narrowSide = stand(helper, stands, start, end, 4.0, 1.5);
+        // ...and about 3.1 here, where the same offset is a hit
+        ArmorStand wideSide = stand(helper, stands, start, end, 20.0, 1.5);
+        ArmorStand onAxis = stand(helper, stands, start, end, 10.0, 0.0);
+        ArmorStand outside = stand(helper, stands, start, end, 24.0, 5.0);
+
+        List<BeamQuery.Hit<ArmorStand>> hits = BeamQuery.cone(helper.getLevel(), ArmorStand.class, start, end, radiusAt, stands::contains);
+
+        helper.assertValueEqual(hits.stream().map(BeamQuery.Hit::entity).toList(), List.of(onAxis, wideSide), "cone hits in order");
+        helper.assertTrue(!hitEntities(hits).contains(narrowSide) && !hitEntities(hits).contains(outside), "cone hit a stand outside it");
+        assertEntries(helper, hits, start, end, radiusAt);
+        helper.assertValueEqual(hitEntities(hits), reference(stands, start, end, radiusAt), "cone vs reference");
+        helper.succeed();
+    }
+
+    /**
+     * Not a pass/fail timing: logs both lookups and only asserts that BeamQuery looks at fewer
+     * candidates and still finds the same entities.
+     */
+    @GameTest(template = TEMPLATE)
+    public static void benchmarkAgainstSingleBox(GameTestHelper helper) {
+        Vec3 start = helper.absoluteVec(START);
+        Vec3 end = helper.absoluteVec(END);
+        double radius = 1.0;
+
+        Set<ArmorStand> stands = new HashSet<>();
+        RandomSource random = RandomSource.create(7L);
+        for (int i = 0; i < BENCHMARK_ENTITIES; i++) {
+            ArmorStand stand = helper.spawn(EntityType.ARMOR_STAND,
+                    new Vec3(0.5 + random.nextDouble() * 23.0, 0.5 + random.nextDouble() * 14.0, 0.5 + random.nextDouble() * 23.0));
+            stand.setNoGravity(true);
+            stands.add(stand);
+        }
+
+        Set<ArmorStand> beamCandidates = new HashSet<>();
+        List<BeamQuery.Hit<ArmorStand>> hits = BeamQuery.capsule(helper.getLevel(), ArmorStand.class, start, end, radius,
+                stand -> {
+                    if (!stands.contains(stand)) return false;
+                    beamCandidates.add(stand);
+                    return true;
+                });
+        AABB box = new AABB(start, end).inflate(radius);
+        List<ArmorStand> boxCandidates = helper.getLevel().getEntitiesOfClass(ArmorStand.class, box, stands::contains);
+
+        long beamNanos = 0, boxNanos = 0;
+        for (int run = 0; run < BENCHMARK_RUNS; run++) {
+            long t0 = System.nanoTime();
+            BeamQuery.capsule(helper.getLevel(), ArmorStand.class, start, end, radius, stands::contains);
+            long t1 = System.nanoTime();
+            helper.getLevel().getEntitiesOfClass(ArmorStand.class, box, stands::contains);
+            long t2 = System.nanoTime();
+            beamNanos += t1 - t0;
+            boxNanos += t2 - t1;
+        }
+
+        LOGGER.info("BeamQuery: {} candidates, {} hits, {} us/query; single box: {} candidates, {} us/query",
+                beamCandidates.size(), hits.size(), beamNanos / 1000 / BENCHMARK_RUNS,
+                boxCandidates.size(), boxNanos / 1000 / BENCHMARK_RUNS);
+        helper.assertTrue(beamCandidates.size() < boxCandidates.size(),
+                "beam pieces returned " + beamCandidates.size() + " candidates, the single box " + boxCandidates.size());
+        helper.assertValueEqual(hitEntities(hits), reference(stands, start, end, along -> radius), "hits vs reference");
+        helper.succeed();
+    }
+
+    // ---------------- helpers ----------------
+
+    /**
+     * Spawns a floating armor stand whose box centre is {@code along} blocks down the beam and
+     * {@code side} blocks off it, horizontally and at right angles to the beam.
+     */
+    private static ArmorStand stand(GameTestHelper helper, Set<ArmorStand> stands, Vec3 start, Vec3 end, double along, double side) {
+        Vec3 dir = end.subtract(start).normalize();
+        Vec3 across = dir.cross(new Vec3(0, 1, 0)).normalize();
+        Vec3 center = start.add(dir.scale(along)).add(across.scale(side));
+
+        ArmorStand stand = helper.spawn(EntityType.ARMOR_STAND, helper.relativeVec(center));
+        stand.setNoGravity(true);
+        stand.setPos(center.x, center.y - stand.getBbHeight() / 2.0, center.z);
+        stands.add(stand);
+        return stand;
+    }
+
+    private static Set<ArmorStand> hitEntities(List<BeamQuery.Hit<ArmorStand>> hits) {
+        return hits.stream().map(BeamQuery.Hit::entity).collect(Collectors.toSet());
+    }
+
+    // Every entry point sits on the beam, touches the entity, and a step back along the beam doesn't
+    private static void assertEntries(GameTestHelper helper, List<BeamQuery.Hit<ArmorStand>> hits, Vec3 start, Vec3 end,
+                                      DoubleUnaryOperator radiusAt) {
+        Vec3 dir = end.subtract(start).normalize();
+        double previous = Double.NEGATIVE_INFINITY;
+        for (BeamQuery.Hit<ArmorStand> hit : hits) {
+            AABB box = hit.entity().getBoundingBox();
+            double along = hit.along();
+            helper.assertTrue(along >= previous, "hits out of order at " + along);
+            helper.assertTrue(hit.entry().distanceTo(start.add(dir.scale(along))) < 1.0E-6, "entry off the beam at " + along);
+            helper.assertTrue(gap(box, hit.entry(), radiusAt.applyAsDouble(along)) <= 1.0E-6, "entry doesn't touch the entity at " + along);
+            if (along > ENTRY_STEP_BACK) {
+                double before = along - ENTRY_STEP_BACK;
+                helper.assertTrue(gap(box, start.add(dir.scale(before)), radiusAt.applyAsDouble(before)) > 0,
+                        "beam already touched the entity before its entry at " + along);
+            }
+            previous = along;
+        }
+    }
+
+    // Every entity the beam touches, found by walking the beam in tiny steps
+    private static Set<ArmorStand> reference(Set<ArmorStand> stands, Vec3 start, Vec3 end, DoubleUnaryOperator radiusAt) {
+        return stands.stream()
+                .filter(stand -> !Double.isNaN(referenceEntry(stand.getBoundingBox(), start, end, radiusAt)))
+                .collect(Collectors.toSet());
+    }
+
+    private static double referenceEntry(AABB box, Vec3 start, Vec3 end, DoubleUnaryOperator radiusAt) {
+        Vec3 dir = end.subtract(start).normalize();
+        double length = start.distanceTo(end);
+        // Farthest corner along the beam still behind the start: outside the flat start cap
+        double front = new Vec3(dir.x >= 0 ? box.maxX : box.minX, dir.y >= 0 ? box.maxY : box.minY,
+                dir.z >= 0 ? box.maxZ : box.minZ).subtract(start).dot(dir);
+        if (front < 0) return Double.NaN;
+        for (double along = 0; along <= length; along += REFERENCE_STEP) {
+            if (gap(box, start.add(dir.scale(along)), radiusAt.applyAsDouble(along)) <= 0) return along;
+        }
+        return Double.NaN;
+    }
+
+    private static double gap(AABB box, Vec3 point, double radius) {
+        double dx = Math.max(0.0, Math.max(box.minX - point.x, point.x - box.maxX));
+        double dy = Math.max(0.0, Math.max(box.minY - point.y, point.y - box.maxY));
+        double dz = Math.max(0.0, Math.max(box.minZ - point.z, point.z - box.maxZ));
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) - radius;
+    }
+}
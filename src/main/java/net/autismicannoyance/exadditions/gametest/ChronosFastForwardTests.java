@@ -0,0 +1,209 @@
+package net.autismicannoyance.exadditions.gametest;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.item.custom.ChronosFastForward;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.alchemy.PotionUtils;
+import net.minecraft.world.item.alchemy.Potions;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.CropBlock;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BrewingStandBlockEntity;
+import net.minecraft.world.level.block.entity.ChestBlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * The machine tests build two identical setups, run the vanilla ticker on one for N ticks and
+ * {@link ChronosFastForward} on the other in a single step, then compare the end states. Crop
+ * ages are random, so they are compared by distribution instead.
+ *
+ * The real ticking happens inside the test method, so the world's own ticker never gets a turn
+ * between the two runs.
+ */
+@GameTestHolder(ExAdditions.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class ChronosFastForwardTests {
+    private static final String TEMPLATE = "gametest/empty_8x8x8";
+    // The growth chance per tick ChronosImplementItem passes to advanceAge
+    private static final float CROP_CHANCE = 0.3f;
+    private static final int AGE_SEEDS = 2000;
+
+    @GameTest(template = TEMPLATE)
+    public static void furnaceMatchesRealTicks(GameTestHelper helper) {
+        int ticks = 1000;
+        AbstractFurnaceBlockEntity real = furnace(helper, new BlockPos(1, 1, 1));
+        AbstractFurnaceBlockEntity fast = furnace(helper, new BlockPos(5, 1, 1));
+
+        ServerLevel level = helper.getLevel();
+        for (int i = 0; i < ticks; i++) {
+            AbstractFurnaceBlockEntity.serverTick(level, real.getBlockPos(), level.getBlockState(real.getBlockPos()), real);
+        }
+        ChronosFastForward.furnace(fast, ticks);
+
+        assertSameItems(helper, real, fast);
+        CompoundTag realTag = real.saveWithoutMetadata();
+        CompoundTag fastTag = fast.saveWithoutMetadata();
+        helper.assertValueEqual(realTag.getInt("CookTime"), fastTag.getInt("CookTime"), "cook progress");
+        // The closed form doesn't spend the tick the real furnace loses when it lights a fuel item
+        int burnDiff = Math.abs(realTag.getInt("BurnTime") - fastTag.getInt("BurnTime"));
+        helper.assertTrue(burnDiff <= 1, "burn time differs by " + burnDiff);
+        helper.succeed();
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void brewingStandMatchesRealTicks(GameTestHelper helper) {
+        int ticks = 600;
+        BrewingStandBlockEntity real = brewingStand(helper, new BlockPos(1, 1, 1));
+        BrewingStandBlockEntity fast = brewingStand(helper, new BlockPos(5, 1, 1));
+
+        ServerLevel level = helper.getLevel();
+        for (int i = 0; i < ticks; i++) {
+            BrewingStandBlockEntity.serverTick(level, real.getBlockPos(), level.getBlockState(real.getBlockPos()), real);
+        }
+        ChronosFastForward.brewingStand(fast, ticks);
+
+        assertSameItems(helper, real, fast);
+        CompoundTag realTag = real.saveWithoutMetadata();
+        CompoundTag fastTag = fast.saveWithoutMetadata();
+        helper.assertValueEqual(realTag.getInt("BrewTime"), fastTag.getInt("BrewTime"), "brew time");
+        helper.assertValueEqual(realTag.getInt("Fuel"), fastTag.getInt("Fuel"), "fuel");
+        helper.succeed();
+    }
+
+    @GameTest(template = TEMPLATE)
+    public static void hopperMatchesRealTicks(GameTestHelper helper) {
+        int ticks = 64;
+        HopperBlockEntity real = hopper(helper, new BlockPos(1, 2, 1));
+        HopperBlockEntity fast = hopper(helper, new BlockPos(5, 2, 1));
+
+        ServerLevel level = helper.getLevel();
+        for (int i = 0; i < ticks; i++) {
+            HopperBlockEntity.pushItemsTick(level, real.getBlockPos(), level.getBlockState(real.getBlockPos()), real);
+        }
+        ChronosFastForward.hopper(fast, ticks);
+
+        ChestBlockEntity realChest = helper.getBlockEntity(new BlockPos(1, 1, 1));
+        ChestBlockEntity fastChest = helper.getBlockEntity(new BlockPos(5, 1, 1));
+        assertSameItems(helper, real, fast);
+        assertSameItems(helper, realChest, fastChest);
+        helper.succeed();
+    }
+
+    /**
+     * advanceAge against the per-tick {@code nextFloat() < chance} loop it replaced, over spans
+     * short enough that the crop doesn't reach full age, and sampleSuccesses on its own for counts
+     * large enough to take the normal approximation. Both are random, so this compares the mean
+     * over many seeds and checks that every result stays in range.
+     */
+    @GameTest(template = TEMPLATE)
+    public static void cropAgeMatchesPerTickRolls(GameTestHelper helper) {
+        BlockState seedling = Blocks.WHEAT.defaultBlockState();
+        for (int ticks : new int[] {5, 10, 15}) {
+            double[] fast = new double[AGE_SEEDS];
+            double[] looped = new double[AGE_SEEDS];
+            for (int seed = 0; seed < AGE_SEEDS; seed++) {
+                fast[seed] = ChronosFastForward.advanceAge(seedling, CropBlock.AGE, ticks, CROP_CHANCE, RandomSource.create(seed));
+                looped[seed] = perTickAge(ticks, RandomSource.create(seed + AGE_SEEDS));
+                helper.assertTrue(fast[seed] >= 0 && fast[seed] <= CropBlock.MAX_AGE, "age " + fast[seed] + " out of range");
+            }
+            assertSameMean(helper, "crop age after " + ticks + " ticks", fast, looped);
+        }
+
+        for (int trials : new int[] {100, 1000}) {
+            double[] fast = new double[AGE_SEEDS];
+            double[] looped = new double[AGE_SEEDS];
+            for (int seed = 0; seed < AGE_SEEDS; seed++) {
+                fast[seed] = ChronosFastForward.sampleSuccesses(trials, CROP_CHANCE, RandomSource.create(seed));
+                looped[seed] = perTickSuccesses(trials, RandomSource.create(seed + AGE_SEEDS));
+                helper.assertTrue(fast[seed] >= 0 && fast[seed] <= trials, "successes " + fast[seed] + " out of range");
+            }
+            assertSameMean(helper, "successes in " + trials + " rolls", fast, looped);
+        }
+        helper.succeed();
+    }
+
+    // ---------------- setups ----------------
+
+    private static AbstractFurnaceBlockEntity furnace(GameTestHelper helper, BlockPos pos) {
+        helper.setBlock(pos, Blocks.FURNACE);
+        AbstractFurnaceBlockEntity furnace = helper.getBlockEntity(pos);
+        furnace.setItem(0, new ItemStack(Items.RAW_IRON, 8));
+        furnace.setItem(1, new ItemStack(Items.COAL, 1));
+        return furnace;
+    }
+
+    private static BrewingStandBlockEntity brewingStand(GameTestHelper helper, BlockPos pos) {
+        helper.setBlock(pos, Blocks.BREWING_STAND);
+        BrewingStandBlockEntity stand = helper.getBlockEntity(pos);
+        for (int slot = 0; slot < 3; slot++) {
+            stand.setItem(slot, PotionUtils.setPotion(new ItemStack(Items.POTION), Potions.WATER));
+        }
+        stand.setItem(3, new ItemStack(Items.NETHER_WART, 2));
+        stand.setItem(4, new ItemStack(Items.BLAZE_POWDER, 1));
+        return stand;
+    }
+
+    // A hopper facing down into a chest, holding fewer items than the run can move
+    private static HopperBlockEntity hopper(GameTestHelper helper, BlockPos pos) {
+        helper.setBlock(pos.below(), Blocks.CHEST);
+        helper.setBlock(pos, Blocks.HOPPER);
+        HopperBlockEntity hopper = helper.getBlockEntity(pos);
+        hopper.setItem(0, new ItemStack(Items.COBBLESTONE, 5));
+        return hopper;
+    }
+
+    private static void assertSameItems(GameTestHelper helper, Container real, Container fast) {
+        for (int slot = 0; slot < real.getContainerSize(); slot++) {
+            ItemStack expected = real.getItem(slot);
+            ItemStack actual = fast.getItem(slot);
+            helper.assertTrue(ItemStack.matches(expected, actual),
+                    "slot " + slot + ": expected " + expected + ", got " + actual);
+        }
+    }
+
+    // ---------------- per-tick reference ----------------
+
+    private static int perTickAge(int ticks, RandomSource random) {
+        return Math.min(CropBlock.MAX_AGE, perTickSuccesses(ticks, random));
+    }
+
+    private static int perTickSuccesses(int ticks, RandomSource random) {
+        int successes = 0;
+        for (int i = 0; i < ticks; i++) {
+            if (random.nextFloat() < CROP_CHANCE) successes++;
+        }
+        return successes;
+    }
+
+    // Means within four standard errors of each other
+    private static void assertSameMean(GameTestHelper helper, String name, double[] fast, double[] looped) {
+        double fastMean = mean(fast);
+        double loopedMean = mean(looped);
+        double error = Math.sqrt((variance(fast, fastMean) + variance(looped, loopedMean)) / fast.length);
+        helper.assertTrue(Math.abs(fastMean - loopedMean) <= 4 * error + 1.0E-9,
+                name + ": mean " + fastMean + ", per-tick loop " + loopedMean);
+    }
+
+    private static double mean(double[] values) {
+        double sum = 0;
+        for (double value : values) sum += value;
+        return sum / values.length;
+    }
+
+    private static double variance(double[] values, double mean) {
+        double sum = 0;
+        for (double value : values) sum += (value - mean) * (value - mean);
+        return sum / (values.length - 1);
+    }
+}
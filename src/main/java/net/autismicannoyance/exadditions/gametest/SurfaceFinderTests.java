@@ -0,0 +1,119 @@
+package net.autismicannoyance.exadditions.gametest;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.autismicannoyance.exadditions.item.custom.VoidPortalItem;
+import net.autismicannoyance.exadditions.world.SurfaceFinder;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.gametest.GameTestHolder;
+import net.minecraftforge.gametest.PrefixGameTestTemplate;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Builds awkward columns (overhangs, ground right under a section boundary below an empty
+ * section, leaves, lava, water, replaceable plants) and checks that
+ * {@link SurfaceFinder#findSurface} agrees with a plain top-down scan for every ground/open pair
+ * the mod passes it, from several starting heights.
+ */
+@GameTestHolder(ExAdditions.MOD_ID)
+@PrefixGameTestTemplate(false)
+public class SurfaceFinderTests {
+    private static final String TEMPLATE = "gametest/empty_8x48x8";
+
+    private record Rule(String name, Predicate<BlockState> ground, Predicate<BlockState> open) {}
+
+    // The pairs VoidPortalItem and HeadlessZombie search with
+    private static final List<Rule> RULES = List.of(
+            new Rule("overworld portal", VoidPortalItem::isSafeGround, VoidPortalItem::isPassable),
+            new Rule("void portal", VoidPortalItem::isSafeVoidGround,
+                    state -> VoidPortalItem.isPassable(state) && !VoidPortalItem.isLava(state)),
+            new Rule("headless zombie", SurfaceFinder.NOT_AIR, SurfaceFinder.IS_AIR));
+
+    @GameTest(template = TEMPLATE)
+    public static void matchesTopDownScan(GameTestHelper helper) {
+        int base = helper.absolutePos(BlockPos.ZERO).getY();
+        // First section boundary at least 16 blocks up; the section starting there stays empty
+        int boundary = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(base + 15) + 1) - base;
+
+        // Ground right under the boundary, so feet and head sit in the empty section
+        fill(helper, 1, 1, 1, boundary - 1, Blocks.STONE);
+        // Feet under the boundary, head in the empty section
+        fill(helper, 3, 1, 1, boundary - 2, Blocks.STONE);
+        // A two-block gap under the boundary, and a floating block above the empty section
+        fill(helper, 5, 1, 1, boundary - 3, Blocks.STONE);
+        fill(helper, 5, 1, boundary + 16, boundary + 16, Blocks.STONE);
+        // Glass, which portals treat as passable
+        fill(helper, 7, 1, 1, 2, Blocks.STONE);
+        fill(helper, 7, 1, 3, 3, Blocks.GLASS);
+        fill(helper, 7, 1, 5, 5, Blocks.GLASS);
+        // Overhangs with one and two blocks of head room under them
+        fill(helper, 1, 3, 1, 3, Blocks.STONE);
+        fill(helper, 1, 3, 5, 5, Blocks.STONE);
+        fill(helper, 1, 3, 8, 8, Blocks.STONE);
+        // Leaves on top of stone
+        fill(helper, 3, 3, 1, boundary - 3, Blocks.STONE);
+        fill(helper, 3, 3, boundary - 2, boundary - 1, Blocks.OAK_LEAVES);
+        // Lava on the ground, and a floating lava source above a pocket of air
+        fill(helper, 5, 3, 1, 5, Blocks.STONE);
+        fill(helper, 5, 3, 6, 6, Blocks.LAVA);
+        fill(helper, 7, 3, 1, 3, Blocks.STONE);
+        fill(helper, 7, 3, 6, 6, Blocks.LAVA);
+        // Water two deep
+        fill(helper, 1, 5, 1, 4, Blocks.STONE);
+        fill(helper, 1, 5, 5, 6, Blocks.WATER);
+        // Grass with a replaceable plant on it
+        fill(helper, 3, 5, 1, 3, Blocks.GRASS_BLOCK);
+        fill(helper, 3, 5, 4, 4, Blocks.GRASS);
+        // Column 5, 5 stays empty
+
+        ServerLevel level = helper.getLevel();
+        int[] fromYs = {47, boundary + 16, boundary + 4, boundary - 1, boundary - 2, 4};
+        int[] toYs = {0, 3};
+        int[][] columns = {{1, 1}, {3, 1}, {5, 1}, {7, 1}, {1, 3}, {3, 3}, {5, 3}, {7, 3}, {1, 5}, {3, 5}, {5, 5}};
+
+        for (int[] column : columns) {
+            BlockPos origin = helper.absolutePos(new BlockPos(column[0], 0, column[1]));
+            for (Rule rule : RULES) {
+                for (int fromY : fromYs) {
+                    for (int toY : toYs) {
+                        BlockPos expected = topDown(level, origin.getX(), origin.getZ(), base + fromY, base + toY, rule.ground, rule.open);
+                        BlockPos actual = SurfaceFinder.findSurface(level, origin.getX(), origin.getZ(), base + fromY, base + toY, rule.ground, rule.open);
+                        helper.assertTrue(Objects.equals(expected, actual), rule.name + " in column " + column[0] + "," + column[1]
+                                + " from y+" + fromY + " to y+" + toY + ": expected " + expected + ", got " + actual);
+                    }
+                }
+            }
+        }
+        helper.succeed();
+    }
+
+    private static void fill(GameTestHelper helper, int x, int z, int fromY, int toY, Block block) {
+        for (int y = fromY; y <= toY; y++) {
+            helper.setBlock(new BlockPos(x, y, z), block);
+        }
+    }
+
+    // Every y from the top down, three block lookups each
+    @Nullable
+    private static BlockPos topDown(ServerLevel level, int x, int z, int fromY, int toY,
+                                    Predicate<BlockState> ground, Predicate<BlockState> open) {
+        for (int y = fromY; y >= Math.max(toY, level.getMinBuildHeight()); y--) {
+            if (ground.test(level.getBlockState(new BlockPos(x, y, z)))
+                    && open.test(level.getBlockState(new BlockPos(x, y + 1, z)))
+                    && open.test(level.getBlockState(new BlockPos(x, y + 2, z)))) {
+                return new BlockPos(x, y + 1, z);
+            }
+        }
+        return null;
+    }
+}
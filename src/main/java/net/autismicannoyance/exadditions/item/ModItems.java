@@ -41,7 +41,7 @@ public class ModItems {
             () -> new MetalDetectorItem(new Item.Properties().durability(100)));
 
     public static final RegistryObject<Item> METAL_DETECTOR_V2 = ITEMS.register("metal_detector_v2",
-            () -> new MetalDetectorV2Item(new Item.Properties().durability(500)));
+            () -> new MetalDetectorV2Item(new Item.Properties().durability(500), 1));
 
     public static final RegistryObject<Item> FIRE_RESIST_CHARM = ITEMS.register("fire_resist_charm",
             () -> new FireResistCharmItem(new Item.Properties()
@@ -1,5 +1,7 @@
 package net.autismicannoyance.exadditions.item.custom;
 
+import net.autismicannoyance.exadditions.event.HijackFollowerPaths;
+import net.autismicannoyance.exadditions.event.HijackOwnership;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.LivingEntity;
@@ -23,10 +25,8 @@ import net.minecraft.world.phys.Vec3;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.server.level.ServerLevel;
 
-import java.util.UUID;
 import java.util.EnumSet;
 
 public class AIHijackerItem extends Item {
@@ -53,7 +53,7 @@ public class AIHijackerItem extends Item {
         Mob mob = (Mob) target;
 
         // Check if already hijacked by this player
-        if (isHijackedByPlayer(mob, player.getUUID())) {
+        if (HijackOwnership.isOwnedBy(mob, player.getUUID())) {
             // Show "already controlled" particles (red)
             if (level instanceof ServerLevel serverLevel) {
                 showFailureParticles(serverLevel, target.position());
@@ -75,7 +75,7 @@ public class AIHijackerItem extends Item {
             hijackMobAI(mob, player);
 
             // Mark the mob as hijacked by this player
-            markAsHijacked(mob, player.getUUID());
+            HijackOwnership.setOwner(mob, player.getUUID());
 
             // Damage the item (consumes durability)
             stack.hurtAndBreak(1, player, (p) -> p.broadcastBreakEvent(hand));
@@ -129,34 +129,9 @@ public class AIHijackerItem extends Item {
         mob.setGlowingTag(true);
     }
 
-    private void markAsHijacked(Mob mob, UUID playerUUID) {
-        CompoundTag persistentData = mob.getPersistentData();
-        persistentData.putString("ExAdditions_HijackedBy", playerUUID.toString());
-        persistentData.putLong("ExAdditions_HijackedTime", mob.level().getGameTime());
-    }
-
-    private boolean isHijackedByPlayer(Mob mob, UUID playerUUID) {
-        CompoundTag persistentData = mob.getPersistentData();
-        if (persistentData.contains("ExAdditions_HijackedBy")) {
-            String hijackerUUID = persistentData.getString("ExAdditions_HijackedBy");
-            return hijackerUUID.equals(playerUUID.toString());
-        }
-        return false;
-    }
-
-    // Check if a mob is hijacked by any player
-    public static boolean isHijackedByAnyPlayer(Mob mob) {
-        CompoundTag persistentData = mob.getPersistentData();
-        return persistentData.contains("ExAdditions_HijackedBy");
-    }
-
-    // Get the owner of a hijacked mob
-    public static UUID getHijackOwner(Mob mob) {
-        CompoundTag persistentData = mob.getPersistentData();
-        if (persistentData.contains("ExAdditions_HijackedBy")) {
-            return UUID.fromString(persistentData.getString("ExAdditions_HijackedBy"));
-        }
-        return null;
+    // Hijacked mobs never turn on other mobs controlled by the same player
+    private static boolean isAllyOf(LivingEntity entity, Player owner) {
+        return entity instanceof Mob mob && HijackOwnership.getHijackedBy(owner.getUUID()).contains(mob);
     }
 
     private void showSuccessParticles(ServerLevel level, Vec3 pos) {
@@ -259,7 +234,7 @@ public class AIHijackerItem extends Item {
             mob.getLookControl().setLookAt(owner, 10.0F, (float)mob.getMaxHeadXRot());
             if (--timeToRecalcPath <= 0) {
                 timeToRecalcPath = 10;
-                mob.getNavigation().moveTo(owner, speedModifier);
+                HijackFollowerPaths.moveToOwner(mob, owner, speedModifier);
             }
         }
     }
@@ -285,12 +260,7 @@ public class AIHijackerItem extends Item {
             if (ownerLastHurt == null) return false;
 
             // Don't attack other hijacked mobs from the same owner
-            if (ownerLastHurt instanceof Mob targetMob && isHijackedByAnyPlayer(targetMob)) {
-                UUID targetOwner = getHijackOwner(targetMob);
-                if (targetOwner != null && targetOwner.equals(owner.getUUID())) {
-                    return false;
-                }
-            }
+            if (isAllyOf(ownerLastHurt, owner)) return false;
 
             return i != timestamp && this.canAttack(ownerLastHurt, TargetingConditions.forCombat());
         }
@@ -324,12 +294,7 @@ public class AIHijackerItem extends Item {
             if (ownerLastHurtBy == null) return false;
 
             // Don't attack other hijacked mobs from the same owner
-            if (ownerLastHurtBy instanceof Mob attackerMob && isHijackedByAnyPlayer(attackerMob)) {
-                UUID attackerOwner = getHijackOwner(attackerMob);
-                if (attackerOwner != null && attackerOwner.equals(owner.getUUID())) {
-                    return false;
-                }
-            }
+            if (isAllyOf(ownerLastHurtBy, owner)) return false;
 
             return i != timestamp && this.canAttack(ownerLastHurtBy, TargetingConditions.forCombat());
         }
@@ -366,12 +331,9 @@ public class AIHijackerItem extends Item {
             if (target == null || !target.isAlive()) return;
 
             // Don't attack other hijacked mobs from the same owner
-            if (target instanceof Mob targetMob && isHijackedByAnyPlayer(targetMob)) {
-                UUID targetOwner = getHijackOwner(targetMob);
-                if (targetOwner != null && targetOwner.equals(owner.getUUID())) {
-                    mob.setTarget(null);
-                    return;
-                }
+            if (isAllyOf(target, owner)) {
+                mob.setTarget(null);
+                return;
             }
 
             PathNavigation nav = mob.getNavigation();
@@ -7,6 +7,7 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -22,6 +23,7 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.phys.Vec3;
 import net.autismicannoyance.exadditions.world.dimension.ArcanePouchDimensionManager;
+import net.autismicannoyance.exadditions.world.dimension.ArcanePouchIndex;
 import net.minecraftforge.common.util.ITeleporter;
 
 import javax.annotation.Nullable;
@@ -49,6 +51,24 @@ public class ArcanePouchItem extends Item {
         return tag.getUUID(TAG_POUCH_UUID);
     }
 
+    /**
+     * Like getPouchUUID but never creates the tag, for lookups over arbitrary stacks.
+     */
+    @Nullable
+    public static UUID peekPouchUUID(ItemStack stack) {
+        if (!(stack.getItem() instanceof ArcanePouchItem)) return null;
+        CompoundTag tag = stack.getTag();
+        return tag != null && tag.hasUUID(TAG_POUCH_UUID) ? tag.getUUID(TAG_POUCH_UUID) : null;
+    }
+
+    @Override
+    public void inventoryTick(ItemStack stack, Level level, Entity entity, int slotId, boolean isSelected) {
+        if (level.isClientSide || !(entity instanceof ServerPlayer player)) return;
+        // slotId is per-compartment (armor/offhand restart at 0), -1 lets the index re-scan once
+        int slot = player.getInventory().getItem(slotId) == stack ? slotId : -1;
+        ArcanePouchIndex.trackPlayerSlot(player, stack, slot);
+    }
+
     @Override
     public InteractionResult interactLivingEntity(ItemStack stack, Player player, LivingEntity target, InteractionHand hand) {
         if (player.level().isClientSide) return InteractionResult.SUCCESS;
@@ -342,7 +362,7 @@ public class ArcanePouchItem extends Item {
     }
 
     public static void handleMobDeath(ServerLevel level, LivingEntity entity, UUID pouchUUID) {
-        ItemStack pouchStack = findPouchByUUID(level, pouchUUID);
+        ItemStack pouchStack = ArcanePouchIndex.find(level.getServer(), pouchUUID);
         if (pouchStack.isEmpty()) return;
 
         CompoundTag mobTag = new CompoundTag();
@@ -365,19 +385,6 @@ public class ArcanePouchItem extends Item {
         pouchStack.getOrCreateTag().put(TAG_MOBS, mobs);
     }
 
-    private static ItemStack findPouchByUUID(ServerLevel level, UUID pouchUUID) {
-        for (ServerLevel world : level.getServer().getAllLevels()) {
-            for (Player player : world.players()) {
-                for (ItemStack stack : player.getInventory().items) {
-                    if (stack.getItem() instanceof ArcanePouchItem && getPouchUUID(stack).equals(pouchUUID)) {
-                        return stack;
-                    }
-                }
-            }
-        }
-        return ItemStack.EMPTY;
-    }
-
     public static record ArcanePouchTooltip(UUID pouchUUID) implements TooltipComponent {}
 
     @Override
@@ -0,0 +1,190 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Entity hit tests for beams: capsules (constant radius), cones (radius varying along the beam)
+ * and polylines of capsules.
+ *
+ * Instead of one AABB around the whole beam, which for a diagonal beam covers a huge cube of
+ * entity sections, the beam is cut into section-sized pieces and only the tight box around each
+ * piece is looked up. Candidates are then tested with their bounding box against the swept
+ * shape, not just their centre. The start of the beam is cut flat, so entities entirely behind
+ * it are never hit; the far end stays rounded. Hits come back sorted by distance along the beam
+ * together with the point where the beam first touches them.
+ */
+public final class BeamQuery {
+    // One entity section; pieces longer than this start pulling in sections the beam never crosses
+    private static final double PIECE_LENGTH = 16.0;
+    // Spacing of the coarse samples along a candidate's stretch of beam before refining
+    private static final double SAMPLE_STEP = 0.25;
+    private static final int MAX_SAMPLES = 64;
+    private static final int REFINE_ITERATIONS = 24;
+
+    public record Hit<T extends Entity>(T entity, double along, Vec3 entry) {}
+
+    private BeamQuery() {}
+
+    /**
+     * Entities whose bounding box comes within {@code radius} of the segment start-end.
+     */
+    public static <T extends Entity> List<Hit<T>> capsule(Level level, Class<T> type, Vec3 start, Vec3 end,
+                                                          double radius, Predicate<? super T> filter) {
+        return cone(level, type, start, end, along -> radius, filter);
+    }
+
+    /**
+     * Entities whose bounding box comes within {@code radiusAt(d)} of the point {@code d} blocks
+     * along the segment start-end.
+     */
+    public static <T extends Entity> List<Hit<T>> cone(Level level, Class<T> type, Vec3 start, Vec3 end,
+                                                       DoubleUnaryOperator radiusAt, Predicate<? super T> filter) {
+        List<Hit<T>> hits = new ArrayList<>();
+        sweep(level, type, start, end, radiusAt, 0.0, filter, new IntOpenHashSet(), hits);
+        hits.sort(Comparator.comparingDouble(Hit::along));
+        return hits;
+    }
+
+    /**
+     * Entities within {@code radius} of a polyline; {@link Hit#along()} is measured along the
+     * whole path and each entity is reported once, at its first contact.
+     */
+    public static <T extends Entity> List<Hit<T>> path(Level level, Class<T> type, List<Vec3> points,
+                                                       double radius, Predicate<? super T> filter) {
+        List<Hit<T>> hits = new ArrayList<>();
+        IntOpenHashSet tested = new IntOpenHashSet();
+        double offset = 0.0;
+        for (int i = 0; i + 1 < points.size(); i++) {
+            Vec3 from = points.get(i);
+            Vec3 to = points.get(i + 1);
+            // Every leg tests its own candidates; an entity is reported for the first leg it touches
+            List<Hit<T>> legHits = new ArrayList<>();
+            IntOpenHashSet legTested = new IntOpenHashSet();
+            sweep(level, type, from, to, along -> radius, offset, filter, legTested, legHits);
+            for (Hit<T> hit : legHits) {
+                if (tested.add(hit.entity().getId())) {
+                    hits.add(hit);
+                }
+            }
+            offset += from.distanceTo(to);
+        }
+        hits.sort(Comparator.comparingDouble(Hit::along));
+        return hits;
+    }
+
+    private static <T extends Entity> void sweep(Level level, Class<T> type, Vec3 start, Vec3 end,
+                                                 DoubleUnaryOperator radiusAt, double offset, Predicate<? super T> filter,
+                                                 IntOpenHashSet tested, List<Hit<T>> hits) {
+        Vec3 axis = end.subtract(start);
+        double length = axis.length();
+        Vec3 dir = length < 1.0E-6 ? Vec3.ZERO : axis.scale(1.0 / length);
+        int pieces = Math.max(1, Mth.ceil(length / PIECE_LENGTH));
+
+        for (int piece = 0; piece < pieces; piece++) {
+            double from = length * piece / pieces;
+            double to = length * (piece + 1) / pieces;
+            double pieceRadius = Math.max(radiusAt.applyAsDouble(from),
+                    Math.max(radiusAt.applyAsDouble((from + to) / 2.0), radiusAt.applyAsDouble(to)));
+            AABB box = new AABB(start.add(dir.scale(from)), start.add(dir.scale(to))).inflate(pieceRadius);
+
+            for (T entity : level.getEntitiesOfClass(type, box, filter::test)) {
+                if (!tested.add(entity.getId())) continue;
+                double entry = entry(entity.getBoundingBox(), start, dir, length, radiusAt, pieceRadius);
+                if (!Double.isNaN(entry)) {
+                    hits.add(new Hit<>(entity, offset + entry, start.add(dir.scale(entry))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Smallest distance along the beam at which it touches {@code box}, or NaN if it never does.
+     */
+    private static double entry(AABB box, Vec3 start, Vec3 dir, double length, DoubleUnaryOperator radiusAt, double radiusBound) {
+        // Stretch of the beam whose cross-section can reach the box at all
+        double center = box.getCenter().subtract(start).dot(dir);
+        double halfExtent = (Math.abs(dir.x) * box.getXsize() + Math.abs(dir.y) * box.getYsize()
+                + Math.abs(dir.z) * box.getZsize()) / 2.0;
+        // Flat start cap: nothing wholly behind the start, however close, so casters don't hit behind themselves
+        if (center + halfExtent < 0.0) return Double.NaN;
+        double lo = Math.max(0.0, center - halfExtent - radiusBound);
+        double hi = Math.min(length, center + halfExtent + radiusBound);
+        if (lo > hi) {
+            // The widest piece radius can underestimate a cone further along; fall back to the whole beam
+            lo = 0.0;
+            hi = length;
+        }
+
+        int samples = Mth.clamp(Mth.ceil((hi - lo) / SAMPLE_STEP), 1, MAX_SAMPLES);
+        double step = (hi - lo) / samples;
+        double previous = lo;
+        double best = lo;
+        double bestGap = gap(box, start, dir, radiusAt, lo);
+        if (bestGap <= 0) return lo;
+
+        for (int i = 1; i <= samples; i++) {
+            double t = lo + step * i;
+            double gap = gap(box, start, dir, radiusAt, t);
+            if (gap <= 0) {
+                return firstContact(box, start, dir, radiusAt, previous, t);
+            }
+            if (gap < bestGap) {
+                bestGap = gap;
+                best = t;
+            }
+            previous = t;
+        }
+
+        // No sample touched; the closest approach may still sit between samples
+        double a = Math.max(lo, best - step);
+        double b = Math.min(hi, best + step);
+        for (int i = 0; i < REFINE_ITERATIONS; i++) {
+            double m1 = a + (b - a) / 3.0;
+            double m2 = b - (b - a) / 3.0;
+            if (gap(box, start, dir, radiusAt, m1) < gap(box, start, dir, radiusAt, m2)) {
+                b = m2;
+            } else {
+                a = m1;
+            }
+        }
+        double closest = (a + b) / 2.0;
+        if (gap(box, start, dir, radiusAt, closest) > 0) return Double.NaN;
+        return firstContact(box, start, dir, radiusAt, Math.max(lo, closest - step), closest);
+    }
+
+    // Bisect between a point outside the shape (outside) and one touching it (inside)
+    private static double firstContact(AABB box, Vec3 start, Vec3 dir, DoubleUnaryOperator radiusAt, double outside, double inside) {
+        if (gap(box, start, dir, radiusAt, outside) <= 0) return outside;
+        for (int i = 0; i < REFINE_ITERATIONS; i++) {
+            double mid = (outside + inside) / 2.0;
+            if (gap(box, start, dir, radiusAt, mid) <= 0) {
+                inside = mid;
+            } else {
+                outside = mid;
+            }
+        }
+        return inside;
+    }
+
+    // Distance from the beam's cross-section at t to the box, negative or zero when they overlap
+    private static double gap(AABB box, Vec3 start, Vec3 dir, DoubleUnaryOperator radiusAt, double t) {
+        double x = start.x + dir.x * t;
+        double y = start.y + dir.y * t;
+        double z = start.z + dir.z * t;
+        double dx = Math.max(0.0, Math.max(box.minX - x, x - box.maxX));
+        double dy = Math.max(0.0, Math.max(box.minY - y, y - box.maxY));
+        double dz = Math.max(0.0, Math.max(box.minZ - z, z - box.maxZ));
+        return Math.sqrt(dx * dx + dy * dy + dz * dz) - radiusAt.applyAsDouble(t);
+    }
+}
@@ -22,14 +22,15 @@ import java.util.Random;
  * Item for creating functional black holes with physics interactions
  */
 public class BlackHoleGeneratorItem extends Item {
-    private static final String SIZE_TAG = "black_hole_size";
-    private static final String ROTATION_SPEED_TAG = "rotation_speed";
-    private static final String LIFETIME_TAG = "lifetime";
-
     private static final float DEFAULT_SIZE = 2.0f;
     private static final float DEFAULT_ROTATION_SPEED = 0.02f;
     private static final int DEFAULT_LIFETIME = 2400; // 2 minutes for visual effect only
 
+    private static final PackedItemData DATA = new PackedItemData("BlackHoleGeneratorData");
+    private static final PackedItemData.FloatField SIZE = DATA.floatField(DEFAULT_SIZE, "black_hole_size");
+    private static final PackedItemData.FloatField ROTATION_SPEED = DATA.floatField(DEFAULT_ROTATION_SPEED, "rotation_speed");
+    private static final PackedItemData.IntField LIFETIME = DATA.intField(DEFAULT_LIFETIME, "lifetime");
+
     private static final Random RAND = new Random();
 
     public BlackHoleGeneratorItem(Properties props) {
@@ -98,36 +99,27 @@ public class BlackHoleGeneratorItem extends Item {
 
     // NBT getter/setter methods
     public static float getSize(ItemStack stack) {
-        if (stack.hasTag() && stack.getTag().contains(SIZE_TAG)) {
-            return stack.getTag().getFloat(SIZE_TAG);
-        }
-        return DEFAULT_SIZE;
+        return SIZE.get(stack);
     }
 
     public static void setSize(ItemStack stack, float size) {
-        stack.getOrCreateTag().putFloat(SIZE_TAG, Math.max(0.1f, Math.min(10.0f, size)));
+        SIZE.set(stack, Math.max(0.1f, Math.min(10.0f, size)));
     }
 
     public static float getRotationSpeed(ItemStack stack) {
-        if (stack.hasTag() && stack.getTag().contains(ROTATION_SPEED_TAG)) {
-            return stack.getTag().getFloat(ROTATION_SPEED_TAG);
-        }
-        return DEFAULT_ROTATION_SPEED;
+        return ROTATION_SPEED.get(stack);
     }
 
     public static void setRotationSpeed(ItemStack stack, float speed) {
-        stack.getOrCreateTag().putFloat(ROTATION_SPEED_TAG, Math.max(0.001f, Math.min(0.5f, speed)));
+        ROTATION_SPEED.set(stack, Math.max(0.001f, Math.min(0.5f, speed)));
     }
 
     public static int getLifetime(ItemStack stack) {
-        if (stack.hasTag() && stack.getTag().contains(LIFETIME_TAG)) {
-            return stack.getTag().getInt(LIFETIME_TAG);
-        }
-        return DEFAULT_LIFETIME;
+        return LIFETIME.get(stack);
     }
 
     public static void setLifetime(ItemStack stack, int lifetime) {
-        stack.getOrCreateTag().putInt(LIFETIME_TAG, Math.max(100, Math.min(72000, lifetime))); // 5s to 1 hour
+        LIFETIME.set(stack, Math.max(100, Math.min(72000, lifetime))); // 5s to 1 hour
     }
 
     @Override
@@ -136,15 +136,17 @@ public class BoundlessBundleItem extends Item {
 
     @Override
     public Optional<TooltipComponent> getTooltipImage(ItemStack stack) {
-        // Build tooltip data with aggregated item stacks + integer counts
-        List<Entry> entries = getEntries(stack);
-        NonNullList<ItemStack> items = NonNullList.create();
-        List<Integer> counts = new ArrayList<>(entries.size());
-        for (Entry e : entries) {
-            items.add(e.stack.copy()); // copy to preserve NBT
-            counts.add(e.count);
-        }
-        return Optional.of(new BoundlessTooltip(items, counts, getContentWeight(stack)));
+        // Build tooltip data with aggregated item stacks + integer counts (rebuilt only after edits)
+        BundleContentsCache.Contents contents = getContents(stack);
+        return Optional.of(contents.snapshot(c -> {
+            NonNullList<ItemStack> items = NonNullList.create();
+            List<Integer> counts = new ArrayList<>(c.slots().size());
+            for (BundleContentsCache.Slot slot : c.slots()) {
+                items.add(slot.proto.copy()); // copy to preserve NBT
+                counts.add(slot.count);
+            }
+            return new BoundlessTooltip(items, counts, c.weight());
+        }));
     }
 
     @Override
@@ -170,59 +172,48 @@ public class BoundlessBundleItem extends Item {
 
     // ---------------- storage helpers: aggregated entries ----------------
 
-    // Single entry: an ItemStack "prototype" + an integer count (can exceed maxStackSize)
-    private static record Entry(ItemStack stack, int count) {}
-
     /**
-     * Read entries from the bundle NBT.
-     * Format (per-entry):
+     * Entry format in the "Items" list:
      *  - "Item" : CompoundTag (the saved ItemStack tag)
-     *  - "Count": int (our aggregated count)
+     *  - "Count": int (our aggregated count, can exceed maxStackSize)
      *
      * Backwards compatibility: if entry looks like a vanilla ItemStack NBT (contains "id"), we
-     * convert it into one Entry with the ItemStack and its Count.
+     * read it as one entry with the ItemStack and its Count. It is rewritten in the modern
+     * format the next time it is touched.
      */
-    private static List<Entry> getEntries(ItemStack bundle) {
-        List<Entry> result = new ArrayList<>();
-        CompoundTag root = bundle.getOrCreateTag();
-        if (!root.contains(TAG_ITEMS)) return result;
-
-        ListTag list = root.getList(TAG_ITEMS, 10);
-        for (int i = 0; i < list.size(); i++) {
-            CompoundTag c = list.getCompound(i);
-
+    private static final BundleContentsCache.Codec CODEC = new BundleContentsCache.Codec() {
+        @Override
+        public BundleContentsCache.Slot decode(CompoundTag c) {
             // Our modern format: contains "Item" compound and "Count" int
             if (c.contains("Item") && c.contains("Count")) {
-                CompoundTag itemTag = c.getCompound("Item");
-                ItemStack proto = ItemStack.of(itemTag);
+                ItemStack proto = ItemStack.of(c.getCompound("Item"));
                 int cnt = c.getInt("Count");
-                if (!proto.isEmpty() && cnt > 0) result.add(new Entry(proto, cnt));
-                continue;
+                return (!proto.isEmpty() && cnt > 0) ? new BundleContentsCache.Slot(proto, cnt) : null;
             }
 
             // Backwards compat: old vanilla ItemStack NBT saved directly
             ItemStack maybe = ItemStack.of(c);
-            if (!maybe.isEmpty()) {
-                result.add(new Entry(maybe.copy(), maybe.getCount()));
-            }
+            return maybe.isEmpty() ? null : new BundleContentsCache.Slot(maybe, maybe.getCount());
         }
-        return result;
-    }
 
-    /**
-     * Save aggregated entries into NBT using our modern format (Item + Count int)
-     */
-    private static void saveEntries(ItemStack bundle, List<Entry> entries) {
-        ListTag list = new ListTag();
-        for (Entry e : entries) {
+        @Override
+        public CompoundTag encode(ItemStack proto, int count) {
             CompoundTag comp = new CompoundTag();
             CompoundTag itemTag = new CompoundTag();
-            e.stack.save(itemTag);                // saves vanilla ItemStack data (id, tag, etc.)
+            proto.save(itemTag);                  // saves vanilla ItemStack data (id, tag, etc.)
             comp.put("Item", itemTag);
-            comp.putInt("Count", e.count);        // our integer count (can exceed 127)
-            list.add(comp);
+            comp.putInt("Count", count);          // our integer count (can exceed 127)
+            return comp;
+        }
+
+        @Override
+        public int weightForOne(ItemStack proto) {
+            return getWeightForOne(proto);
         }
-        bundle.getOrCreateTag().put(TAG_ITEMS, list);
+    };
+
+    private static BundleContentsCache.Contents getContents(ItemStack bundle) {
+        return BundleContentsCache.read(bundle, TAG_ITEMS, CODEC);
     }
 
     // ---------------- capacity logic ----------------
@@ -244,9 +235,7 @@ public class BoundlessBundleItem extends Item {
 
     // total items inside
     private static int getContentWeight(ItemStack bundle) {
-        return getEntries(bundle).stream()
-                .mapToInt(e -> e.count * getWeightForOne(e.stack))
-                .sum();
+        return getContents(bundle).weight();
     }
 
     // per-type cap: 64 * maxStackSize
@@ -265,57 +254,27 @@ public class BoundlessBundleItem extends Item {
         if (!toInsert.getItem().canFitInsideContainerItems()) return toInsert;
         if (isContainerBlocked(toInsert)) return toInsert;
 
-        List<Entry> entries = getEntries(bundle);
-        int total = getContentWeight(bundle);
-        int available = MAX_WEIGHT - total;
+        ListTag list = BundleContentsCache.getOrCreateList(bundle, TAG_ITEMS);
+        BundleContentsCache.Contents contents = BundleContentsCache.get(list, CODEC);
+        int available = MAX_WEIGHT - contents.weight();
         if (available <= 0) return toInsert;
 
         int perTypeLimit = maxPerType(toInsert);
 
-        // Find existing entry index for same item+tags
-        int existingIndex = -1;
-        for (int i = 0; i < entries.size(); i++) {
-            if (ItemStack.isSameItemSameTags(entries.get(i).stack, toInsert)) {
-                existingIndex = i;
-                break;
-            }
-        }
-
-        // Merge into existing entry if present
-        if (existingIndex >= 0) {
-            Entry ex = entries.get(existingIndex);
-            int currentOfType = ex.count;
-            int canAddByType = Math.max(0, perTypeLimit - currentOfType);
-            int canAddBySpace = Math.max(0, available);
-            int toAdd = Math.min(Math.min(canAddByType, canAddBySpace), toInsert.getCount());
-            if (toAdd > 0) {
-                entries.set(existingIndex, new Entry(ex.stack, ex.count + toAdd));
-                toInsert.shrink(toAdd);
-                available -= toAdd;
-                saveEntries(bundle, entries);
-                if (toInsert.isEmpty()) return ItemStack.EMPTY;
+        // Merge into the existing entry for same item+tags, or start a new one
+        BundleContentsCache.Slot existing = contents.find(toInsert);
+        int currentOfType = existing != null ? existing.count : 0;
+        int canAddByType = Math.max(0, perTypeLimit - currentOfType);
+        int toAdd = Math.min(Math.min(canAddByType, available), toInsert.getCount());
+        if (toAdd > 0) {
+            if (existing != null) {
+                contents.grow(list, existing, toAdd);
+            } else {
+                contents.append(list, toInsert, toAdd);
             }
-        }
-
-        // Create new entry if still have items and space
-        while (!toInsert.isEmpty() && available > 0) {
-            // compute current count-of-type if any
-            int currentOfType = 0;
-            for (Entry e : entries) if (ItemStack.isSameItemSameTags(e.stack, toInsert)) currentOfType += e.count;
-            int canAddByType = Math.max(0, perTypeLimit - currentOfType);
-            if (canAddByType <= 0) break;
-            int toAdd = Math.min(Math.min(canAddByType, available), toInsert.getCount());
-            if (toAdd <= 0) break;
-
-            // Create a new prototype stack with tags (count value in prototype is irrelevant)
-            ItemStack proto = toInsert.copy();
-            proto.setCount(1);
-            entries.add(new Entry(proto, toAdd));
             toInsert.shrink(toAdd);
-            available -= toAdd;
         }
 
-        saveEntries(bundle, entries);
         return toInsert.isEmpty() ? ItemStack.EMPTY : toInsert;
     }
 
@@ -323,21 +282,16 @@ public class BoundlessBundleItem extends Item {
      * Remove a single item (LIFO) from the bundle and return it.
      */
     private static ItemStack removeOne(ItemStack bundle) {
-        List<Entry> entries = getEntries(bundle);
-        if (entries.isEmpty()) return ItemStack.EMPTY;
-
-        int last = entries.size() - 1;
-        Entry e = entries.get(last);
-        ItemStack out = e.stack.copy();
-        out.setCount(1);
+        if (getContents(bundle).isEmpty()) return ItemStack.EMPTY;
 
-        if (e.count > 1) {
-            entries.set(last, new Entry(e.stack, e.count - 1));
-        } else {
-            entries.remove(last);
-        }
+        ListTag list = BundleContentsCache.getOrCreateList(bundle, TAG_ITEMS);
+        BundleContentsCache.Contents contents = BundleContentsCache.get(list, CODEC);
+        BundleContentsCache.Slot last = contents.last();
+        if (last == null) return ItemStack.EMPTY;
 
-        saveEntries(bundle, entries);
+        ItemStack out = last.proto.copy();
+        out.setCount(1);
+        contents.shrinkLast(list, 1);
         return out;
     }
 
@@ -446,15 +400,15 @@ public class BoundlessBundleItem extends Item {
     @Override
     public void onDestroyed(ItemEntity itemEntity) {
         ItemStack bundle = itemEntity.getItem();
-        List<Entry> entries = getEntries(bundle);
+        List<BundleContentsCache.Slot> entries = getContents(bundle).slots();
 
         Level level = itemEntity.level();
         double x = itemEntity.getX();
         double y = itemEntity.getY();
         double z = itemEntity.getZ();
 
-        for (Entry e : entries) {
-            ItemStack proto = e.stack;
+        for (BundleContentsCache.Slot e : entries) {
+            ItemStack proto = e.proto;
             int remaining = e.count;
             while (remaining > 0) {
                 int drop = Math.min(remaining, proto.getMaxStackSize());
@@ -0,0 +1,211 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Decoded view of a bundle's "Items" list, shared by the bundle items.
+ *
+ * Entries are keyed by the identity of the ListTag stored on the stack, so a copied or
+ * re-synced stack decodes once and every later bar/tooltip/add/remove call is a lookup.
+ * Writes go through {@link Contents} and only re-encode the entry they touch.
+ */
+final class BundleContentsCache {
+    // weakKeys() compares by identity, which is exactly what we want for tag instances
+    private static final Cache<ListTag, Contents> CACHE = CacheBuilder.newBuilder()
+            .weakKeys()
+            .maximumSize(1024)
+            .build();
+
+    private BundleContentsCache() {}
+
+    /** Per-item format of a single list entry. */
+    interface Codec {
+        /** Decode one list entry, or null if it is empty / unreadable. */
+        @Nullable
+        Slot decode(CompoundTag entry);
+
+        CompoundTag encode(ItemStack proto, int count);
+
+        int weightForOne(ItemStack proto);
+    }
+
+    /** One aggregated entry: a single-count prototype plus the stored amount. */
+    static final class Slot {
+        final ItemStack proto;
+        int count;
+        private int rawIndex;
+
+        Slot(ItemStack proto, int count) {
+            this.proto = proto.copy();
+            this.proto.setCount(1);
+            this.count = count;
+        }
+
+        ItemStack toStack() {
+            ItemStack out = proto.copy();
+            out.setCount(count);
+            return out;
+        }
+    }
+
+    /**
+     * Read-only lookup. Never creates tags on the stack, so it is safe from bar/tooltip code.
+     */
+    static Contents read(ItemStack bundle, String key, Codec codec) {
+        CompoundTag root = bundle.getTag();
+        if (root == null || !root.contains(key, Tag.TAG_LIST)) return Contents.EMPTY;
+        return get(root.getList(key, Tag.TAG_COMPOUND), codec);
+    }
+
+    /** Returns the stack's list, creating it if missing. Pair with {@link #get} for edits. */
+    static ListTag getOrCreateList(ItemStack bundle, String key) {
+        CompoundTag root = bundle.getOrCreateTag();
+        if (!root.contains(key, Tag.TAG_LIST)) {
+            root.put(key, new ListTag());
+        }
+        return root.getList(key, Tag.TAG_COMPOUND);
+    }
+
+    static Contents get(ListTag list, Codec codec) {
+        Contents contents = CACHE.getIfPresent(list);
+        // rawSize catches anything that edited the list behind our back
+        if (contents == null || contents.codec != codec || contents.rawSize != list.size()) {
+            contents = new Contents(list, codec);
+            CACHE.put(list, contents);
+        }
+        return contents;
+    }
+
+    private record StackKey(Item item, @Nullable CompoundTag tag) {
+        static StackKey of(ItemStack stack) {
+            return new StackKey(stack.getItem(), stack.getTag());
+        }
+    }
+
+    static final class Contents {
+        static final Contents EMPTY = new Contents();
+
+        private final Codec codec;
+        private final List<Slot> slots = new ArrayList<>();
+        private final Map<StackKey, Slot> index = new HashMap<>();
+        private int rawSize;
+        private int weight;
+        private int modCount;
+
+        private Object snapshot;
+        private int snapshotModCount = -1;
+
+        private Contents() {
+            this.codec = null;
+        }
+
+        // Note: must not keep a reference to the list, it is the weak key of this value
+        private Contents(ListTag list, Codec codec) {
+            this.codec = codec;
+            for (int i = 0; i < list.size(); i++) {
+                Slot slot = codec.decode(list.getCompound(i));
+                if (slot == null) continue;
+                slot.rawIndex = i;
+                slots.add(slot);
+                index.putIfAbsent(StackKey.of(slot.proto), slot);
+                weight += slot.count * codec.weightForOne(slot.proto);
+            }
+            this.rawSize = list.size();
+        }
+
+        int weight() {
+            return weight;
+        }
+
+        boolean isEmpty() {
+            return slots.isEmpty();
+        }
+
+        List<Slot> slots() {
+            return Collections.unmodifiableList(slots);
+        }
+
+        /** First entry holding the same item and tags as {@code stack}. */
+        @Nullable
+        Slot find(ItemStack stack) {
+            Slot slot = index.get(StackKey.of(stack));
+            if (slot != null && ItemStack.isSameItemSameTags(slot.proto, stack)) return slot;
+            if (slot == null) return null;
+            // Same item+tag but caps differ, fall back to a scan
+            for (Slot s : slots) {
+                if (ItemStack.isSameItemSameTags(s.proto, stack)) return s;
+            }
+            return null;
+        }
+
+        @Nullable
+        Slot last() {
+            return slots.isEmpty() ? null : slots.get(slots.size() - 1);
+        }
+
+        void grow(ListTag list, Slot slot, int amount) {
+            slot.count += amount;
+            weight += amount * codec.weightForOne(slot.proto);
+            list.set(slot.rawIndex, codec.encode(slot.proto, slot.count));
+            modCount++;
+        }
+
+        Slot append(ListTag list, ItemStack stack, int count) {
+            Slot slot = new Slot(stack, count);
+            list.add(codec.encode(slot.proto, count));
+            slot.rawIndex = list.size() - 1;
+            rawSize = list.size();
+            slots.add(slot);
+            index.putIfAbsent(StackKey.of(slot.proto), slot);
+            weight += count * codec.weightForOne(slot.proto);
+            modCount++;
+            return slot;
+        }
+
+        /** Take {@code amount} from the last entry, dropping it entirely once it reaches zero. */
+        void shrinkLast(ListTag list, int amount) {
+            Slot slot = last();
+            if (slot == null) return;
+            if (slot.count > amount) {
+                slot.count -= amount;
+                weight -= amount * codec.weightForOne(slot.proto);
+                list.set(slot.rawIndex, codec.encode(slot.proto, slot.count));
+            } else {
+                weight -= slot.count * codec.weightForOne(slot.proto);
+                list.remove(slot.rawIndex);
+                rawSize = list.size();
+                slots.remove(slots.size() - 1);
+                index.remove(StackKey.of(slot.proto), slot);
+            }
+            modCount++;
+        }
+
+        /**
+         * Memoize derived data (tooltip payloads etc.) until the next edit.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T snapshot(Function<Contents, T> builder) {
+            // EMPTY is shared between bundle types, so never memoize on it
+            if (this == EMPTY) return builder.apply(this);
+            if (snapshotModCount != modCount || snapshot == null) {
+                snapshot = builder.apply(this);
+                snapshotModCount = modCount;
+            }
+            return (T) snapshot;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.autismicannoyance.exadditions.item.custom;
 
+import net.autismicannoyance.exadditions.world.SafeLandingIndex;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
@@ -16,7 +17,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.event.TickEvent;
@@ -212,34 +212,9 @@ public class ChaosFoodItem extends Item {
             return;
         }
 
-        // Find the position that maximizes distance from all players
-        BlockPos bestPosition = null;
-        double bestDistance = 0;
-
-        // Search in a larger area around the entity
-        BlockPos entityPos = entity.blockPosition();
-        for (int x = -16; x <= 16; x++) {
-            for (int z = -16; z <= 16; z++) {
-                for (int y = -8; y <= 8; y++) {
-                    BlockPos candidate = entityPos.offset(x, y, z);
-
-                    if (isSafePosition(level, candidate)) {
-                        // Calculate minimum distance to any player
-                        double minDistanceToPlayers = Double.MAX_VALUE;
-                        for (Player player : nearbyPlayers) {
-                            double distanceToPlayer = candidate.distSqr(player.blockPosition());
-                            minDistanceToPlayers = Math.min(minDistanceToPlayers, distanceToPlayer);
-                        }
-
-                        // If this position is farther from players than our current best
-                        if (minDistanceToPlayers > bestDistance) {
-                            bestDistance = minDistanceToPlayers;
-                            bestPosition = candidate;
-                        }
-                    }
-                }
-            }
-        }
+        // Find the safe position that maximizes distance from all players
+        List<BlockPos> playerPositions = nearbyPlayers.stream().map(Entity::blockPosition).toList();
+        BlockPos bestPosition = SafeLandingIndex.farthestFrom(level, entity.blockPosition(), 16, 8, playerPositions);
 
         if (bestPosition != null) {
             double originalX = entity.getX();
@@ -357,14 +332,7 @@ public class ChaosFoodItem extends Item {
     }
 
     private static boolean isSafePosition(ServerLevel level, BlockPos pos) {
-        BlockState blockBelow = level.getBlockState(pos.below());
-        BlockState blockAt = level.getBlockState(pos);
-        BlockState blockAbove = level.getBlockState(pos.above());
-
-        return !blockBelow.isAir() &&
-                blockBelow.isSolidRender(level, pos.below()) &&
-                !blockAt.isSolidRender(level, pos) &&
-                !blockAbove.isSolidRender(level, pos.above());
+        return SafeLandingIndex.isSafe(level, pos);
     }
 
     private static void playTeleportEffects(ServerLevel level, double fromX, double fromY, double fromZ,
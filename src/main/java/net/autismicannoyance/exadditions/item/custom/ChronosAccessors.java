@@ -0,0 +1,380 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolve-once reflection for the Chronos Implement.
+ *
+ * Field lookups are cached per (class, names) and turned into MethodHandles, and the
+ * generic "speed up whatever this is" fallback is resolved once per BlockEntityType into a
+ * {@link Plan}. Everything is dropped on datapack reload / server stop so modded block entities
+ * that get re-registered don't keep stale handles around.
+ *
+ * Handles come from unreflectGetter/unreflectSetter on setAccessible fields rather than VarHandles:
+ * unreflectVarHandle ignores the accessible flag and needs privateLookupIn, which the mod layer
+ * isn't guaranteed to be granted on Minecraft classes.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public final class ChronosAccessors {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final Map<String, Optional<FieldAccessor>> FIELDS = new ConcurrentHashMap<>();
+    private static final Map<BlockEntityType<?>, Plan> PLANS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, List<FieldAccessor>> VILLAGER_TIMERS = new ConcurrentHashMap<>();
+
+    // Ticker calls made by the generic fallback per use (was 200 Method.invoke calls)
+    private static final int MAX_FALLBACK_TICKS = 200;
+
+    private ChronosAccessors() {}
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        invalidate();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        invalidate();
+    }
+
+    public static void invalidate() {
+        FIELDS.clear();
+        PLANS.clear();
+        VILLAGER_TIMERS.clear();
+    }
+
+    // ---------------- fields ----------------
+
+    /**
+     * A cached getter/setter pair for one field. Primitive accessors are pre-adapted to
+     * (Object)int / (Object)long so calls go through invokeExact.
+     */
+    public static final class FieldAccessor {
+        private final Field field;
+        private final MethodHandle getter;
+        @Nullable
+        private final MethodHandle setter;
+
+        private FieldAccessor(Field field) throws IllegalAccessException {
+            this.field = field;
+            Class<?> type = field.getType();
+            Class<?> erased = type.isPrimitive() ? type : Object.class;
+            this.getter = LOOKUP.unreflectGetter(field).asType(MethodType.methodType(erased, Object.class));
+            this.setter = Modifier.isFinal(field.getModifiers()) ? null
+                    : LOOKUP.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, erased));
+        }
+
+        public Class<?> type() {
+            return field.getType();
+        }
+
+        public String name() {
+            return field.getName();
+        }
+
+        public int getInt(Object target) {
+            try {
+                return (int) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read " + field, t);
+            }
+        }
+
+        public void setInt(Object target, int value) {
+            if (setter == null) return;
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to write " + field, t);
+            }
+        }
+
+        public long getLong(Object target) {
+            try {
+                return (long) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read " + field, t);
+            }
+        }
+
+        public void setLong(Object target, long value) {
+            if (setter == null) return;
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to write " + field, t);
+            }
+        }
+
+        @Nullable
+        public Object get(Object target) {
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to read " + field, t);
+            }
+        }
+
+        public void set(Object target, @Nullable Object value) {
+            if (setter == null) return;
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to write " + field, t);
+            }
+        }
+    }
+
+    /**
+     * First field called any of {@code names} on {@code owner} or its superclasses, or null.
+     * Misses are cached too, so a missing field costs one map lookup after the first call.
+     */
+    @Nullable
+    public static FieldAccessor field(Class<?> owner, String... names) {
+        return FIELDS.computeIfAbsent(key(owner, names), k -> Optional.ofNullable(resolveField(owner, names))).orElse(null);
+    }
+
+    /** Same lookup as {@link #field} but handing back the (already accessible) reflective Field. */
+    @Nullable
+    public static Field rawField(Class<?> owner, String... names) {
+        FieldAccessor accessor = field(owner, names);
+        return accessor == null ? null : accessor.field;
+    }
+
+    @Nullable
+    private static FieldAccessor resolveField(Class<?> owner, String... names) {
+        for (Class<?> clazz = owner; clazz != null; clazz = clazz.getSuperclass()) {
+            for (String name : names) {
+                try {
+                    Field field = clazz.getDeclaredField(name);
+                    field.setAccessible(true);
+                    return new FieldAccessor(field);
+                } catch (NoSuchFieldException ignored) {
+                } catch (Exception e) {
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String key(Class<?> owner, String... names) {
+        return owner.getName() + "#" + String.join("|", Arrays.asList(names));
+    }
+
+    // ---------------- generic block entity plans ----------------
+
+    /**
+     * What the generic fallback does to one block entity type: push every timer-looking int/long
+     * field towards "done", or failing that call its tick method a bounded number of times.
+     */
+    public static final class Plan {
+        private final Class<?> owner;
+        private final List<FieldAccessor> countUp;
+        private final List<FieldAccessor> countDown;
+        // Either static (Level, BlockPos, BlockState, T) or instance () / (Level, BlockPos, BlockState)
+        @Nullable
+        private final MethodHandle ticker;
+        private final boolean staticTicker;
+
+        private Plan(Class<?> owner, List<FieldAccessor> countUp, List<FieldAccessor> countDown,
+                     @Nullable MethodHandle ticker, boolean staticTicker) {
+            this.owner = owner;
+            this.countUp = countUp;
+            this.countDown = countDown;
+            this.ticker = ticker;
+            this.staticTicker = staticTicker;
+        }
+
+        /**
+         * @return true if anything about the block entity changed
+         */
+        public boolean apply(BlockEntity blockEntity, Level level, BlockPos pos, BlockState state, int ticks) {
+            boolean changed = false;
+            for (FieldAccessor accessor : countUp) {
+                changed |= advance(accessor, blockEntity, ticks);
+            }
+            for (FieldAccessor accessor : countDown) {
+                changed |= advance(accessor, blockEntity, -ticks);
+            }
+            if (changed) {
+                blockEntity.setChanged();
+                return true;
+            }
+            if (ticker == null) return false;
+
+            int safeTicks = Math.min(ticks, MAX_FALLBACK_TICKS);
+            try {
+                for (int i = 0; i < safeTicks; i++) {
+                    if (staticTicker) {
+                        ticker.invoke(level, pos, state, blockEntity);
+                    } else if (ticker.type().parameterCount() == 1) {
+                        ticker.invoke(blockEntity);
+                    } else {
+                        ticker.invoke(blockEntity, level, pos, state);
+                    }
+                }
+            } catch (Throwable ignored) {
+                // Ticker refused to run outside its normal context, keep whatever it managed
+            }
+            return true;
+        }
+
+        /**
+         * Whether {@link #apply} would move any timer right now, without counting the tick-method
+         * fallback (which nearly every block entity, chests and signs included, can offer).
+         */
+        public boolean hasRunningTimers(BlockEntity blockEntity) {
+            for (FieldAccessor accessor : countUp) {
+                if (isRunning(accessor, blockEntity)) return true;
+            }
+            for (FieldAccessor accessor : countDown) {
+                if (isRunning(accessor, blockEntity)) return true;
+            }
+            return false;
+        }
+
+        private static boolean isRunning(FieldAccessor accessor, Object target) {
+            try {
+                return accessor.type() == int.class ? accessor.getInt(target) > 0 : accessor.getLong(target) > 0;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+
+        private static boolean advance(FieldAccessor accessor, Object target, int delta) {
+            try {
+                if (accessor.type() == int.class) {
+                    int current = accessor.getInt(target);
+                    if (current <= 0) return false;
+                    accessor.setInt(target, delta > 0 ? current + delta : Math.max(0, current + delta));
+                } else {
+                    long current = accessor.getLong(target);
+                    if (current <= 0) return false;
+                    accessor.setLong(target, Math.max(0, current + delta));
+                }
+                return true;
+            } catch (Exception e) {
+                return false;
+            }
+        }
+    }
+
+    public static Plan plan(BlockEntity blockEntity) {
+        Plan plan = PLANS.computeIfAbsent(blockEntity.getType(), type -> buildPlan(blockEntity.getClass()));
+        // Types shared by several classes (rare, modded) get an uncached plan for the odd ones out
+        if (plan.owner != blockEntity.getClass()) {
+            return buildPlan(blockEntity.getClass());
+        }
+        return plan;
+    }
+
+    private static Plan buildPlan(Class<?> owner) {
+        List<FieldAccessor> countUp = new ArrayList<>();
+        List<FieldAccessor> countDown = new ArrayList<>();
+        for (Class<?> clazz = owner; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) continue;
+                Class<?> type = field.getType();
+                if (type != int.class && type != long.class) continue;
+
+                String fieldName = field.getName().toLowerCase();
+                boolean timerLike = fieldName.contains("time") || fieldName.contains("tick")
+                        || fieldName.contains("cooldown") || fieldName.contains("progress")
+                        || (fieldName.startsWith("f_") && type == int.class);
+                if (!timerLike) continue;
+
+                FieldAccessor accessor;
+                try {
+                    field.setAccessible(true);
+                    accessor = new FieldAccessor(field);
+                } catch (Exception e) {
+                    continue;
+                }
+
+                boolean progressLike = type == int.class && (fieldName.contains("progress") || fieldName.contains("cooking")
+                        || fieldName.contains("brew") || fieldName.contains("burn"));
+                (progressLike ? countUp : countDown).add(accessor);
+            }
+        }
+
+        MethodHandle ticker = null;
+        boolean staticTicker = false;
+        for (Method method : owner.getDeclaredMethods()) {
+            String name = method.getName();
+            if (!(name.equals("tick") || name.contains("Tick") || name.equals("m_6596_"))) continue;
+            boolean isStatic = Modifier.isStatic(method.getModifiers());
+            int arity = method.getParameterCount();
+            if (isStatic ? arity != 4 : arity != 0 && arity != 3) continue;
+            try {
+                method.setAccessible(true);
+                ticker = LOOKUP.unreflect(method);
+                staticTicker = isStatic;
+                break;
+            } catch (Exception ignored) {
+            }
+        }
+
+        return new Plan(owner, List.copyOf(countUp), List.copyOf(countDown), ticker, staticTicker);
+    }
+
+    // ---------------- villagers ----------------
+
+    /**
+     * The restock, trade and timer-looking int/long fields of a villager class and its
+     * superclasses, resolved once per class.
+     */
+    public static List<FieldAccessor> villagerTimers(Class<?> owner) {
+        return VILLAGER_TIMERS.computeIfAbsent(owner, ChronosAccessors::resolveVillagerTimers);
+    }
+
+    private static List<FieldAccessor> resolveVillagerTimers(Class<?> owner) {
+        List<FieldAccessor> timers = new ArrayList<>();
+        for (Class<?> clazz = owner; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            for (Field field : clazz.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) continue;
+                Class<?> type = field.getType();
+                if (type != int.class && type != long.class) continue;
+
+                String fieldName = field.getName();
+                boolean timerLike = fieldName.equals("lastRestockGameTime") || fieldName.equals("f_35459_")
+                        || fieldName.equals("lastRestockCheckDayTime") || fieldName.equals("f_35460_")
+                        || fieldName.equals("numberOfRestocksToday") || fieldName.equals("f_35461_")
+                        || fieldName.contains("restock") || fieldName.contains("trade")
+                        || fieldName.contains("time") || fieldName.contains("tick")
+                        || fieldName.contains("cooldown") || fieldName.contains("delay");
+                if (!timerLike) continue;
+
+                try {
+                    field.setAccessible(true);
+                    timers.add(new FieldAccessor(field));
+                } catch (Exception ignored) {
+                }
+            }
+        }
+        return List.copyOf(timers);
+    }
+}
@@ -0,0 +1,330 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import net.autismicannoyance.exadditions.recipe.SmeltingResults;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.NonNullList;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.Containers;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.AbstractCookingRecipe;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.AbstractFurnaceBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.AbstractFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BlastFurnaceBlockEntity;
+import net.minecraft.world.level.block.entity.BrewingStandBlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
+import net.minecraft.world.level.block.entity.SmokerBlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.IntegerProperty;
+import net.minecraftforge.common.ForgeHooks;
+import net.minecraftforge.common.brewing.BrewingRecipeRegistry;
+import net.minecraftforge.event.ForgeEventFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Advances vanilla machines by N ticks in one step instead of running their ticker N times.
+ *
+ * Furnaces are solved in closed form (items, fuel and progress from a handful of divisions),
+ * brewing stands per brew cycle (at most MAX_TIME_TICKS / 400 iterations), hoppers per actual
+ * transfer with the 8-tick cooldowns skipped, and crop ages by sampling the number of growth
+ * rolls directly. Results match real ticking to within a tick per fuel item.
+ */
+public final class ChronosFastForward {
+    private static final int BREW_TIME = 400;
+    private static final int BLAZE_POWDER_BREWS = 20;
+    private static final int[] BOTTLE_SLOTS = {0, 1, 2};
+    private static final int HOPPER_COOLDOWN = 8;
+    private static final int MAX_HOPPER_TRANSFERS = 500;
+
+    private ChronosFastForward() {}
+
+    // ---------------- furnaces ----------------
+
+    /**
+     * @return true if the furnace's inventory or timers changed
+     */
+    public static boolean furnace(AbstractFurnaceBlockEntity furnace, int ticks) {
+        Level level = furnace.getLevel();
+        if (level == null || level.isClientSide || ticks <= 0) return false;
+
+        Class<?> owner = furnace.getClass();
+        ChronosAccessors.FieldAccessor litTimeField = ChronosAccessors.field(owner, "litTime", "f_58387_", "burnTime");
+        ChronosAccessors.FieldAccessor litDurationField = ChronosAccessors.field(owner, "litDuration", "f_58388_", "totalBurnTime");
+        ChronosAccessors.FieldAccessor progressField = ChronosAccessors.field(owner, "cookingProgress", "f_58389_", "cookTime");
+        ChronosAccessors.FieldAccessor totalTimeField = ChronosAccessors.field(owner, "cookingTotalTime", "f_58390_", "totalCookTime");
+        if (litTimeField == null || progressField == null) return false;
+
+        ItemStack input = furnace.getItem(0);
+        ItemStack fuel = furnace.getItem(1);
+        ItemStack output = furnace.getItem(2);
+        int startLit = litTimeField.getInt(furnace);
+        int startProgress = progressField.getInt(furnace);
+        int lit = startLit;
+        int progress = startProgress;
+
+        AbstractCookingRecipe recipe = input.isEmpty() ? null : findRecipe(furnace, level);
+        ItemStack result = recipe == null ? ItemStack.EMPTY : recipe.getResultItem(level.registryAccess());
+        int craftable = recipe == null ? 0 : Math.min(input.getCount(), outputRoom(furnace, output, result));
+        int cookTime = recipe == null ? 200 : Math.max(1, recipe.getCookingTime());
+
+        int burnTime = fuel.isEmpty() ? 0 : ForgeHooks.getBurnTime(fuel, recipeType(furnace));
+        // Buckets etc. leave their container behind, which can't be burned again
+        int fuelItems = burnTime <= 0 ? 0 : fuel.hasCraftingRemainingItem() ? 1 : fuel.getCount();
+
+        int made = 0;
+        int fuelUsed = 0;
+        int cookTicks = 0;
+        if (craftable > 0) {
+            long fuelTicks = lit + (long) burnTime * fuelItems;
+            long ticksToFinishAll = Math.max(0L, (long) craftable * cookTime - progress);
+            cookTicks = (int) Math.min(ticks, Math.min(fuelTicks, ticksToFinishAll));
+
+            long cooked = progress + (long) cookTicks;
+            made = (int) Math.min(craftable, cooked / cookTime);
+            progress = made == craftable ? 0 : (int) (cooked - (long) made * cookTime);
+
+            if (cookTicks > lit) {
+                int owed = cookTicks - lit;
+                fuelUsed = (owed + burnTime - 1) / burnTime;
+                lit = fuelUsed * burnTime - owed;
+            } else {
+                lit -= cookTicks;
+            }
+        }
+
+        // Whatever's left the furnace sits idle: fuel keeps burning, then unlit progress decays by 2/tick
+        int idleTicks = ticks - cookTicks;
+        int unlitTicks = Math.max(0, idleTicks - lit);
+        lit = Math.max(0, lit - idleTicks);
+        if (progress > 0 && unlitTicks > 0) {
+            progress = (int) Math.max(0L, progress - 2L * unlitTicks);
+        }
+
+        if (made > 0) {
+            input.shrink(made);
+            if (output.isEmpty()) {
+                ItemStack produced = result.copy();
+                produced.setCount(result.getCount() * made);
+                furnace.setItem(2, produced);
+            } else {
+                output.grow(result.getCount() * made);
+            }
+            for (int i = 0; i < made; i++) {
+                furnace.setRecipeUsed(recipe);
+            }
+        }
+        if (fuelUsed > 0) {
+            if (fuel.hasCraftingRemainingItem()) {
+                furnace.setItem(1, fuel.getCraftingRemainingItem());
+            } else {
+                fuel.shrink(fuelUsed);
+            }
+            if (litDurationField != null) litDurationField.setInt(furnace, burnTime);
+        }
+
+        litTimeField.setInt(furnace, lit);
+        progressField.setInt(furnace, progress);
+        if (totalTimeField != null && recipe != null) totalTimeField.setInt(furnace, cookTime);
+
+        boolean changed = made > 0 || fuelUsed > 0 || lit != startLit || progress != startProgress;
+        if (!changed) return false;
+
+        BlockPos pos = furnace.getBlockPos();
+        BlockState state = level.getBlockState(pos);
+        if (state.hasProperty(AbstractFurnaceBlock.LIT) && state.getValue(AbstractFurnaceBlock.LIT) != (lit > 0)) {
+            state = state.setValue(AbstractFurnaceBlock.LIT, lit > 0);
+            level.setBlock(pos, state, Block.UPDATE_ALL);
+        }
+        furnace.setChanged();
+        level.sendBlockUpdated(pos, state, state, Block.UPDATE_ALL);
+        return true;
+    }
+
+    private static RecipeType<? extends AbstractCookingRecipe> recipeType(AbstractFurnaceBlockEntity furnace) {
+        if (furnace instanceof BlastFurnaceBlockEntity) return RecipeType.BLASTING;
+        if (furnace instanceof SmokerBlockEntity) return RecipeType.SMOKING;
+        return RecipeType.SMELTING;
+    }
+
+    @Nullable
+    private static AbstractCookingRecipe findRecipe(AbstractFurnaceBlockEntity furnace, Level level) {
+        return SmeltingResults.lookup(level, recipeType(furnace), furnace.getItem(0)).recipe();
+    }
+
+    private static int outputRoom(AbstractFurnaceBlockEntity furnace, ItemStack output, ItemStack result) {
+        if (result.isEmpty()) return 0;
+        int limit = Math.min(furnace.getMaxStackSize(), result.getMaxStackSize());
+        if (output.isEmpty()) return limit / result.getCount();
+        if (!ItemStack.isSameItemSameTags(output, result)) return 0;
+        return Math.max(0, limit - output.getCount()) / result.getCount();
+    }
+
+    // ---------------- brewing stands ----------------
+
+    /**
+     * Runs the brewing stand's cycle logic once per brew rather than once per tick.
+     *
+     * @return true if any brew finished or the brew timer moved
+     */
+    public static boolean brewingStand(BrewingStandBlockEntity stand, int ticks) {
+        Level level = stand.getLevel();
+        if (level == null || level.isClientSide || ticks <= 0) return false;
+
+        Class<?> owner = stand.getClass();
+        ChronosAccessors.FieldAccessor brewTimeField = ChronosAccessors.field(owner, "brewTime", "f_59123_");
+        ChronosAccessors.FieldAccessor fuelField = ChronosAccessors.field(owner, "fuel", "f_59124_");
+        ChronosAccessors.FieldAccessor ingredientField = ChronosAccessors.field(owner, "ingredient");
+        if (brewTimeField == null || brewTimeField.type() != int.class) return false;
+
+        int startTime = brewTimeField.getInt(stand);
+        int time = startTime;
+        int fuel = fuelField == null ? Integer.MAX_VALUE : fuelField.getInt(stand);
+        int remaining = ticks;
+        int brews = 0;
+
+        while (remaining > 0) {
+            if (time <= 0) {
+                // Idle: start a new cycle the same way the ticker would
+                if (!canBrew(stand)) break;
+                if (fuel <= 0) {
+                    ItemStack powder = stand.getItem(4);
+                    if (!powder.is(Items.BLAZE_POWDER)) break;
+                    powder.shrink(1);
+                    fuel = BLAZE_POWDER_BREWS;
+                }
+                fuel--;
+                time = BREW_TIME;
+            }
+            if (remaining < time) {
+                time -= remaining;
+                break;
+            }
+            remaining -= time;
+            time = 0;
+            if (!canBrew(stand) || !brew(stand, level)) break;
+            brews++;
+        }
+
+        brewTimeField.setInt(stand, time);
+        if (fuelField != null) fuelField.setInt(stand, fuel);
+        if (time > 0 && ingredientField != null) {
+            ingredientField.set(stand, stand.getItem(3).getItem());
+        }
+        if (brews == 0 && time == startTime) return false;
+
+        BlockPos pos = stand.getBlockPos();
+        if (brews > 0) level.levelEvent(1035, pos, 0);
+        stand.setChanged();
+        BlockState state = level.getBlockState(pos);
+        level.sendBlockUpdated(pos, state, state, Block.UPDATE_ALL);
+        return true;
+    }
+
+    private static boolean canBrew(BrewingStandBlockEntity stand) {
+        ItemStack ingredient = stand.getItem(3);
+        return !ingredient.isEmpty() && BrewingRecipeRegistry.canBrew(items(stand), ingredient, BOTTLE_SLOTS);
+    }
+
+    /** Same steps as BrewingStandBlockEntity.doBrew, including the Forge brew events. */
+    private static boolean brew(BrewingStandBlockEntity stand, Level level) {
+        NonNullList<ItemStack> items = items(stand);
+        if (ForgeEventFactory.onPotionAttemptBrew(items)) return false;
+
+        ItemStack ingredient = items.get(3);
+        BrewingRecipeRegistry.brewPotions(items, ingredient, BOTTLE_SLOTS);
+        ForgeEventFactory.onPotionBrewed(items);
+
+        if (ingredient.hasCraftingRemainingItem()) {
+            ItemStack remainder = ingredient.getCraftingRemainingItem();
+            ingredient.shrink(1);
+            if (ingredient.isEmpty()) {
+                ingredient = remainder;
+            } else {
+                BlockPos pos = stand.getBlockPos();
+                Containers.dropItemStack(level, pos.getX(), pos.getY(), pos.getZ(), remainder);
+            }
+        } else {
+            ingredient.shrink(1);
+        }
+        items.set(3, ingredient);
+
+        for (int i = 0; i < items.size(); i++) {
+            stand.setItem(i, items.get(i));
+        }
+        return true;
+    }
+
+    private static NonNullList<ItemStack> items(BrewingStandBlockEntity stand) {
+        NonNullList<ItemStack> items = NonNullList.withSize(stand.getContainerSize(), ItemStack.EMPTY);
+        for (int i = 0; i < items.size(); i++) {
+            items.set(i, stand.getItem(i));
+        }
+        return items;
+    }
+
+    // ---------------- hoppers ----------------
+
+    /**
+     * Performs the transfers the hopper would have made in {@code ticks} ticks, skipping the
+     * cooldown in between and stopping as soon as a transfer attempt moves nothing.
+     *
+     * @return true if at least one item moved
+     */
+    public static boolean hopper(HopperBlockEntity hopper, int ticks) {
+        Level level = hopper.getLevel();
+        if (level == null || level.isClientSide) return false;
+
+        ChronosAccessors.FieldAccessor cooldownField = ChronosAccessors.field(HopperBlockEntity.class, "cooldownTime", "f_59309_");
+        if (cooldownField == null || cooldownField.type() != int.class) return false;
+
+        BlockPos pos = hopper.getBlockPos();
+        int attempts = Math.min(ticks / HOPPER_COOLDOWN, MAX_HOPPER_TRANSFERS);
+        int transfers = 0;
+        for (int i = 0; i < attempts; i++) {
+            cooldownField.setInt(hopper, 0);
+            HopperBlockEntity.pushItemsTick(level, pos, level.getBlockState(pos), hopper);
+            // A successful move puts the hopper back on cooldown; none means it's idle for good
+            if (cooldownField.getInt(hopper) <= 0) break;
+            transfers++;
+        }
+        return transfers > 0;
+    }
+
+    // ---------------- block state ages ----------------
+
+    /**
+     * Value of an age-like property after {@code ticks} rolls that each advance it by one with
+     * probability {@code chance}, capped at the property's maximum.
+     */
+    public static int advanceAge(BlockState state, IntegerProperty property, int ticks, float chance, RandomSource random) {
+        int current = state.getValue(property);
+        int max = property.getPossibleValues().stream().mapToInt(Integer::intValue).max().orElse(current);
+        if (current >= max || ticks <= 0) return current;
+        return (int) Math.min(max, current + (long) sampleSuccesses(ticks, chance, random));
+    }
+
+    /**
+     * Number of successes in {@code trials} independent rolls of {@code chance}. Small counts are
+     * rolled directly, large ones use the normal approximation so the cost is constant.
+     */
+    public static int sampleSuccesses(int trials, float chance, RandomSource random) {
+        if (trials <= 0 || chance <= 0f) return 0;
+        if (chance >= 1f) return trials;
+
+        double mean = trials * (double) chance;
+        double variance = mean * (1.0 - chance);
+        if (variance < 9.0) {
+            int successes = 0;
+            for (int i = 0; i < trials; i++) {
+                if (random.nextFloat() < chance) successes++;
+            }
+            return successes;
+        }
+        long sampled = Math.round(mean + random.nextGaussian() * Math.sqrt(variance));
+        return (int) Math.max(0L, Math.min(trials, sampled));
+    }
+}
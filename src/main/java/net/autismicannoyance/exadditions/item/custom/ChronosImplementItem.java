@@ -1,6 +1,7 @@
 package net.autismicannoyance.exadditions.item.custom;
 
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -18,12 +19,6 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.context.UseOnContext;
-import net.minecraft.world.item.crafting.AbstractCookingRecipe;
-import net.minecraft.world.item.crafting.RecipeType;
-import net.minecraft.world.item.crafting.SmeltingRecipe;
-import net.minecraft.world.item.crafting.BlastingRecipe;
-import net.minecraft.world.item.crafting.SmokingRecipe;
-import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.BonemealableBlock;
@@ -36,14 +31,13 @@ import net.minecraft.world.level.block.entity.HopperBlockEntity;
 import net.minecraft.world.level.block.entity.SculkSensorBlockEntity;
 import net.minecraft.world.level.block.entity.SculkShriekerBlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.block.state.properties.IntegerProperty;
 import net.minecraft.world.level.block.state.properties.Property;
 import net.minecraft.world.phys.AABB;
-import net.minecraft.world.Container;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Optional;
 
 public class ChronosImplementItem extends Item {
     private static final int RADIUS = 5;
@@ -75,30 +69,9 @@ public class ChronosImplementItem extends Item {
         }
         RandomSource random = level.getRandom();
         int accelerationTicks = MIN_TIME_TICKS + random.nextInt(MAX_TIME_TICKS - MIN_TIME_TICKS + 1);
-        int affectedCount = 0;
-        int totalTicksAccelerated = 0;
-        for (int x = -RADIUS; x <= RADIUS; x++) {
-            for (int y = -RADIUS; y <= RADIUS; y++) {
-                for (int z = -RADIUS; z <= RADIUS; z++) {
-                    BlockPos pos = centerPos.offset(x, y, z);
-                    if (centerPos.distSqr(pos) <= RADIUS * RADIUS) {
-                        boolean affected = false;
-                        BlockEntity blockEntity = level.getBlockEntity(pos);
-                        if (blockEntity != null) {
-                            affected = accelerateBlockEntity(level, pos, blockEntity, accelerationTicks);
-                        }
-                        if (!affected) {
-                            affected = accelerateBlock(level, pos, accelerationTicks);
-                        }
-                        if (affected) {
-                            affectedCount++;
-                            totalTicksAccelerated += accelerationTicks;
-                            createHelixEffects((ServerLevel) level, pos);
-                        }
-                    }
-                }
-            }
-        }
+        // Blocks are only put on the time-debt ledger here, it pays them back over the next ticks
+        int affectedCount = enrollTimeDebt((ServerLevel) level, centerPos, accelerationTicks);
+        int totalTicksAccelerated = affectedCount * accelerationTicks;
         AABB searchBox = new AABB(centerPos).inflate(RADIUS);
         List<Entity> entities = level.getEntities(player, searchBox, entity -> !(entity instanceof Player) && entity.distanceToSqr(centerPos.getX(), centerPos.getY(), centerPos.getZ()) <= RADIUS * RADIUS);
         for (Entity entity : entities) {
@@ -137,6 +110,150 @@ public class ChronosImplementItem extends Item {
         return InteractionResult.PASS;
     }
 
+    private static int enrollTimeDebt(ServerLevel level, BlockPos centerPos, int ticks) {
+        ChronosTimeDebt ledger = ChronosTimeDebt.get(level);
+        int radiusSq = RADIUS * RADIUS;
+        int enrolled = 0;
+        // Block entities come straight from the loaded chunks' maps instead of probing every position
+        int minChunkX = SectionPos.blockToSectionCoord(centerPos.getX() - RADIUS);
+        int maxChunkX = SectionPos.blockToSectionCoord(centerPos.getX() + RADIUS);
+        int minChunkZ = SectionPos.blockToSectionCoord(centerPos.getZ() - RADIUS);
+        int maxChunkZ = SectionPos.blockToSectionCoord(centerPos.getZ() + RADIUS);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                LevelChunk chunk = level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    continue;
+                }
+                for (java.util.Map.Entry<BlockPos, BlockEntity> entry : chunk.getBlockEntities().entrySet()) {
+                    BlockPos pos = entry.getKey();
+                    if (centerPos.distSqr(pos) <= radiusSq && canAdvance(entry.getValue()) && ledger.add(pos, ticks)) {
+                        enrolled++;
+                    }
+                }
+                enrolled += enrollGrowables(level, chunk, centerPos, ledger, ticks);
+            }
+        }
+        return enrolled;
+    }
+
+    /**
+     * Plain blocks in one chunk that can still grow. Sections are read directly, and a section
+     * whose palette holds nothing growable is skipped without reading a single block.
+     */
+    private static int enrollGrowables(ServerLevel level, LevelChunk chunk, BlockPos centerPos, ChronosTimeDebt ledger, int ticks) {
+        int radiusSq = RADIUS * RADIUS;
+        int minX = Math.max(centerPos.getX() - RADIUS, chunk.getPos().getMinBlockX());
+        int maxX = Math.min(centerPos.getX() + RADIUS, chunk.getPos().getMaxBlockX());
+        int minZ = Math.max(centerPos.getZ() - RADIUS, chunk.getPos().getMinBlockZ());
+        int maxZ = Math.min(centerPos.getZ() + RADIUS, chunk.getPos().getMaxBlockZ());
+        int minY = Math.max(centerPos.getY() - RADIUS, level.getMinBuildHeight());
+        int maxY = Math.min(centerPos.getY() + RADIUS, level.getMaxBuildHeight() - 1);
+        int enrolled = 0;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int sectionY = SectionPos.blockToSectionCoord(minY); sectionY <= SectionPos.blockToSectionCoord(maxY); sectionY++) {
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionY));
+            if (section.hasOnlyAir() || !section.maybeHas(ChronosImplementItem::mightGrow)) {
+                continue;
+            }
+            int fromY = Math.max(minY, SectionPos.sectionToBlockCoord(sectionY));
+            int toY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY) + 15);
+            for (int y = fromY; y <= toY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    for (int x = minX; x <= maxX; x++) {
+                        pos.set(x, y, z);
+                        if (centerPos.distSqr(pos) > radiusSq) {
+                            continue;
+                        }
+                        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                        if (state.hasBlockEntity() || !mightGrow(state) || !canGrow(level, pos, state)) {
+                            continue;
+                        }
+                        if (ledger.add(pos.immutable(), ticks)) {
+                            enrolled++;
+                        }
+                    }
+                }
+            }
+        }
+        return enrolled;
+    }
+
+    /**
+     * Whether paying time to this block entity would advance anything right now. Only these are
+     * enrolled and counted, so an area of chests and signs is "nothing to accelerate".
+     */
+    private static boolean canAdvance(BlockEntity blockEntity) {
+        if (blockEntity instanceof AbstractFurnaceBlockEntity furnace) {
+            return !furnace.getItem(0).isEmpty() || !furnace.getItem(1).isEmpty();
+        }
+        if (blockEntity instanceof BrewingStandBlockEntity brewingStand) {
+            return !brewingStand.getItem(3).isEmpty();
+        }
+        if (blockEntity instanceof CampfireBlockEntity campfire) {
+            return campfire.getItems().stream().anyMatch(stack -> !stack.isEmpty());
+        }
+        if (blockEntity instanceof HopperBlockEntity hopper) {
+            return !hopper.isEmpty();
+        }
+        if (blockEntity instanceof BeaconBlockEntity) {
+            return true;
+        }
+        return ChronosAccessors.plan(blockEntity).hasRunningTimers(blockEntity);
+    }
+
+    /**
+     * Crops, saplings and other growables that haven't finished growing. Leaves, ice and other
+     * blocks that merely random-tick are left alone.
+     */
+    private static boolean canGrow(ServerLevel level, BlockPos pos, BlockState state) {
+        if (state.getBlock() instanceof BonemealableBlock bonemealable
+                && bonemealable.isValidBonemealTarget(level, pos, state, false)) {
+            return true;
+        }
+        return hasGrowthLeft(state);
+    }
+
+    // The position-independent part of canGrow, cheap enough to test a section's palette with
+    private static boolean mightGrow(BlockState state) {
+        return state.getBlock() instanceof BonemealableBlock || hasGrowthLeft(state);
+    }
+
+    private static boolean hasGrowthLeft(BlockState state) {
+        for (Property<?> property : state.getProperties()) {
+            if (property instanceof IntegerProperty intProp && isGrowthLike(property.getName().toLowerCase())) {
+                int max = intProp.getPossibleValues().stream().mapToInt(Integer::intValue).max().orElse(0);
+                if (state.getValue(intProp) < max) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGrowthLike(String propName) {
+        return propName.contains("age") || propName.contains("stage") || propName.contains("growth");
+    }
+
+    /**
+     * Pays {@code ticks} of owed time to one position. Called by {@link ChronosTimeDebt} from its
+     * budgeted drain, never directly from a click.
+     */
+    static void payTimeDebt(ServerLevel level, BlockPos pos, int ticks) {
+        boolean affected = false;
+        BlockEntity blockEntity = level.getBlockEntity(pos);
+        if (blockEntity != null) {
+            affected = accelerateBlockEntity(level, pos, blockEntity, ticks);
+        }
+        if (!affected) {
+            affected = accelerateBlock(level, pos, ticks);
+        }
+        if (affected) {
+            createHelixEffects(level, pos);
+        }
+    }
+
     private boolean acceleratePlayerCooldowns(Player player, int ticks) {
         try {
             Field cooldownsField = findFieldByNames(player, "cooldowns", "f_36175_");
@@ -176,81 +293,53 @@ public class ChronosImplementItem extends Item {
     }
 
     private boolean accelerateVillager(Villager villager, int ticks) {
-        boolean changed = false;
-        try {
-            Level level = villager.level();
-            Class<?> villagerClass = villager.getClass();
-            Class<?> currentClass = villagerClass;
-            while (currentClass != null) {
-                for (Field field : currentClass.getDeclaredFields()) {
-                    field.setAccessible(true);
-                    String fieldName = field.getName();
-                    if (fieldName.equals("lastRestockGameTime") || fieldName.equals("f_35459_") ||
-                            fieldName.equals("lastRestockCheckDayTime") || fieldName.equals("f_35460_") ||
-                            fieldName.equals("numberOfRestocksToday") || fieldName.equals("f_35461_") ||
-                            fieldName.contains("restock") || fieldName.contains("trade") ||
-                            fieldName.contains("time") || fieldName.contains("tick") ||
-                            fieldName.contains("cooldown") || fieldName.contains("delay")) {
-                        try {
-                            if (field.getType() == long.class) {
-                                long current = field.getLong(villager);
-                                field.setLong(villager, current - ticks);
-                                changed = true;
-                            } else if (field.getType() == int.class) {
-                                int current = field.getInt(villager);
-                                if (fieldName.contains("restock") || fieldName.contains("count") ||
-                                        fieldName.equals("numberOfRestocksToday") || fieldName.equals("f_35461_")) {
-                                    field.setInt(villager, 0);
-                                } else if (fieldName.contains("cooldown") || fieldName.contains("delay")) {
-                                    int newValue = Math.max(0, current - ticks);
-                                    field.setInt(villager, newValue);
-                                } else if (current > 0) {
-                                    int newValue = Math.max(0, current - ticks);
-                                    field.setInt(villager, newValue);
-                                }
-                                changed = true;
-                            }
-                        } catch (Exception e) {
-                        }
+        for (ChronosAccessors.FieldAccessor field : ChronosAccessors.villagerTimers(villager.getClass())) {
+            String fieldName = field.name();
+            try {
+                if (field.type() == long.class) {
+                    field.setLong(villager, field.getLong(villager) - ticks);
+                } else {
+                    int current = field.getInt(villager);
+                    if (fieldName.contains("restock") || fieldName.contains("count") ||
+                            fieldName.equals("numberOfRestocksToday") || fieldName.equals("f_35461_")) {
+                        field.setInt(villager, 0);
+                    } else if (fieldName.contains("cooldown") || fieldName.contains("delay") || current > 0) {
+                        field.setInt(villager, Math.max(0, current - ticks));
                     }
                 }
-                currentClass = currentClass.getSuperclass();
-            }
-            if (changed || true) {
-                villager.restock();
-                villager.refreshBrain((ServerLevel) level);
-                changed = true;
+            } catch (Exception e) {
             }
+        }
+        try {
+            villager.restock();
+            villager.refreshBrain((ServerLevel) villager.level());
         } catch (Exception e) {
         }
-        return changed;
+        return true;
     }
 
-    private boolean accelerateBlockEntity(Level level, BlockPos pos, BlockEntity blockEntity, int ticks) {
+    private static boolean accelerateBlockEntity(Level level, BlockPos pos, BlockEntity blockEntity, int ticks) {
         if (blockEntity instanceof AbstractFurnaceBlockEntity furnace) {
-            boolean result = accelerateFurnaceDirectly(furnace, ticks);
-            if (!result) {
-                result = simulateFurnaceTicks(furnace, Math.min(ticks, 200));
-                if (!result) {
-                    ItemStack input = furnace.getItem(0);
-                    ItemStack fuel = furnace.getItem(1);
-                    if (!input.isEmpty() || !fuel.isEmpty()) {
-                        furnace.setChanged();
-                        level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), Block.UPDATE_ALL);
-                        return true;
-                    }
-                }
+            if (ChronosFastForward.furnace(furnace, ticks)) {
+                return true;
+            }
+            ItemStack input = furnace.getItem(0);
+            ItemStack fuel = furnace.getItem(1);
+            if (!input.isEmpty() || !fuel.isEmpty()) {
+                furnace.setChanged();
+                level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), Block.UPDATE_ALL);
+                return true;
             }
-            return result;
+            return false;
         }
         if (blockEntity instanceof BrewingStandBlockEntity brewingStand) {
-            return accelerateBrewingStand(brewingStand, ticks);
+            return ChronosFastForward.brewingStand(brewingStand, ticks);
         }
         if (blockEntity instanceof CampfireBlockEntity campfire) {
             return accelerateCampfire(campfire, ticks);
         }
         if (blockEntity instanceof HopperBlockEntity hopper) {
-            return accelerateHopper(hopper, ticks);
+            return ChronosFastForward.hopper(hopper, ticks);
         }
         if (blockEntity instanceof BeaconBlockEntity beacon) {
             return accelerateBeacon(beacon, ticks);
@@ -264,536 +353,7 @@ public class ChronosImplementItem extends Item {
         return accelerateWithReflection(blockEntity, level, pos, level.getBlockState(pos), ticks);
     }
 
-    private boolean accelerateFurnaceDirectly(AbstractFurnaceBlockEntity furnace, int accelerationTicks) {
-        Level level = furnace.getLevel();
-        if (level == null || level.isClientSide) {
-            return false;
-        }
-        try {
-            ItemStack inputItem = furnace.getItem(0);
-            ItemStack fuelItem = furnace.getItem(1);
-            if (inputItem.isEmpty() && fuelItem.isEmpty()) {
-                return false;
-            }
-            Field litTimeField = findFieldByNames(furnace, "litTime", "f_58387_", "burnTime");
-            Field litDurationField = findFieldByNames(furnace, "litDuration", "f_58388_", "totalBurnTime");
-            Field cookingProgressField = findFieldByNames(furnace, "cookingProgress", "f_58389_", "cookTime");
-            Field cookingTotalTimeField = findFieldByNames(furnace, "cookingTotalTime", "f_58390_", "totalCookTime");
-            if (litTimeField == null || cookingProgressField == null) {
-                return false;
-            }
-            boolean hasChanges = false;
-            int remainingTicks = accelerationTicks;
-            int cyclesProcessed = 0;
-            int totalFuelUsed = 0;
-            while (remainingTicks >= 400) {
-                cyclesProcessed++;
-                inputItem = furnace.getItem(0);
-                fuelItem = furnace.getItem(1);
-                if (inputItem.isEmpty()) {
-                    break;
-                }
-                if (!canSmeltItem(furnace, inputItem, level)) {
-                    break;
-                }
-                int litTime = litTimeField.getInt(furnace);
-                int cookingProgress = cookingProgressField.getInt(furnace);
-                int cookingTotalTime = cookingTotalTimeField != null ? cookingTotalTimeField.getInt(furnace) : 200;
-                int recipeTime = getRecipeCookTime(furnace, inputItem, level);
-                if (cookingTotalTimeField != null) {
-                    cookingTotalTimeField.setInt(furnace, recipeTime);
-                    cookingTotalTime = recipeTime;
-                }
-                int ticksNeededToComplete = cookingTotalTime - cookingProgress;
-                if (litTime <= 0) {
-                    if (fuelItem.isEmpty()) {
-                        break;
-                    }
-                    int fuelBurnTime = getBurnTime(fuelItem);
-                    if (fuelBurnTime <= 0) {
-                        break;
-                    }
-                    litTimeField.setInt(furnace, fuelBurnTime);
-                    if (litDurationField != null) {
-                        litDurationField.setInt(furnace, fuelBurnTime);
-                    }
-                    if (fuelItem.getCount() == 1) {
-                        furnace.setItem(1, ItemStack.EMPTY);
-                    } else {
-                        fuelItem.shrink(1);
-                    }
-                    fuelItem = furnace.getItem(1);
-                    litTime = fuelBurnTime;
-                    totalFuelUsed++;
-                    hasChanges = true;
-                }
-                int availableFuelTicks = litTime;
-                ItemStack currentFuel = fuelItem.copy();
-                int additionalFuelTicks = 0;
-                while (!currentFuel.isEmpty() && (availableFuelTicks + additionalFuelTicks) < ticksNeededToComplete) {
-                    int fuelBurnTime = getBurnTime(currentFuel);
-                    if (fuelBurnTime <= 0) break;
-                    additionalFuelTicks += fuelBurnTime;
-                    if (currentFuel.getCount() == 1) {
-                        currentFuel = ItemStack.EMPTY;
-                    } else {
-                        currentFuel.shrink(1);
-                    }
-                }
-                int totalAvailableFuel = availableFuelTicks + additionalFuelTicks;
-                int maxAdvance = Math.min(remainingTicks, Math.min(ticksNeededToComplete, totalAvailableFuel));
-                if (maxAdvance <= 0) {
-                    break;
-                }
-                cookingProgressField.setInt(furnace, cookingProgress + maxAdvance);
-                int fuelToConsume = maxAdvance;
-                if (fuelToConsume > 0 && litTime > 0) {
-                    int consumeFromLit = Math.min(fuelToConsume, litTime);
-                    litTimeField.setInt(furnace, litTime - consumeFromLit);
-                    fuelToConsume -= consumeFromLit;
-                    litTime -= consumeFromLit;
-                }
-                while (fuelToConsume > 0 && !fuelItem.isEmpty()) {
-                    int fuelBurnTime = getBurnTime(fuelItem);
-                    if (fuelBurnTime <= 0) break;
-                    if (fuelItem.getCount() == 1) {
-                        furnace.setItem(1, ItemStack.EMPTY);
-                    } else {
-                        fuelItem.shrink(1);
-                    }
-                    fuelItem = furnace.getItem(1);
-                    totalFuelUsed++;
-                    int fuelUsed = Math.min(fuelToConsume, fuelBurnTime);
-                    fuelToConsume -= fuelUsed;
-                    int leftoverFuel = fuelBurnTime - fuelUsed;
-                    if (leftoverFuel > 0) {
-                        litTimeField.setInt(furnace, leftoverFuel);
-                        if (litDurationField != null) {
-                            litDurationField.setInt(furnace, fuelBurnTime);
-                        }
-                    }
-                }
-                cookingProgress += maxAdvance;
-                remainingTicks -= maxAdvance;
-                hasChanges = true;
-                if (cookingProgress >= cookingTotalTime) {
-                    if (completeSmeltingProcess(furnace, inputItem, level)) {
-                        cookingProgressField.setInt(furnace, 0);
-                        if (cookingTotalTimeField != null) {
-                            cookingTotalTimeField.setInt(furnace, 200);
-                        }
-                        continue;
-                    } else {
-                        break;
-                    }
-                } else {
-                    break;
-                }
-            }
-            if (hasChanges) {
-                furnace.setChanged();
-                level.sendBlockUpdated(furnace.getBlockPos(), level.getBlockState(furnace.getBlockPos()),
-                        level.getBlockState(furnace.getBlockPos()), Block.UPDATE_ALL);
-                return true;
-            }
-        } catch (Exception e) {
-            return false;
-        }
-        return false;
-    }
-
-    private boolean hasSufficientFuelForItems(AbstractFurnaceBlockEntity furnace, int ticksNeeded) {
-        try {
-            Field litTimeField = findFieldByNames(furnace, "litTime", "f_58387_", "burnTime");
-            if (litTimeField == null) {
-                return false;
-            }
-            int currentLitTime = litTimeField.getInt(furnace);
-            int totalFuelTicks = currentLitTime;
-            ItemStack fuelItem = furnace.getItem(1).copy();
-            int fuelItemsChecked = 0;
-            while (!fuelItem.isEmpty()) {
-                int burnTime = getBurnTime(fuelItem);
-                if (burnTime <= 0) break;
-                totalFuelTicks += burnTime;
-                fuelItemsChecked++;
-                if (fuelItem.getCount() == 1) {
-                    fuelItem = ItemStack.EMPTY;
-                } else {
-                    fuelItem.shrink(1);
-                }
-                if (totalFuelTicks >= ticksNeeded) {
-                    return true;
-                }
-            }
-            return totalFuelTicks >= ticksNeeded;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private int calculateMaxSmeltableItems(AbstractFurnaceBlockEntity furnace, Level level) {
-        try {
-            Field litTimeField = findFieldByNames(furnace, "litTime", "f_58387_", "burnTime");
-            if (litTimeField == null) {
-                return 0;
-            }
-            int currentLitTime = litTimeField.getInt(furnace);
-            int totalFuelTicks = currentLitTime;
-            ItemStack fuelItem = furnace.getItem(1).copy();
-            while (!fuelItem.isEmpty()) {
-                int burnTime = getBurnTime(fuelItem);
-                if (burnTime <= 0) break;
-                totalFuelTicks += burnTime;
-                if (fuelItem.getCount() == 1) {
-                    fuelItem = ItemStack.EMPTY;
-                } else {
-                    fuelItem.shrink(1);
-                }
-            }
-            ItemStack inputItem = furnace.getItem(0);
-            if (inputItem.isEmpty()) {
-                return 0;
-            }
-            int recipeTime = getRecipeCookTime(furnace, inputItem, level);
-            if (recipeTime <= 0) {
-                return 0;
-            }
-            int maxItems = totalFuelTicks / recipeTime;
-            return maxItems;
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
-    private boolean simulateFurnaceTicks(AbstractFurnaceBlockEntity furnace, int ticks) {
-        try {
-            Level level = furnace.getLevel();
-            BlockPos pos = furnace.getBlockPos();
-            BlockState state = level.getBlockState(pos);
-            Method serverTickMethod = findMethodByNames(furnace.getClass(),
-                    "serverTick", "m_155014_", "tick");
-            if (serverTickMethod != null) {
-                serverTickMethod.setAccessible(true);
-                int safeTicks = Math.min(ticks, 100);
-                for (int i = 0; i < safeTicks; i++) {
-                    try {
-                        if (serverTickMethod.getParameterCount() == 4) {
-                            serverTickMethod.invoke(null, level, pos, state, furnace);
-                        } else if (serverTickMethod.getParameterCount() == 0) {
-                            serverTickMethod.invoke(furnace);
-                        }
-                    } catch (Exception e) {
-                        break;
-                    }
-                }
-                furnace.setChanged();
-                return true;
-            }
-            ItemStack input = furnace.getItem(0);
-            ItemStack fuel = furnace.getItem(1);
-            if (!input.isEmpty() || !fuel.isEmpty()) {
-                furnace.setChanged();
-                return true;
-            }
-        } catch (Exception e) {
-        }
-        return false;
-    }
-
-    private int getRecipeCookTime(AbstractFurnaceBlockEntity furnace, ItemStack item, Level level) {
-        try {
-            RecipeManager recipeManager = level.getRecipeManager();
-            Container container = furnace;
-            String className = furnace.getClass().getSimpleName().toLowerCase();
-            if (className.contains("blastfurnace")) {
-                Optional<BlastingRecipe> recipe = recipeManager.getRecipeFor(RecipeType.BLASTING, container, level);
-                if (recipe.isPresent()) {
-                    int cookTime = recipe.get().getCookingTime();
-                    return cookTime;
-                } else {
-                    return 100;
-                }
-            } else if (className.contains("smoker")) {
-                Optional<SmokingRecipe> recipe = recipeManager.getRecipeFor(RecipeType.SMOKING, container, level);
-                if (recipe.isPresent()) {
-                    int cookTime = recipe.get().getCookingTime();
-                    return cookTime;
-                } else {
-                    return 100;
-                }
-            } else {
-                Optional<SmeltingRecipe> recipe = recipeManager.getRecipeFor(RecipeType.SMELTING, container, level);
-                if (recipe.isPresent()) {
-                    int cookTime = recipe.get().getCookingTime();
-                    return cookTime;
-                } else {
-                    return 200;
-                }
-            }
-        } catch (Exception e) {
-            String className = furnace.getClass().getSimpleName().toLowerCase();
-            if (className.contains("blastfurnace") || className.contains("smoker")) {
-                return 100;
-            }
-            return 200;
-        }
-    }
-
-    private int getBurnTime(ItemStack fuel) {
-        if (fuel.isEmpty()) {
-            return 0;
-        }
-        try {
-            int burnTime = net.minecraftforge.common.ForgeHooks.getBurnTime(fuel, null);
-            if (burnTime > 0) {
-                return burnTime;
-            }
-        } catch (Exception e) {
-        }
-        String itemName = fuel.getItem().toString().toLowerCase();
-        int fallbackValue = 0;
-        if (itemName.contains("coal_block")) fallbackValue = 16000;
-        else if (itemName.contains("coal")) fallbackValue = 1600;
-        else if (itemName.contains("charcoal")) fallbackValue = 1600;
-        else if (itemName.contains("lava_bucket")) fallbackValue = 20000;
-        else if (itemName.contains("blaze_rod")) fallbackValue = 2400;
-        else if (itemName.contains("dried_kelp_block")) fallbackValue = 4000;
-        else if (itemName.contains("log") || itemName.contains("wood")) fallbackValue = 300;
-        else if (itemName.contains("planks")) fallbackValue = 300;
-        else if (itemName.contains("stick")) fallbackValue = 100;
-        else if (itemName.contains("bamboo")) fallbackValue = 50;
-        else if (itemName.contains("sapling")) fallbackValue = 100;
-        else if (itemName.contains("wood") || itemName.contains("coal") || itemName.contains("fuel") ||
-                itemName.contains("burn") || itemName.contains("fire")) {
-            fallbackValue = 200;
-        }
-        return fallbackValue;
-    }
-
-    private boolean canSmeltItem(AbstractFurnaceBlockEntity furnace, ItemStack item, Level level) {
-        if (item.isEmpty()) {
-            return false;
-        }
-        try {
-            RecipeManager recipeManager = level.getRecipeManager();
-            Container container = furnace;
-            String className = furnace.getClass().getSimpleName().toLowerCase();
-            boolean hasRecipe = false;
-            if (className.contains("blastfurnace")) {
-                hasRecipe = recipeManager.getRecipeFor(RecipeType.BLASTING, container, level).isPresent();
-            } else if (className.contains("smoker")) {
-                hasRecipe = recipeManager.getRecipeFor(RecipeType.SMOKING, container, level).isPresent();
-            } else {
-                hasRecipe = recipeManager.getRecipeFor(RecipeType.SMELTING, container, level).isPresent();
-            }
-            return hasRecipe;
-        } catch (Exception e) {
-            String itemName = item.getItem().toString().toLowerCase();
-            boolean canSmelt = itemName.contains("ore") || itemName.contains("raw_") ||
-                    itemName.contains("food") || itemName.contains("meat") ||
-                    itemName.contains("fish") || itemName.contains("potato") ||
-                    itemName.contains("log") || itemName.contains("sand");
-            return canSmelt;
-        }
-    }
-
-    private boolean completeSmeltingProcess(AbstractFurnaceBlockEntity furnace, ItemStack inputItem, Level level) {
-        try {
-            RecipeManager recipeManager = level.getRecipeManager();
-            Container container = furnace;
-            AbstractCookingRecipe recipe = null;
-            ItemStack result = ItemStack.EMPTY;
-            String className = furnace.getClass().getSimpleName().toLowerCase();
-            if (className.contains("blastfurnace")) {
-                Optional<BlastingRecipe> blastingRecipe = recipeManager.getRecipeFor(RecipeType.BLASTING, container, level);
-                if (blastingRecipe.isPresent()) {
-                    recipe = blastingRecipe.get();
-                    result = recipe.getResultItem(level.registryAccess()).copy();
-                }
-            } else if (className.contains("smoker")) {
-                Optional<SmokingRecipe> smokingRecipe = recipeManager.getRecipeFor(RecipeType.SMOKING, container, level);
-                if (smokingRecipe.isPresent()) {
-                    recipe = smokingRecipe.get();
-                    result = recipe.getResultItem(level.registryAccess()).copy();
-                }
-            } else {
-                Optional<SmeltingRecipe> smeltingRecipe = recipeManager.getRecipeFor(RecipeType.SMELTING, container, level);
-                if (smeltingRecipe.isPresent()) {
-                    recipe = smeltingRecipe.get();
-                    result = recipe.getResultItem(level.registryAccess()).copy();
-                }
-            }
-            if (result.isEmpty() || recipe == null) {
-                return false;
-            }
-            ItemStack outputSlot = furnace.getItem(2);
-            if (outputSlot.isEmpty()) {
-                furnace.setItem(2, result);
-            } else if (ItemStack.isSameItemSameTags(outputSlot, result)) {
-                int maxStack = Math.min(outputSlot.getMaxStackSize(), 64);
-                if (outputSlot.getCount() + result.getCount() <= maxStack) {
-                    outputSlot.grow(result.getCount());
-                } else {
-                    return false;
-                }
-            } else {
-                return false;
-            }
-            float experience = recipe.getExperience();
-            if (experience > 0) {
-                boolean usedActualExp = false;
-                try {
-                    Field recipesUsedField = findFieldByNames(furnace, "recipesUsed", "f_58391_");
-                    if (recipesUsedField != null) {
-                        recipesUsedField.setAccessible(true);
-                        Object recipesUsedObj = recipesUsedField.get(furnace);
-                        if (recipesUsedObj != null) {
-                            try {
-                                Method addToMethod = recipesUsedObj.getClass().getMethod("addTo", Object.class, int.class);
-                                addToMethod.invoke(recipesUsedObj, recipe.getId(), 1);
-                                usedActualExp = true;
-                            } catch (Exception e) {
-                                try {
-                                    Method putMethod = recipesUsedObj.getClass().getMethod("put", Object.class, Object.class);
-                                    Method getMethod = recipesUsedObj.getClass().getMethod("getOrDefault", Object.class, Object.class);
-                                    Object currentCount = getMethod.invoke(recipesUsedObj, recipe.getId(), 0);
-                                    if (currentCount instanceof Integer) {
-                                        putMethod.invoke(recipesUsedObj, recipe.getId(), ((Integer) currentCount) + 1);
-                                        usedActualExp = true;
-                                    }
-                                } catch (Exception e2) {
-                                    awardDirectExperience(furnace, recipe, level);
-                                }
-                            }
-                        } else {
-                            awardDirectExperience(furnace, recipe, level);
-                        }
-                    } else {
-                        awardDirectExperience(furnace, recipe, level);
-                    }
-                } catch (Exception e) {
-                    awardDirectExperience(furnace, recipe, level);
-                }
-                if (!usedActualExp) {
-                }
-            }
-            inputItem.shrink(1);
-            if (inputItem.isEmpty()) {
-                furnace.setItem(0, ItemStack.EMPTY);
-            }
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private void awardDirectExperience(AbstractFurnaceBlockEntity furnace, AbstractCookingRecipe recipe, Level level) {
-        try {
-            float experience = recipe.getExperience();
-            if (experience <= 0) {
-                return;
-            }
-            BlockPos pos = furnace.getBlockPos();
-            List<Player> nearbyPlayers = level.getEntitiesOfClass(Player.class,
-                    new AABB(pos).inflate(8.0),
-                    player -> player.distanceToSqr(pos.getX(), pos.getY(), pos.getZ()) <= 64);
-            if (!nearbyPlayers.isEmpty()) {
-                Player closestPlayer = nearbyPlayers.get(0);
-                double closestDistance = closestPlayer.distanceToSqr(pos.getX(), pos.getY(), pos.getZ());
-                for (Player player : nearbyPlayers) {
-                    double distance = player.distanceToSqr(pos.getX(), pos.getY(), pos.getZ());
-                    if (distance < closestDistance) {
-                        closestPlayer = player;
-                        closestDistance = distance;
-                    }
-                }
-                if (level instanceof ServerLevel serverLevel) {
-                    int xpPoints = Math.round(experience * 10);
-                    net.minecraft.world.entity.ExperienceOrb.award(serverLevel,
-                            net.minecraft.world.phys.Vec3.atCenterOf(pos), xpPoints);
-                }
-            }
-        } catch (Exception e) {
-        }
-    }
-
-    private boolean accelerateBrewingStand(BrewingStandBlockEntity brewingStand, int ticks) {
-        Level level = brewingStand.getLevel();
-        BlockPos pos = brewingStand.getBlockPos();
-        try {
-            int remainingTicks = ticks;
-            boolean anyBrewing = false;
-            Field brewTimeField = findFieldByNames(brewingStand, "brewTime", "f_59123_");
-            Field fuelField = findFieldByNames(brewingStand, "fuel", "f_59124_");
-            if (brewTimeField != null && brewTimeField.getType() == int.class) {
-                int cyclesCompleted = 0;
-                while (remainingTicks >= 400 && isBrewingStandActive(brewingStand)) {
-                    int currentBrewTime = brewTimeField.getInt(brewingStand);
-                    if (currentBrewTime > 0) {
-                        int newTime = Math.max(0, currentBrewTime - 400);
-                        brewTimeField.setInt(brewingStand, newTime);
-                        if (newTime == 0) {
-                            tryCompleteBrewingCycle(brewingStand);
-                            cyclesCompleted++;
-                        }
-                        anyBrewing = true;
-                        remainingTicks -= 400;
-                    } else {
-                        break;
-                    }
-                }
-            }
-            if (anyBrewing) {
-                brewingStand.setChanged();
-                if (level != null) level.sendBlockUpdated(pos, level.getBlockState(pos), level.getBlockState(pos), Block.UPDATE_ALL);
-                return true;
-            }
-        } catch (Exception e) {
-            return accelerateWithReflection(brewingStand, level, pos, level.getBlockState(pos), ticks);
-        }
-        return false;
-    }
-
-    private void tryCompleteBrewingCycle(BrewingStandBlockEntity brewingStand) {
-        try {
-            Method[] methods = brewingStand.getClass().getDeclaredMethods();
-            boolean foundMethod = false;
-            for (Method method : methods) {
-                String name = method.getName();
-                if (name.contains("brew") || name.contains("doBrew") || name.equals("m_59134_")) {
-                    try {
-                        method.setAccessible(true);
-                        if (method.getParameterCount() == 0) {
-                            method.invoke(brewingStand);
-                            foundMethod = true;
-                            break;
-                        }
-                    } catch (Exception e) {
-                        continue;
-                    }
-                }
-            }
-        } catch (Exception e) {
-        }
-    }
-
-    private boolean isBrewingStandActive(BrewingStandBlockEntity brewingStand) {
-        try {
-            Field brewTimeField = findFieldByNames(brewingStand, "brewTime", "f_59123_");
-            if (brewTimeField != null && brewTimeField.getType() == int.class) {
-                int brewTime = brewTimeField.getInt(brewingStand);
-                return brewTime > 0;
-            }
-            boolean hasItems = !brewingStand.getItem(0).isEmpty() || !brewingStand.getItem(1).isEmpty() ||
-                    !brewingStand.getItem(2).isEmpty() || !brewingStand.getItem(3).isEmpty();
-            return hasItems;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    private boolean accelerateCampfire(CampfireBlockEntity campfire, int ticks) {
+    private static boolean accelerateCampfire(CampfireBlockEntity campfire, int ticks) {
         try {
             Field cookingProgressField = findFieldByNames(campfire, "cookingProgress", "f_59042_");
             Field cookingTimeField = findFieldByNames(campfire, "cookingTime", "f_59043_");
@@ -828,7 +388,7 @@ public class ChronosImplementItem extends Item {
         return false;
     }
 
-    private boolean hasItemInSlot(CampfireBlockEntity campfire, int slot) {
+    private static boolean hasItemInSlot(CampfireBlockEntity campfire, int slot) {
         try {
             Field itemsField = findFieldByNames(campfire, "items", "f_58857_");
             if (itemsField != null) {
@@ -846,53 +406,7 @@ public class ChronosImplementItem extends Item {
         return false;
     }
 
-    private boolean accelerateHopper(HopperBlockEntity hopper, int ticks) {
-        try {
-            Field cooldownField = findFieldByNames(hopper, "cooldownTime", "f_59309_");
-            if (cooldownField != null && cooldownField.getType() == int.class) {
-                int oldCooldown = cooldownField.getInt(hopper);
-                cooldownField.setInt(hopper, 0);
-            }
-            int transfersToPerform = ticks / 8;
-            boolean anyTransfers = false;
-            for (int i = 0; i < Math.min(transfersToPerform, 500); i++) {
-                Method[] methods = hopper.getClass().getDeclaredMethods();
-                boolean foundTransferMethod = false;
-                for (Method method : methods) {
-                    String name = method.getName();
-                    if (name.equals("tryMoveItems") || name.equals("m_59351_")) {
-                        try {
-                            method.setAccessible(true);
-                            if (method.getParameterCount() <= 3) {
-                                Object result = method.invoke(null, hopper.getLevel(), hopper.getBlockPos(),
-                                        hopper.getLevel().getBlockState(hopper.getBlockPos()), hopper);
-                                if (result instanceof Boolean && (Boolean) result) {
-                                    anyTransfers = true;
-                                }
-                                foundTransferMethod = true;
-                                break;
-                            }
-                        } catch (Exception e) {
-                            continue;
-                        }
-                    }
-                }
-                if (!foundTransferMethod && i == 0) {
-                    break;
-                }
-            }
-            if (anyTransfers) {
-                hopper.setChanged();
-                return true;
-            }
-        } catch (Exception e) {
-            return accelerateWithReflection(hopper, hopper.getLevel(), hopper.getBlockPos(),
-                    hopper.getLevel().getBlockState(hopper.getBlockPos()), ticks);
-        }
-        return false;
-    }
-
-    private boolean accelerateBeacon(BeaconBlockEntity beacon, int ticks) {
+    private static boolean accelerateBeacon(BeaconBlockEntity beacon, int ticks) {
         try {
             Level level = beacon.getLevel();
             BlockPos pos = beacon.getBlockPos();
@@ -907,7 +421,7 @@ public class ChronosImplementItem extends Item {
         }
     }
 
-    private boolean accelerateSculkSensor(SculkSensorBlockEntity sculkSensor, int ticks) {
+    private static boolean accelerateSculkSensor(SculkSensorBlockEntity sculkSensor, int ticks) {
         try {
             Field cooldownField = findFieldByNames(sculkSensor, "cooldownTicks", "f_222679_");
             if (cooldownField != null) {
@@ -930,7 +444,7 @@ public class ChronosImplementItem extends Item {
         return false;
     }
 
-    private boolean accelerateSculkShrieker(SculkShriekerBlockEntity sculkShrieker, int ticks) {
+    private static boolean accelerateSculkShrieker(SculkShriekerBlockEntity sculkShrieker, int ticks) {
         try {
             Field warningField = findFieldByNames(sculkShrieker, "warningLevel", "f_222858_");
             if (warningField != null) {
@@ -953,83 +467,15 @@ public class ChronosImplementItem extends Item {
         return false;
     }
 
-    private boolean accelerateWithReflection(BlockEntity blockEntity, Level level, BlockPos pos, BlockState state, int ticks) {
+    private static boolean accelerateWithReflection(BlockEntity blockEntity, Level level, BlockPos pos, BlockState state, int ticks) {
         try {
-            boolean changed = false;
-            int fieldsModified = 0;
-            Class<?> currentClass = blockEntity.getClass();
-            while (currentClass != null) {
-                for (Field field : currentClass.getDeclaredFields()) {
-                    field.setAccessible(true);
-                    String fieldName = field.getName().toLowerCase();
-                    if ((fieldName.contains("time") || fieldName.contains("tick") ||
-                            fieldName.contains("cooldown") || fieldName.contains("progress") ||
-                            fieldName.startsWith("f_") && field.getType() == int.class) &&
-                            (field.getType() == int.class || field.getType() == long.class)) {
-                        try {
-                            if (field.getType() == int.class) {
-                                int current = field.getInt(blockEntity);
-                                if (current > 0) {
-                                    if (fieldName.contains("progress") || fieldName.contains("cooking") ||
-                                            fieldName.contains("brew") || fieldName.contains("burn")) {
-                                        field.setInt(blockEntity, current + ticks);
-                                    } else {
-                                        int newValue = Math.max(0, current - ticks);
-                                        field.setInt(blockEntity, newValue);
-                                    }
-                                    changed = true;
-                                    fieldsModified++;
-                                }
-                            } else {
-                                long current = field.getLong(blockEntity);
-                                if (current > 0) {
-                                    long newValue = Math.max(0, current - ticks);
-                                    field.setLong(blockEntity, newValue);
-                                    changed = true;
-                                    fieldsModified++;
-                                }
-                            }
-                        } catch (Exception e) {
-                        }
-                    }
-                }
-                currentClass = currentClass.getSuperclass();
-            }
-            if (changed) {
-                blockEntity.setChanged();
-                return true;
-            }
-            Method[] methods = blockEntity.getClass().getDeclaredMethods();
-            boolean foundTickMethod = false;
-            for (Method method : methods) {
-                String name = method.getName();
-                if ((name.equals("tick") || name.contains("Tick") || name.equals("m_6596_")) &&
-                        method.getParameterCount() <= 4) {
-                    method.setAccessible(true);
-                    foundTickMethod = true;
-                    int safeTicks = Math.min(ticks, 200);
-                    for (int i = 0; i < safeTicks; i++) {
-                        try {
-                            if (method.getParameterCount() == 0) {
-                                method.invoke(blockEntity);
-                            } else if (method.getParameterCount() == 4) {
-                                method.invoke(blockEntity, level, pos, state, blockEntity);
-                            } else if (method.getParameterCount() == 3) {
-                                method.invoke(blockEntity, level, pos, state);
-                            }
-                        } catch (Exception e) {
-                            break;
-                        }
-                    }
-                    return true;
-                }
-            }
+            return ChronosAccessors.plan(blockEntity).apply(blockEntity, level, pos, state, ticks);
         } catch (Exception e) {
+            return false;
         }
-        return false;
     }
 
-    private boolean accelerateBlock(Level level, BlockPos pos, int ticks) {
+    private static boolean accelerateBlock(Level level, BlockPos pos, int ticks) {
         BlockState state = level.getBlockState(pos);
         Block block = state.getBlock();
         RandomSource random = level.getRandom();
@@ -1080,29 +526,19 @@ public class ChronosImplementItem extends Item {
         return changed;
     }
 
-    private boolean accelerateAgeProperty(Level level, BlockPos pos, BlockState state, int ticks, RandomSource random) {
+    private static boolean accelerateAgeProperty(Level level, BlockPos pos, BlockState state, int ticks, RandomSource random) {
         for (Property<?> property : state.getProperties()) {
             if (property instanceof IntegerProperty intProp) {
                 String propName = property.getName().toLowerCase();
-                if (propName.contains("age") || propName.contains("stage") ||
-                        propName.contains("growth") || propName.contains("level") ||
-                        propName.contains("distance") || propName.contains("delay") ||
-                        propName.contains("power") || propName.contains("charges")) {
+                if (isAgeLike(propName)) {
                     try {
                         int currentValue = state.getValue(intProp);
                         int maxValue = intProp.getPossibleValues().stream().mapToInt(Integer::intValue).max().orElse(currentValue);
                         int minValue = intProp.getPossibleValues().stream().mapToInt(Integer::intValue).min().orElse(currentValue);
                         if (currentValue < maxValue) {
-                            int newValue = currentValue;
-                            int growthTicks = 0;
-                            for (int i = 0; i < ticks && newValue < maxValue; i++) {
-                                if (random.nextFloat() < 0.3f) {
-                                    newValue++;
-                                    growthTicks++;
-                                }
-                            }
+                            int newValue = ChronosFastForward.advanceAge(state, intProp, ticks, 0.3f, random);
                             if (newValue != currentValue) {
-                                BlockState newState = state.setValue(intProp, Math.min(newValue, maxValue));
+                                BlockState newState = state.setValue(intProp, newValue);
                                 level.setBlockAndUpdate(pos, newState);
                                 return true;
                             }
@@ -1125,6 +561,13 @@ public class ChronosImplementItem extends Item {
         return false;
     }
 
+    private static boolean isAgeLike(String propName) {
+        return propName.contains("age") || propName.contains("stage") ||
+                propName.contains("growth") || propName.contains("level") ||
+                propName.contains("distance") || propName.contains("delay") ||
+                propName.contains("power") || propName.contains("charges");
+    }
+
     private boolean accelerateAnimal(AgeableMob animal, int ticks) {
         boolean changed = false;
         if (animal.isBaby()) {
@@ -1143,45 +586,11 @@ public class ChronosImplementItem extends Item {
         return changed;
     }
 
-    private Field findFieldByNames(Object obj, String... names) {
-        try {
-            Class<?> clazz = obj.getClass();
-            while (clazz != null) {
-                for (String name : names) {
-                    try {
-                        Field field = clazz.getDeclaredField(name);
-                        field.setAccessible(true);
-                        return field;
-                    } catch (NoSuchFieldException e) {
-                        continue;
-                    }
-                }
-                clazz = clazz.getSuperclass();
-            }
-        } catch (Exception e) {
-        }
-        return null;
-    }
-
-    private Method findMethodByNames(Class<?> clazz, String... names) {
-        while (clazz != null) {
-            for (String name : names) {
-                try {
-                    for (Method method : clazz.getDeclaredMethods()) {
-                        if (method.getName().equals(name)) {
-                            return method;
-                        }
-                    }
-                } catch (Exception e) {
-                    continue;
-                }
-            }
-            clazz = clazz.getSuperclass();
-        }
-        return null;
+    private static Field findFieldByNames(Object obj, String... names) {
+        return ChronosAccessors.rawField(obj.getClass(), names);
     }
 
-    private void createHelixEffects(ServerLevel level, BlockPos pos) {
+    private static void createHelixEffects(ServerLevel level, BlockPos pos) {
         for (int i = 0; i < 40; i++) {
             double t = i / 40.0;
             double angle1 = t * 8 * Math.PI;
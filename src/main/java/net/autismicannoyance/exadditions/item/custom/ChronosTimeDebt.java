@@ -0,0 +1,192 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.IntArrayTag;
+import net.minecraft.nbt.LongArrayTag;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-level ledger of time the Chronos Implement still owes to block positions.
+ *
+ * A click only records debt (merged with whatever that position already owes, capped at
+ * MAX_DEBT_TICKS); the actual acceleration is paid back at the end of later level ticks under a
+ * fixed time budget. Positions whose chunk isn't loaded when their turn comes are parked per chunk
+ * and re-queued from ChunkEvent.Load. The ledger is saved with the level so parked debt survives
+ * restarts.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public class ChronosTimeDebt extends SavedData {
+    private static final String DATA_NAME = ExAdditions.MOD_ID + "_chronos_debt";
+    private static final String POSITIONS_KEY = "Positions";
+    private static final String TICKS_KEY = "Ticks";
+
+    // Most time a single position can be owed, however many uses overlap on it
+    private static final int MAX_DEBT_TICKS = 72000;
+    // Hard bound on positions owed per level, further uses are refused until it drains
+    private static final int MAX_ENTRIES = 32768;
+    // Server-thread time spent per level per tick on paying debt
+    private static final long TICK_BUDGET_NANOS = 2_000_000L; // 2 ms
+
+    // Ledgers of the currently loaded levels, so chunk loads / ticks never touch the data storage
+    private static final Map<ResourceKey<Level>, ChronosTimeDebt> LEDGERS = new HashMap<>();
+
+    private final Long2IntOpenHashMap owed = new Long2IntOpenHashMap();
+    // Positions in loaded chunks waiting for payment, oldest first
+    private final LongLinkedOpenHashSet queue = new LongLinkedOpenHashSet();
+    // Chunk -> positions that came up while that chunk was unloaded
+    private final Long2ObjectOpenHashMap<LongArrayList> parked = new Long2ObjectOpenHashMap<>();
+
+    public ChronosTimeDebt() {
+        super();
+    }
+
+    public static ChronosTimeDebt get(ServerLevel level) {
+        ChronosTimeDebt ledger = LEDGERS.get(level.dimension());
+        if (ledger == null) {
+            ledger = level.getDataStorage().computeIfAbsent(ChronosTimeDebt::load, ChronosTimeDebt::new, DATA_NAME);
+            LEDGERS.put(level.dimension(), ledger);
+        }
+        return ledger;
+    }
+
+    public static ChronosTimeDebt load(CompoundTag nbt) {
+        ChronosTimeDebt ledger = new ChronosTimeDebt();
+        long[] positions = nbt.getLongArray(POSITIONS_KEY);
+        int[] ticks = nbt.getIntArray(TICKS_KEY);
+        for (int i = 0; i < Math.min(positions.length, ticks.length); i++) {
+            if (ticks[i] <= 0) continue;
+            ledger.owed.put(positions[i], Math.min(ticks[i], MAX_DEBT_TICKS));
+            // Nothing is loaded yet when levels are read, everything waits for its chunk
+            ledger.park(positions[i]);
+        }
+        return ledger;
+    }
+
+    @Override
+    public CompoundTag save(CompoundTag nbt) {
+        long[] positions = new long[owed.size()];
+        int[] ticks = new int[owed.size()];
+        int i = 0;
+        for (Long2IntMap.Entry entry : owed.long2IntEntrySet()) {
+            positions[i] = entry.getLongKey();
+            ticks[i] = entry.getIntValue();
+            i++;
+        }
+        nbt.put(POSITIONS_KEY, new LongArrayTag(positions));
+        nbt.put(TICKS_KEY, new IntArrayTag(ticks));
+        return nbt;
+    }
+
+    /**
+     * Owe {@code ticks} to {@code pos}, merging with existing debt.
+     *
+     * @return false if the ledger is full and the position wasn't already on it
+     */
+    public boolean add(BlockPos pos, int ticks) {
+        if (ticks <= 0) return false;
+        long packed = pos.asLong();
+        int current = owed.get(packed);
+        if (current == 0 && owed.size() >= MAX_ENTRIES) return false;
+
+        owed.put(packed, (int) Math.min(MAX_DEBT_TICKS, (long) current + ticks));
+        queue.add(packed);
+        setDirty();
+        return true;
+    }
+
+    public int size() {
+        return owed.size();
+    }
+
+    private void drain(ServerLevel level, long deadline) {
+        boolean paid = false;
+        while (!queue.isEmpty() && System.nanoTime() < deadline) {
+            long packed = queue.removeFirstLong();
+            if (!owed.containsKey(packed)) continue; // already paid through an earlier queue entry
+
+            BlockPos pos = BlockPos.of(packed);
+            if (!level.isLoaded(pos)) {
+                park(packed);
+                continue;
+            }
+
+            int ticks = owed.remove(packed);
+            ChronosImplementItem.payTimeDebt(level, pos, ticks);
+            paid = true;
+        }
+        if (paid) setDirty();
+    }
+
+    private void park(long packed) {
+        long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(packed)),
+                SectionPos.blockToSectionCoord(BlockPos.getZ(packed)));
+        parked.computeIfAbsent(chunk, k -> new LongArrayList()).add(packed);
+    }
+
+    private void onChunkLoaded(ChunkPos chunkPos) {
+        LongArrayList positions = parked.remove(chunkPos.toLong());
+        if (positions != null) queue.addAll(positions);
+    }
+
+    // ---------------- events ----------------
+
+    @SubscribeEvent
+    public static void onLevelLoad(LevelEvent.Load event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            get(serverLevel);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LEDGERS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event) {
+        // Only full chunks, proto chunks can be loaded off-thread during generation
+        if (!(event.getLevel() instanceof ServerLevel serverLevel) || !(event.getChunk() instanceof LevelChunk chunk)) return;
+        ChronosTimeDebt ledger = LEDGERS.get(serverLevel.dimension());
+        if (ledger != null && !ledger.parked.isEmpty()) {
+            ledger.onChunkLoaded(chunk.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(TickEvent.LevelTickEvent event) {
+        if (event.phase != TickEvent.Phase.END || !(event.level instanceof ServerLevel serverLevel)) return;
+        ChronosTimeDebt ledger = LEDGERS.get(serverLevel.dimension());
+        if (ledger != null && !ledger.queue.isEmpty()) {
+            ledger.drain(serverLevel, System.nanoTime() + TICK_BUDGET_NANOS);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LEDGERS.clear();
+    }
+}
@@ -16,10 +16,10 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.network.PacketDistributor;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -97,36 +97,13 @@ public class EchoRifleItem extends Item {
     }
 
     private List<LivingEntity> findEntitiesInBeam(Level level, Vec3 start, Vec3 end, double width, Entity shooter) {
-        // Create expanded bounding box for the beam
-        AABB beamBounds = new AABB(start, end).inflate(width);
-
-        return level.getEntitiesOfClass(LivingEntity.class, beamBounds, entity -> {
-            if (entity == shooter) return false;
-            if (!entity.isAlive()) return false;
-
-            // Check if entity is actually within the beam cylinder
-            return isEntityInBeamCylinder(start, end, width, entity.getBoundingBox().getCenter());
-        });
-    }
-
-    private boolean isEntityInBeamCylinder(Vec3 start, Vec3 end, double width, Vec3 point) {
-        Vec3 beamDirection = end.subtract(start).normalize();
-        Vec3 toPoint = point.subtract(start);
-
-        // Project point onto beam line
-        double projectionLength = toPoint.dot(beamDirection);
-
-        // Check if projection is within beam length
-        if (projectionLength < 0 || projectionLength > start.distanceTo(end)) {
-            return false;
+        // Bounding boxes against the beam cylinder, nearest first
+        List<LivingEntity> hits = new ArrayList<>();
+        for (BeamQuery.Hit<LivingEntity> hit : BeamQuery.capsule(level, LivingEntity.class, start, end, width / 2.0,
+                entity -> entity != shooter && entity.isAlive())) {
+            hits.add(hit.entity());
         }
-
-        // Find closest point on beam line
-        Vec3 closestPoint = start.add(beamDirection.scale(projectionLength));
-
-        // Check distance from point to beam line
-        double distanceToBeam = point.distanceTo(closestPoint);
-        return distanceToBeam <= width / 2.0;
+        return hits;
     }
 
     /**
@@ -26,6 +26,7 @@ import net.minecraftforge.fml.DistExecutor;
 import net.minecraftforge.network.PacketDistributor;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Electric Wand - Creates storm clouds above player that strike nearby mobs with chained lightning
@@ -63,7 +64,6 @@ public class ElectricWandItem extends Item {
         if (!eventsRegistered) {
             MinecraftForge.EVENT_BUS.register(ElectricWandItem.class);
             eventsRegistered = true;
-            System.out.println("ElectricWandItem: Event handlers registered");
         }
     }
 
@@ -77,7 +77,6 @@ public class ElectricWandItem extends Item {
 
         if (!level.isClientSide) {
             ServerLevel serverLevel = (ServerLevel) level;
-            System.out.println("Electric wand used by: " + player.getName().getString());
 
             // Create or refresh storm cloud above player
             createStormCloud(serverLevel, player, stack, hand);
@@ -114,8 +113,6 @@ public class ElectricWandItem extends Item {
 
         // Send packet to clients for initial visual cloud rendering with position
         sendStormCloudCreatePacket(level, player, cloudPosition, CLOUD_DURATION);
-
-        System.out.println("Storm cloud created at: " + cloudPosition + " for player: " + player.getName().getString());
     }
 
     /**
@@ -130,7 +127,6 @@ public class ElectricWandItem extends Item {
         );
 
         ModNetworking.CHANNEL.send(PacketDistributor.NEAR.with(() -> targetPoint), packet);
-        System.out.println("Storm cloud creation packet sent to clients with position: " + cloudPosition);
     }
 
     /**
@@ -142,21 +138,56 @@ public class ElectricWandItem extends Item {
     }
 
     /**
-     * Tick method to be called from event handler
+     * Tick method to be called from event handler.
+     * Clouds due for a strike this tick share one entity grid per level, built from one lookup
+     * per cluster of overlapping detection boxes.
      */
     public static void tickStormClouds() {
         if (activeStormClouds.isEmpty()) return;
 
-        Iterator<Map.Entry<UUID, StormCloud>> iterator = activeStormClouds.entrySet().iterator();
+        Map<ServerLevel, List<StormCloud>> striking = new HashMap<>();
+        for (StormCloud cloud : activeStormClouds.values()) {
+            if (cloud.tick()) {
+                striking.computeIfAbsent(cloud.level, k -> new ArrayList<>()).add(cloud);
+            }
+        }
 
-        while (iterator.hasNext()) {
-            Map.Entry<UUID, StormCloud> entry = iterator.next();
-            StormCloud cloud = entry.getValue();
+        for (Map.Entry<ServerLevel, List<StormCloud>> entry : striking.entrySet()) {
+            LivingEntityGrid grid = buildGrid(entry.getKey(), entry.getValue());
+            for (StormCloud cloud : entry.getValue()) {
+                cloud.checkForLightningStrike(grid);
+            }
+        }
 
-            if (cloud.tick()) {
-                iterator.remove();
+        activeStormClouds.values().removeIf(StormCloud::isExpired);
+    }
+
+    private static LivingEntityGrid buildGrid(ServerLevel level, List<StormCloud> clouds) {
+        // Merge overlapping detection boxes so players fighting together cost one lookup
+        List<AABB> boxes = new ArrayList<>();
+        for (StormCloud cloud : clouds) {
+            AABB box = cloud.detectionBox();
+            boolean merged = true;
+            while (merged) {
+                merged = false;
+                for (Iterator<AABB> iterator = boxes.iterator(); iterator.hasNext(); ) {
+                    AABB other = iterator.next();
+                    if (other.intersects(box)) {
+                        box = box.minmax(other);
+                        iterator.remove();
+                        merged = true;
+                    }
+                }
             }
+            boxes.add(box);
+        }
+
+        LivingEntityGrid grid = new LivingEntityGrid(CHAIN_RANGE);
+        for (AABB box : boxes) {
+            grid.addAll(level.getEntitiesOfClass(LivingEntity.class, box,
+                    entity -> entity.isAlive() && !entity.isRemoved()));
         }
+        return grid;
     }
 
     /**
@@ -195,6 +226,9 @@ public class ElectricWandItem extends Item {
             return position;
         }
 
+        /**
+         * Advance one tick; true if the cloud should look for targets this tick.
+         */
         public boolean tick() {
             age++;
 
@@ -214,53 +248,37 @@ public class ElectricWandItem extends Item {
             }
 
             // Check for lightning strikes
-            if (age >= nextLightningCheck && player.isAlive()) {
-                checkForLightningStrike();
+            boolean due = age >= nextLightningCheck && player.isAlive();
+            if (due) {
                 nextLightningCheck = age + LIGHTNING_CHECK_INTERVAL;
             }
+            return due;
+        }
 
+        public boolean isExpired() {
             return age >= maxAge || !player.isAlive() || player.isRemoved();
         }
 
-        private void checkForLightningStrike() {
-            // Find mobs within range of the player (not the cloud)
-            AABB detectionBox = new AABB(player.position(), player.position()).inflate(MOB_DETECTION_RANGE);
-
-            List<LivingEntity> nearbyMobs = level.getEntitiesOfClass(LivingEntity.class, detectionBox,
-                    entity -> entity != player && entity.isAlive() && !entity.isRemoved());
-
-            System.out.println("Found " + nearbyMobs.size() + " nearby mobs");
-
-            if (!nearbyMobs.isEmpty()) {
-                LivingEntity closestMob = findClosestMob(nearbyMobs);
-
-                if (closestMob != null) {
-                    List<LivingEntity> chainTargets = findChainTargets(closestMob, nearbyMobs);
-
-                    if (!chainTargets.isEmpty()) {
-                        triggerLightningStrike(chainTargets);
-                        nextLightningCheck = age + MIN_LIGHTNING_COOLDOWN + level.random.nextInt(20);
-                    }
-                }
-            }
+        // Mobs are searched around the player (not the cloud)
+        private AABB detectionBox() {
+            return new AABB(player.position(), player.position()).inflate(MOB_DETECTION_RANGE);
         }
 
-        private LivingEntity findClosestMob(List<LivingEntity> mobs) {
-            LivingEntity closest = null;
-            double closestDistance = Double.MAX_VALUE;
+        private void checkForLightningStrike(LivingEntityGrid grid) {
+            AABB detectionBox = detectionBox();
+            Predicate<LivingEntity> candidate = entity -> entity != player && entity.isAlive() && !entity.isRemoved()
+                    && detectionBox.intersects(entity.getBoundingBox());
 
-            for (LivingEntity mob : mobs) {
-                double distance = player.distanceTo(mob);
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closest = mob;
-                }
-            }
+            // Past the box corners only mobs overlapping it with their bounding box are left
+            LivingEntity closestMob = grid.nearest(player.position(), MOB_DETECTION_RANGE * 2, candidate);
+            if (closestMob == null) return;
 
-            return closest;
+            List<LivingEntity> chainTargets = findChainTargets(closestMob, grid, candidate);
+            triggerLightningStrike(chainTargets);
+            nextLightningCheck = age + MIN_LIGHTNING_COOLDOWN + level.random.nextInt(20);
         }
 
-        private List<LivingEntity> findChainTargets(LivingEntity initialTarget, List<LivingEntity> allMobs) {
+        private List<LivingEntity> findChainTargets(LivingEntity initialTarget, LivingEntityGrid grid, Predicate<LivingEntity> candidate) {
             List<LivingEntity> chainTargets = new ArrayList<>();
             Set<LivingEntity> visited = new HashSet<>();
 
@@ -270,9 +288,9 @@ public class ElectricWandItem extends Item {
             LivingEntity currentTarget = initialTarget;
 
             while (chainTargets.size() < MAX_TARGETS) {
-                LivingEntity nextTarget = findNearestUnvisitedMob(currentTarget, allMobs, visited);
-
-                if (nextTarget == null || currentTarget.distanceTo(nextTarget) > CHAIN_RANGE) {
+                LivingEntity nextTarget = grid.nearest(currentTarget.position(), CHAIN_RANGE,
+                        entity -> !visited.contains(entity) && candidate.test(entity));
+                if (nextTarget == null) {
                     break;
                 }
 
@@ -284,26 +302,7 @@ public class ElectricWandItem extends Item {
             return chainTargets;
         }
 
-        private LivingEntity findNearestUnvisitedMob(LivingEntity currentTarget, List<LivingEntity> allMobs, Set<LivingEntity> visited) {
-            LivingEntity nearest = null;
-            double nearestDistance = Double.MAX_VALUE;
-
-            for (LivingEntity mob : allMobs) {
-                if (!visited.contains(mob)) {
-                    double distance = currentTarget.distanceTo(mob);
-                    if (distance < nearestDistance) {
-                        nearestDistance = distance;
-                        nearest = mob;
-                    }
-                }
-            }
-
-            return nearest;
-        }
-
         private void triggerLightningStrike(List<LivingEntity> targets) {
-            System.out.println("Triggering lightning strike on " + targets.size() + " targets");
-
             // Apply damage and effects
             applyElectricEffects(targets);
 
@@ -317,8 +316,6 @@ public class ElectricWandItem extends Item {
             level.playSound(null, position.x, position.y, position.z,
                     SoundEvents.LIGHTNING_BOLT_IMPACT, SoundSource.PLAYERS,
                     1.0f, 1.2f + level.random.nextFloat() * 0.6f);
-
-            System.out.println("Lightning strike triggered on " + targets.size() + " targets");
         }
 
         private void applyElectricEffects(List<LivingEntity> targets) {
@@ -328,7 +325,6 @@ public class ElectricWandItem extends Item {
                 LivingEntity target = targets.get(i);
                 float damage = BASE_DAMAGE * (float) Math.pow(CHAIN_DAMAGE_REDUCTION, i);
                 target.hurt(electricDamage, damage);
-                System.out.println("Applied " + damage + " damage to " + target.getName().getString());
 
                 if (target.isAlive()) {
                     // Knockback effect
@@ -353,7 +349,6 @@ public class ElectricWandItem extends Item {
             );
 
             ModNetworking.CHANNEL.send(PacketDistributor.NEAR.with(() -> targetPoint), packet);
-            System.out.println("Lightning effect packet sent to clients with " + targetIds.size() + " targets and cloud position: " + position);
         }
     }
 
@@ -6,7 +6,6 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResultHolder;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
@@ -99,29 +98,18 @@ public class EyeOfSauronItem extends Item {
         float baseDamage = Mth.lerp((float)(length / 32.0), 1.0F, 8.0F);
         if (soulFirePhase) baseDamage *= 2.0F;
 
-        double maxRadius = getRadius(length);
-        AABB damageBox = new AABB(eyePos, endVec).inflate(maxRadius);
+        // Cone of flame, tested against each entity's bounding box
+        List<BeamQuery.Hit<LivingEntity>> hits = BeamQuery.cone(level, LivingEntity.class, eyePos, endVec,
+                this::getRadius, e -> e != player);
 
-        List<Entity> entities = player.level().getEntities(player, damageBox,
-                e -> e instanceof LivingEntity && e != player);
+        for (BeamQuery.Hit<LivingEntity> hit : hits) {
+            LivingEntity e = hit.entity();
+            e.hurt(level.damageSources().inFire(), baseDamage);
 
-        for (Entity e : entities) {
-            Vec3 toEntity = e.position().subtract(eyePos);
-            double along = toEntity.dot(look);
-            if (along < 0 || along > length) continue;
+            Vec3 knock = look.scale(0.5);
+            e.push(knock.x, knock.y, knock.z);
 
-            double radiusAtPoint = getRadius(along);
-            Vec3 closestPoint = eyePos.add(look.scale(along));
-            if (e.position().distanceTo(closestPoint) <= radiusAtPoint + e.getBbWidth() / 2) {
-                e.hurt(level.damageSources().inFire(), baseDamage);
-
-                Vec3 knock = look.scale(0.5);
-                e.push(knock.x, knock.y, knock.z);
-
-                if (e instanceof LivingEntity le) {
-                    le.setSecondsOnFire(3);
-                }
-            }
+            e.setSecondsOnFire(3);
         }
     }
 
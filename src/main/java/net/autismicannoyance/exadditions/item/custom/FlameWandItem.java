@@ -15,7 +15,6 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.UseAnim;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.network.PacketDistributor;
 
@@ -81,31 +80,20 @@ public class FlameWandItem extends Item {
     }
 
     private void damageEntitiesInFlameJet(ServerLevel level, Player caster, Vec3 start, Vec3 end) {
-        Vec3 direction = end.subtract(start);
-        double length = direction.length();
-        Vec3 normalizedDir = direction.normalize();
-
-        int segments = (int)(length / 0.5) + 1;
+        double length = start.distanceTo(end);
 
-        for (int i = 0; i < segments; i++) {
-            double t = (double) i / Math.max(1, segments - 1);
-            Vec3 segmentCenter = start.add(normalizedDir.scale(length * t));
+        // Jet narrows towards the tip; each target is burned once per tick
+        List<BeamQuery.Hit<LivingEntity>> hits = BeamQuery.cone(level, LivingEntity.class, start, end,
+                along -> FLAME_WIDTH * 0.5 * (1.0 - (length > 0 ? along / length : 0) * 0.3),
+                entity -> entity != caster);
 
-            double segmentRadius = FLAME_WIDTH * 0.5 * (1.0 - t * 0.3);
+        for (BeamQuery.Hit<LivingEntity> hit : hits) {
+            LivingEntity target = hit.entity();
+            if (target.hurt(level.damageSources().playerAttack(caster), DAMAGE_PER_TICK)) {
+                target.setSecondsOnFire(3);
 
-            AABB searchBox = new AABB(segmentCenter.subtract(segmentRadius, segmentRadius, segmentRadius),
-                    segmentCenter.add(segmentRadius, segmentRadius, segmentRadius));
-
-            List<LivingEntity> entities = level.getEntitiesOfClass(LivingEntity.class, searchBox,
-                    entity -> entity != caster && entity.distanceToSqr(segmentCenter) <= segmentRadius * segmentRadius);
-
-            for (LivingEntity target : entities) {
-                if (target.hurt(level.damageSources().playerAttack(caster), DAMAGE_PER_TICK)) {
-                    target.setSecondsOnFire(3);
-
-                    Vec3 knockback = target.position().subtract(segmentCenter).normalize().scale(0.2);
-                    target.setDeltaMovement(target.getDeltaMovement().add(knockback));
-                }
+                Vec3 knockback = target.position().subtract(hit.entry()).normalize().scale(0.2);
+                target.setDeltaMovement(target.getDeltaMovement().add(knockback));
             }
         }
     }
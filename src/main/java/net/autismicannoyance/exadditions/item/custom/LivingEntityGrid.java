@@ -0,0 +1,89 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid of living entities, bucketed by position, for repeated nearest-neighbour queries.
+ *
+ * Built once per tick from a few entity lookups and then queried many times: nearest searches
+ * walk outward one shell of cells at a time and stop as soon as no farther shell can beat the
+ * best hit, so a query only touches the cells around its origin.
+ */
+public final class LivingEntityGrid {
+    private final double cellSize;
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> cells = new Long2ObjectOpenHashMap<>();
+    private final IntOpenHashSet ids = new IntOpenHashSet();
+
+    public LivingEntityGrid(double cellSize) {
+        this.cellSize = cellSize;
+    }
+
+    public void addAll(List<? extends LivingEntity> entities) {
+        for (LivingEntity entity : entities) {
+            add(entity);
+        }
+    }
+
+    public void add(LivingEntity entity) {
+        if (!ids.add(entity.getId())) return;
+        Vec3 pos = entity.position();
+        cells.computeIfAbsent(key(cell(pos.x), cell(pos.y), cell(pos.z)), k -> new ArrayList<>()).add(entity);
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Closest entity to {@code from} (by feet position) within {@code maxDistance} that passes
+     * {@code filter}, or null.
+     */
+    @Nullable
+    public LivingEntity nearest(Vec3 from, double maxDistance, Predicate<LivingEntity> filter) {
+        int cx = cell(from.x), cy = cell(from.y), cz = cell(from.z);
+        int maxRing = Mth.ceil(maxDistance / cellSize);
+        double bestDistance = maxDistance * maxDistance;
+        LivingEntity best = null;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dy = -ring; dy <= ring; dy++) {
+                    for (int dz = -ring; dz <= ring; dz++) {
+                        // Only the shell of this ring, the inside was covered by earlier rings
+                        if (Math.max(Math.abs(dx), Math.max(Math.abs(dy), Math.abs(dz))) != ring) continue;
+                        List<LivingEntity> bucket = cells.get(key(cx + dx, cy + dy, cz + dz));
+                        if (bucket == null) continue;
+                        for (LivingEntity entity : bucket) {
+                            double distance = from.distanceToSqr(entity.position());
+                            if (distance <= bestDistance && filter.test(entity)) {
+                                bestDistance = distance;
+                                best = entity;
+                            }
+                        }
+                    }
+                }
+            }
+            // Anything in the next ring is at least ring * cellSize away
+            if (best != null && bestDistance <= (ring * cellSize) * (ring * cellSize)) break;
+        }
+        return best;
+    }
+
+    private int cell(double coordinate) {
+        return Mth.floor(coordinate / cellSize);
+    }
+
+    private static long key(int x, int y, int z) {
+        return BlockPos.asLong(x, y, z);
+    }
+}
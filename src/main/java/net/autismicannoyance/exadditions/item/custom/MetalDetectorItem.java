@@ -10,9 +10,13 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import java.util.List;
 
 public class MetalDetectorItem extends Item {
     public MetalDetectorItem(Properties pProperties) {
@@ -24,20 +28,18 @@ public class MetalDetectorItem extends Item {
         if(!pContext.getLevel().isClientSide()) {
             BlockPos positionClicked = pContext.getClickedPos();
             Player player = pContext.getPlayer();
-            boolean foundBlock = false;
-
-            for(int i = 0; i <= positionClicked.getY() + 64; i++) {
-                BlockState state = pContext.getLevel().getBlockState(positionClicked.below(i));
-
-                if (isValuableBlock(state)) {
-                    outputValuableCoordinates(positionClicked.below(i), player, state.getBlock());
-                    foundBlock = true;
-
-                    break;
-                }
-            }
-
-            if(!foundBlock) {
+            Level level = pContext.getLevel();
+
+            // The column below the clicked block; sections without a valuable in their palette are skipped
+            BoundingBox column = new BoundingBox(positionClicked.getX(), level.getMinBuildHeight(), positionClicked.getZ(),
+                    positionClicked.getX(), positionClicked.getY(), positionClicked.getZ());
+            List<ValuableScanner.Find> finds = ValuableScanner.scan(level, positionClicked, column,
+                    this::isValuableBlock, 1).finds();
+
+            if(!finds.isEmpty()) {
+                ValuableScanner.Find find = finds.get(0);
+                outputValuableCoordinates(find.pos(), player, find.state().getBlock());
+            } else {
                 player.sendSystemMessage(Component.literal("No valuables Found!"));
             }
         }
@@ -1,23 +1,35 @@
 package net.autismicannoyance.exadditions.item.custom;
 
-import net.minecraft.client.resources.language.I18n;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.MutableComponent;
+import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.context.UseOnContext;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 
 import java.util.*;
 
 public class MetalDetectorV2Item extends Item {
 
-    public MetalDetectorV2Item(Properties properties) {
+    // Chunks scanned in each direction around the clicked block's chunk
+    private final int chunkRadius;
+
+    public MetalDetectorV2Item(Properties properties, int chunkRadius) {
         super(properties);
+        this.chunkRadius = chunkRadius;
     }
 
     @Override
@@ -31,40 +43,44 @@ public class MetalDetectorV2Item extends Item {
             // prevent spamming (cooldown of 40 ticks = 2 seconds)
             player.getCooldowns().addCooldown(this, 40);
 
-            List<Vein> veins = new ArrayList<>();
-            Set<BlockPos> visited = new HashSet<>();
-
-            for (int i = 0; i <= clickedPos.getY() + 64; i++) {
-                BlockPos checkPos = clickedPos.below(i);
-                if (!visited.contains(checkPos)) {
-                    BlockState state = level.getBlockState(checkPos);
-                    if (isValuableBlock(state)) {
-                        Vein vein = findVein(level, checkPos, state.getBlock(), visited);
-                        if (vein != null) {
-                            veins.add(vein);
-                        }
-                    }
-                }
-            }
+            // Everything below the clicked block within the tier's chunk radius
+            ChunkPos chunk = new ChunkPos(clickedPos);
+            BoundingBox area = new BoundingBox(
+                    SectionPos.sectionToBlockCoord(chunk.x - chunkRadius), level.getMinBuildHeight(),
+                    SectionPos.sectionToBlockCoord(chunk.z - chunkRadius),
+                    SectionPos.sectionToBlockCoord(chunk.x + chunkRadius, 15), clickedPos.getY(),
+                    SectionPos.sectionToBlockCoord(chunk.z + chunkRadius, 15));
+            ValuableScanner.Result result = ValuableScanner.scan(level, clickedPos, area,
+                    this::isValuableBlock, Integer.MAX_VALUE);
+            List<Vein> veins = findVeins(result.finds());
 
             if (veins.isEmpty()) {
                 player.sendSystemMessage(Component.literal("No valuables found!"));
             } else {
-                // Sort veins by distance to the clicked position
-                veins.sort(Comparator.comparingDouble(v -> v.distanceTo(clickedPos)));
-
                 // Report up to 3 nearest veins
                 int veinsToReport = Math.min(3, veins.size());
                 for (int i = 0; i < veinsToReport; i++) {
                     Vein vein = veins.get(i);
-                    player.sendSystemMessage(Component.literal(
-                            "Found " + I18n.get(vein.block.getDescriptionId()) +
-                                    " vein (" + vein.size + " blocks) at " +
+                    // Block names are translated on the receiving client, not here on the server
+                    player.sendSystemMessage(Component.literal("Found ")
+                            .append(vein.block.getName())
+                            .append(" vein (" + vein.size + " blocks) at " +
                                     "(" + vein.origin.getX() + ", " +
                                     vein.origin.getY() + ", " +
-                                    vein.origin.getZ() + ")"
-                    ));
+                                    vein.origin.getZ() + "), " +
+                                    Mth.floor(vein.distance) + " blocks away"));
+                }
+
+                // Totals for the whole area, most common first
+                List<Object2IntMap.Entry<Block>> totals = new ArrayList<>(result.counts().object2IntEntrySet());
+                totals.sort(Comparator.comparingInt(Object2IntMap.Entry<Block>::getIntValue).reversed());
+                MutableComponent summary = Component.literal("Ores within " + chunkRadius + " chunk(s): ");
+                for (int i = 0; i < totals.size(); i++) {
+                    if (i > 0) summary.append(", ");
+                    summary.append(totals.get(i).getIntValue() + "x ")
+                            .append(totals.get(i).getKey().getName());
                 }
+                player.sendSystemMessage(summary);
             }
         }
 
@@ -89,50 +105,59 @@ public class MetalDetectorV2Item extends Item {
                 block == Blocks.ANCIENT_DEBRIS;
     }
 
-    private Vein findVein(Level level, BlockPos startPos, Block oreBlock, Set<BlockPos> visited) {
-        Queue<BlockPos> queue = new ArrayDeque<>();
-        queue.add(startPos);
-
-        Set<BlockPos> veinBlocks = new HashSet<>();
-        veinBlocks.add(startPos);
-        visited.add(startPos);
-
-        while (!queue.isEmpty()) {
-            BlockPos current = queue.poll();
-
-            // Check neighbors within a 2-block radius
-            for (BlockPos neighbor : BlockPos.betweenClosed(
-                    current.getX() - 2, current.getY() - 2, current.getZ() - 2,
-                    current.getX() + 2, current.getY() + 2, current.getZ() + 2)) {
+    /**
+     * Groups finds into veins of the same block, counting blocks up to 2 apart on each axis as
+     * connected. Finds come nearest first, so each vein's origin is its nearest block and the
+     * veins come out nearest first too.
+     */
+    private List<Vein> findVeins(List<ValuableScanner.Find> finds) {
+        Long2ObjectOpenHashMap<Block> blocks = new Long2ObjectOpenHashMap<>();
+        for (ValuableScanner.Find find : finds) {
+            blocks.put(find.pos().asLong(), find.state().getBlock());
+        }
 
-                if (!visited.contains(neighbor)) {
-                    BlockState neighborState = level.getBlockState(neighbor);
-                    if (neighborState.getBlock() == oreBlock) {
-                        visited.add(neighbor);
-                        veinBlocks.add(neighbor);
-                        queue.add(neighbor);
+        List<Vein> veins = new ArrayList<>();
+        LongOpenHashSet visited = new LongOpenHashSet();
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        for (ValuableScanner.Find find : finds) {
+            long start = find.pos().asLong();
+            if (!visited.add(start)) continue;
+
+            Block oreBlock = find.state().getBlock();
+            int size = 0;
+            queue.enqueue(start);
+            while (!queue.isEmpty()) {
+                long current = queue.dequeueLong();
+                size++;
+
+                // Check neighbors within a 2-block radius
+                for (int dx = -2; dx <= 2; dx++) {
+                    for (int dy = -2; dy <= 2; dy++) {
+                        for (int dz = -2; dz <= 2; dz++) {
+                            long neighbor = BlockPos.offset(current, dx, dy, dz);
+                            if (blocks.get(neighbor) == oreBlock && visited.add(neighbor)) {
+                                queue.enqueue(neighbor);
+                            }
+                        }
                     }
                 }
             }
+            veins.add(new Vein(find.pos(), oreBlock, size, find.distance()));
         }
-
-        if (veinBlocks.isEmpty()) return null;
-        return new Vein(startPos, oreBlock, veinBlocks.size());
+        return veins;
     }
 
     private static class Vein {
         BlockPos origin;
         Block block;
         int size;
+        double distance;
 
-        Vein(BlockPos origin, Block block, int size) {
+        Vein(BlockPos origin, Block block, int size, double distance) {
             this.origin = origin;
             this.block = block;
             this.size = size;
-        }
-
-        double distanceTo(BlockPos pos) {
-            return pos.distSqr(origin);
+            this.distance = distance;
         }
     }
 }
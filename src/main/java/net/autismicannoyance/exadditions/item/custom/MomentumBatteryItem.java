@@ -1,6 +1,5 @@
 package net.autismicannoyance.exadditions.item.custom;
 
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
@@ -17,14 +16,22 @@ import javax.annotation.Nullable;
 import java.util.List;
 
 public class MomentumBatteryItem extends Item {
-    private static final String TAG_X = "MomentumX";
-    private static final String TAG_Y = "MomentumY";
-    private static final String TAG_Z = "MomentumZ";
+    private static final PackedItemData DATA = new PackedItemData("MomentumBatteryData");
+    private static final PackedItemData.DoubleField MOMENTUM_X = DATA.doubleField(0.0, "MomentumX");
+    private static final PackedItemData.DoubleField MOMENTUM_Y = DATA.doubleField(0.0, "MomentumY");
+    private static final PackedItemData.DoubleField MOMENTUM_Z = DATA.doubleField(0.0, "MomentumZ");
 
     public MomentumBatteryItem(Properties props) {
         super(props.durability(64)); // single stack, durability like a charge meter
     }
 
+    /**
+     * Momentum currently stored in the battery.
+     */
+    public static Vec3 getMomentum(ItemStack stack) {
+        return new Vec3(MOMENTUM_X.get(stack), MOMENTUM_Y.get(stack), MOMENTUM_Z.get(stack));
+    }
+
     /**
      * Store player's momentum into the battery (accumulated).
      * Stops the player afterwards.
@@ -33,22 +40,10 @@ public class MomentumBatteryItem extends Item {
         Vec3 vel = player.getDeltaMovement();
         if (vel.equals(Vec3.ZERO)) return false; // nothing to store
 
-        CompoundTag tag = stack.getOrCreateTag();
-
-        // Read old stored vector
-        double x = tag.getDouble(TAG_X);
-        double y = tag.getDouble(TAG_Y);
-        double z = tag.getDouble(TAG_Z);
-
-        // Add new velocity to it
-        x += vel.x;
-        y += vel.y;
-        z += vel.z;
-
-        // Save accumulated vector
-        tag.putDouble(TAG_X, x);
-        tag.putDouble(TAG_Y, y);
-        tag.putDouble(TAG_Z, z);
+        // Add new velocity to the stored vector
+        MOMENTUM_X.set(stack, MOMENTUM_X.get(stack) + vel.x);
+        MOMENTUM_Y.set(stack, MOMENTUM_Y.get(stack) + vel.y);
+        MOMENTUM_Z.set(stack, MOMENTUM_Z.get(stack) + vel.z);
 
         // Stop the player
         player.setDeltaMovement(Vec3.ZERO);
@@ -64,10 +59,7 @@ public class MomentumBatteryItem extends Item {
      * Release stored momentum and clear battery.
      */
     public static boolean releaseMomentum(ItemStack stack, Player player) {
-        CompoundTag tag = stack.getTag();
-        if (tag == null || !tag.contains(TAG_X)) return false;
-
-        Vec3 vel = new Vec3(tag.getDouble(TAG_X), tag.getDouble(TAG_Y), tag.getDouble(TAG_Z));
+        Vec3 vel = getMomentum(stack);
         if (vel.equals(Vec3.ZERO)) return false;
 
         // Apply accumulated momentum (vector addition)
@@ -75,9 +67,7 @@ public class MomentumBatteryItem extends Item {
         player.hurtMarked = true;
 
         // Clear storage
-        tag.remove(TAG_X);
-        tag.remove(TAG_Y);
-        tag.remove(TAG_Z);
+        DATA.clear(stack);
 
         // Durability loss
         stack.hurtAndBreak(1, player, p -> onBatteryBreak(stack, p));
@@ -109,14 +99,7 @@ public class MomentumBatteryItem extends Item {
      * Any remaining stored momentum gets dumped violently.
      */
     private static void onBatteryBreak(ItemStack stack, Player player) {
-        CompoundTag tag = stack.getTag();
-        if (tag == null) return;
-
-        Vec3 vel = new Vec3(
-                tag.getDouble(TAG_X),
-                tag.getDouble(TAG_Y),
-                tag.getDouble(TAG_Z)
-        );
+        Vec3 vel = getMomentum(stack);
 
         if (!vel.equals(Vec3.ZERO)) {
             // Violent release on break
@@ -138,13 +121,7 @@ public class MomentumBatteryItem extends Item {
      */
     @Override
     public void appendHoverText(ItemStack stack, @Nullable Level level, List<Component> tooltip, TooltipFlag flag) {
-        CompoundTag tag = stack.getTag();
-        if (tag != null && tag.contains(TAG_X)) {
-            Vec3 vel = new Vec3(tag.getDouble(TAG_X), tag.getDouble(TAG_Y), tag.getDouble(TAG_Z));
-            double mag = vel.length();
-            tooltip.add(Component.literal("Stored Momentum: " + String.format("%.2f", mag)));
-        } else {
-            tooltip.add(Component.literal("Stored Momentum: 0.00"));
-        }
+        double mag = getMomentum(stack).length();
+        tooltip.add(Component.literal("Stored Momentum: " + String.format("%.2f", mag)));
     }
 }
@@ -0,0 +1,180 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Numeric per-stack state packed into a single long array tag.
+ *
+ * An item declares its fields once, in a static layout, and reads and writes them through typed
+ * handles. Each field is one slot of the array, so the stack carries one compact entry instead of
+ * a named tag per value. That shrinks the NBT saved with the item and sent whenever the stack
+ * syncs. A write that doesn't change the stored bits leaves the tag untouched. A field can name
+ * the key older versions stored it under; that key is read until the first write, which folds it
+ * into the array and removes it.
+ */
+public final class PackedItemData {
+    private final String key;
+    private final List<Field> fields = new ArrayList<>();
+
+    public PackedItemData(String key) {
+        this.key = key;
+    }
+
+    public IntField intField(int defaultValue) {
+        return intField(defaultValue, null);
+    }
+
+    public IntField intField(int defaultValue, @Nullable String legacyKey) {
+        return add(new IntField(fields.size(), defaultValue, legacyKey));
+    }
+
+    public FloatField floatField(float defaultValue) {
+        return floatField(defaultValue, null);
+    }
+
+    public FloatField floatField(float defaultValue, @Nullable String legacyKey) {
+        return add(new FloatField(fields.size(), defaultValue, legacyKey));
+    }
+
+    public DoubleField doubleField(double defaultValue) {
+        return doubleField(defaultValue, null);
+    }
+
+    public DoubleField doubleField(double defaultValue, @Nullable String legacyKey) {
+        return add(new DoubleField(fields.size(), defaultValue, legacyKey));
+    }
+
+    private <F extends Field> F add(F field) {
+        fields.add(field);
+        return field;
+    }
+
+    /**
+     * Reset every field to its default by dropping the packed tag (and any legacy keys).
+     */
+    public void clear(ItemStack stack) {
+        CompoundTag tag = stack.getTag();
+        if (tag == null) return;
+        tag.remove(key);
+        for (Field field : fields) {
+            if (field.legacyKey != null) tag.remove(field.legacyKey);
+        }
+    }
+
+    // The stack's packed array, created, grown or migrated from legacy keys as needed
+    private long[] data(ItemStack stack) {
+        CompoundTag tag = stack.getOrCreateTag();
+        long[] data = tag.contains(key, Tag.TAG_LONG_ARRAY) ? tag.getLongArray(key) : null;
+        if (data != null && data.length == fields.size()) return data;
+
+        long[] packed = new long[fields.size()];
+        for (Field field : fields) {
+            if (data != null && field.slot < data.length) {
+                packed[field.slot] = data[field.slot];
+            } else if (field.legacyKey != null && tag.contains(field.legacyKey)) {
+                packed[field.slot] = field.legacyBits(tag);
+                tag.remove(field.legacyKey);
+            } else {
+                packed[field.slot] = field.defaultBits;
+            }
+        }
+        // The tag keeps this array, so later writes go straight into it
+        tag.putLongArray(key, packed);
+        return packed;
+    }
+
+    public abstract class Field {
+        final int slot;
+        final long defaultBits;
+        @Nullable
+        final String legacyKey;
+
+        Field(int slot, long defaultBits, @Nullable String legacyKey) {
+            this.slot = slot;
+            this.defaultBits = defaultBits;
+            this.legacyKey = legacyKey;
+        }
+
+        abstract long legacyBits(CompoundTag tag);
+
+        long bits(ItemStack stack) {
+            CompoundTag tag = stack.getTag();
+            if (tag == null) return defaultBits;
+            if (tag.contains(key, Tag.TAG_LONG_ARRAY)) {
+                long[] data = tag.getLongArray(key);
+                return slot < data.length ? data[slot] : defaultBits;
+            }
+            return legacyKey != null && tag.contains(legacyKey) ? legacyBits(tag) : defaultBits;
+        }
+
+        // Returns whether the stored value changed
+        boolean setBits(ItemStack stack, long bits) {
+            if (bits(stack) == bits) return false;
+            data(stack)[slot] = bits;
+            return true;
+        }
+    }
+
+    public final class IntField extends Field {
+        IntField(int slot, int defaultValue, @Nullable String legacyKey) {
+            super(slot, defaultValue, legacyKey);
+        }
+
+        public int get(ItemStack stack) {
+            return (int) bits(stack);
+        }
+
+        public boolean set(ItemStack stack, int value) {
+            return setBits(stack, value);
+        }
+
+        @Override
+        long legacyBits(CompoundTag tag) {
+            return tag.getInt(legacyKey);
+        }
+    }
+
+    public final class FloatField extends Field {
+        FloatField(int slot, float defaultValue, @Nullable String legacyKey) {
+            super(slot, Float.floatToIntBits(defaultValue), legacyKey);
+        }
+
+        public float get(ItemStack stack) {
+            return Float.intBitsToFloat((int) bits(stack));
+        }
+
+        public boolean set(ItemStack stack, float value) {
+            return setBits(stack, Float.floatToIntBits(value));
+        }
+
+        @Override
+        long legacyBits(CompoundTag tag) {
+            return Float.floatToIntBits(tag.getFloat(legacyKey));
+        }
+    }
+
+    public final class DoubleField extends Field {
+        DoubleField(int slot, double defaultValue, @Nullable String legacyKey) {
+            super(slot, Double.doubleToLongBits(defaultValue), legacyKey);
+        }
+
+        public double get(ItemStack stack) {
+            return Double.longBitsToDouble(bits(stack));
+        }
+
+        public boolean set(ItemStack stack, double value) {
+            return setBits(stack, Double.doubleToLongBits(value));
+        }
+
+        @Override
+        long legacyBits(CompoundTag tag) {
+            return Double.doubleToLongBits(tag.getDouble(legacyKey));
+        }
+    }
+}
@@ -26,8 +26,9 @@ import java.util.*;
  */
 public class StaffOfEyesItem extends Item {
     // Staff configuration - stored per ItemStack
-    private static final String EYE_COUNT_TAG = "eye_count";
     private static final int DEFAULT_EYE_COUNT = 45; // Tripled from 15
+    private static final PackedItemData DATA = new PackedItemData("StaffOfEyesData");
+    private static final PackedItemData.IntField EYE_COUNT = DATA.intField(DEFAULT_EYE_COUNT, "eye_count");
 
     public StaffOfEyesItem(Properties props) {
         super(props);
@@ -37,17 +38,14 @@ public class StaffOfEyesItem extends Item {
      * Get the eye count for this specific staff
      */
     public static int getEyeCount(ItemStack stack) {
-        if (stack.hasTag() && stack.getTag().contains(EYE_COUNT_TAG)) {
-            return stack.getTag().getInt(EYE_COUNT_TAG);
-        }
-        return DEFAULT_EYE_COUNT;
+        return EYE_COUNT.get(stack);
     }
 
     /**
      * Set the eye count for this specific staff
      */
     public static void setEyeCount(ItemStack stack, int count) {
-        stack.getOrCreateTag().putInt(EYE_COUNT_TAG, Math.max(1, count));
+        EYE_COUNT.set(stack, Math.max(1, count));
     }
 
     @Override
@@ -122,7 +122,8 @@ public class SuperBundleItem extends Item {
     // -------- Tooltip UI (icons + progress bar) --------
     @Override
     public Optional<TooltipComponent> getTooltipImage(ItemStack stack) {
-        return Optional.of(new SuperBundleTooltip(getContents(stack), getContentWeight(stack), MAX_WEIGHT));
+        BundleContentsCache.Contents contents = BundleContentsCache.read(stack, TAG_ITEMS, CODEC);
+        return Optional.of(contents.snapshot(c -> new SuperBundleTooltip(toStacks(c), c.weight(), MAX_WEIGHT)));
     }
 
     @Override
@@ -168,85 +169,85 @@ public class SuperBundleItem extends Item {
     }
 
     private static ItemStack removeOne(ItemStack bundle) {
-        CompoundTag tag = bundle.getOrCreateTag();
-        if (!tag.contains(TAG_ITEMS)) return ItemStack.EMPTY;
+        CompoundTag tag = bundle.getTag();
+        if (tag == null || !tag.contains(TAG_ITEMS)) return ItemStack.EMPTY;
 
         ListTag listTag = tag.getList(TAG_ITEMS, 10);
-        if (listTag.isEmpty()) return ItemStack.EMPTY;
+        BundleContentsCache.Contents contents = BundleContentsCache.get(listTag, CODEC);
+        BundleContentsCache.Slot last = contents.last();
+        if (last == null) return ItemStack.EMPTY;
 
-        int last = listTag.size() - 1;
-        CompoundTag itemTag = listTag.getCompound(last);
-        listTag.remove(last);
+        ItemStack removed = last.toStack();
+        contents.shrinkLast(listTag, last.count);
 
         if (listTag.isEmpty()) bundle.removeTagKey(TAG_ITEMS);
 
-        return ItemStack.of(itemTag);
+        return removed;
     }
 
     private static ItemStack add(ItemStack bundle, ItemStack stack) {
         if (stack.isEmpty() || !stack.getItem().canFitInsideContainerItems()) return stack;
 
-        CompoundTag tag = bundle.getOrCreateTag();
-        if (!tag.contains(TAG_ITEMS)) {
-            tag.put(TAG_ITEMS, new ListTag());
-        }
+        ListTag listTag = BundleContentsCache.getOrCreateList(bundle, TAG_ITEMS);
+        BundleContentsCache.Contents contents = BundleContentsCache.get(listTag, CODEC);
 
-        int currentWeight = getContentWeight(bundle);
+        int currentWeight = contents.weight();
         int itemWeight = getWeight(stack);
         int availableWeight = MAX_WEIGHT - currentWeight;
 
         if (availableWeight < itemWeight) return stack;
 
-        NonNullList<ItemStack> contents = getContents(bundle);
-        for (ItemStack existing : contents) {
-            if (ItemStack.isSameItemSameTags(existing, stack)) {
-                int canAdd = Math.min(64 - existing.getCount(), stack.getCount());
-                canAdd = Math.min(canAdd, availableWeight / itemWeight);
-                if (canAdd > 0) {
-                    existing.grow(canAdd);
-                    stack.shrink(canAdd);
-                }
-                saveContents(bundle, contents);
-                return stack;
+        BundleContentsCache.Slot existing = contents.find(stack);
+        if (existing != null) {
+            int canAdd = Math.min(64 - existing.count, stack.getCount());
+            canAdd = Math.min(canAdd, availableWeight / itemWeight);
+            if (canAdd > 0) {
+                contents.grow(listTag, existing, canAdd);
+                stack.shrink(canAdd);
             }
+            return stack;
         }
 
         int toAdd = Math.min(stack.getCount(), Math.min(64, availableWeight / itemWeight));
         if (toAdd > 0) {
-            ItemStack newStack = stack.copy();
-            newStack.setCount(toAdd);
-            contents.add(newStack);
+            contents.append(listTag, stack, toAdd);
             stack.shrink(toAdd);
         }
 
-        saveContents(bundle, contents);
         return stack;
     }
 
-    private static NonNullList<ItemStack> getContents(ItemStack stack) {
-        NonNullList<ItemStack> contents = NonNullList.create();
-        CompoundTag tag = stack.getOrCreateTag();
+    // Entries are plain vanilla ItemStack NBT, so existing bundles keep loading unchanged
+    private static final BundleContentsCache.Codec CODEC = new BundleContentsCache.Codec() {
+        @Override
+        public BundleContentsCache.Slot decode(CompoundTag entry) {
+            ItemStack itemStack = ItemStack.of(entry);
+            return itemStack.isEmpty() ? null : new BundleContentsCache.Slot(itemStack, itemStack.getCount());
+        }
 
-        if (tag.contains(TAG_ITEMS)) {
-            ListTag listTag = tag.getList(TAG_ITEMS, 10);
-            for (int i = 0; i < listTag.size(); ++i) {
-                CompoundTag itemTag = listTag.getCompound(i);
-                ItemStack itemStack = ItemStack.of(itemTag);
-                if (!itemStack.isEmpty()) contents.add(itemStack);
-            }
+        @Override
+        public CompoundTag encode(ItemStack proto, int count) {
+            ItemStack itemStack = proto.copy();
+            itemStack.setCount(count);
+            return itemStack.save(new CompoundTag());
         }
-        return contents;
+
+        @Override
+        public int weightForOne(ItemStack proto) {
+            return getWeight(proto);
+        }
+    };
+
+    private static NonNullList<ItemStack> getContents(ItemStack stack) {
+        return toStacks(BundleContentsCache.read(stack, TAG_ITEMS, CODEC));
     }
 
-    private static void saveContents(ItemStack bundle, NonNullList<ItemStack> contents) {
-        CompoundTag tag = bundle.getOrCreateTag();
-        ListTag listTag = new ListTag();
-        for (ItemStack itemStack : contents) {
-            CompoundTag itemTag = new CompoundTag();
-            itemStack.save(itemTag);
-            listTag.add(itemTag);
+    private static NonNullList<ItemStack> toStacks(BundleContentsCache.Contents contents) {
+        NonNullList<ItemStack> stacks = NonNullList.create();
+        for (BundleContentsCache.Slot slot : contents.slots()) {
+            stacks.add(slot.toStack());
         }
-        tag.put(TAG_ITEMS, listTag);
+        return stacks;
     }
 
     private static int getWeight(ItemStack stack) {
@@ -299,9 +300,7 @@ public class SuperBundleItem extends Item {
 
 
     private static int getContentWeight(ItemStack stack) {
-        return getContents(stack).stream()
-                .mapToInt(s -> getWeight(s) * s.getCount())
-                .sum();
+        return BundleContentsCache.read(stack, TAG_ITEMS, CODEC).weight();
     }
 
     // -------- Drop contents when destroyed --------
@@ -0,0 +1,110 @@
+package net.autismicannoyance.exadditions.item.custom;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+/**
+ * Nearest-first search for valuable blocks in a box, shared by the metal detectors.
+ *
+ * The box is cut along chunk section boundaries and the sections are visited in order of their
+ * distance from the centre. A section whose palette holds no state the predicate accepts is
+ * rejected without reading a single block, so a scan over several chunks only walks the few
+ * sections that can actually contain ore. With a limit, the scan stops as soon as no remaining
+ * section can hold a block closer than the ones already found. Chunks that aren't loaded are
+ * skipped rather than loaded.
+ */
+public final class ValuableScanner {
+
+    public record Find(BlockPos pos, BlockState state, double distance) {}
+
+    /**
+     * @param finds  nearest first, at most the requested limit
+     * @param counts valuable blocks per block type in every section that was scanned; the whole
+     *               box when the scan had no limit
+     */
+    public record Result(List<Find> finds, Object2IntMap<Block> counts, int sectionsChecked, int sectionsScanned) {}
+
+    private record Section(int x, int y, int z, long distanceSq) {}
+
+    private ValuableScanner() {}
+
+    public static Result scan(Level level, BlockPos center, BoundingBox box, Predicate<BlockState> valuable, int limit) {
+        int minY = Math.max(box.minY(), level.getMinBuildHeight());
+        int maxY = Math.min(box.maxY(), level.getMaxBuildHeight() - 1);
+
+        List<Section> sections = new ArrayList<>();
+        for (int sx = SectionPos.blockToSectionCoord(box.minX()); sx <= SectionPos.blockToSectionCoord(box.maxX()); sx++) {
+            for (int sz = SectionPos.blockToSectionCoord(box.minZ()); sz <= SectionPos.blockToSectionCoord(box.maxZ()); sz++) {
+                if (!level.hasChunk(sx, sz)) continue;
+                for (int sy = SectionPos.blockToSectionCoord(minY); sy <= SectionPos.blockToSectionCoord(maxY); sy++) {
+                    sections.add(new Section(sx, sy, sz, distanceSq(center,
+                            Math.max(box.minX(), sx << 4), Math.max(minY, sy << 4), Math.max(box.minZ(), sz << 4),
+                            Math.min(box.maxX(), (sx << 4) + 15), Math.min(maxY, (sy << 4) + 15), Math.min(box.maxZ(), (sz << 4) + 15))));
+                }
+            }
+        }
+        sections.sort(Comparator.comparingLong(Section::distanceSq));
+
+        // Farthest kept find on top, so it's the one dropped once the limit is exceeded
+        PriorityQueue<Find> nearest = new PriorityQueue<>(Comparator.comparingDouble(Find::distance).reversed());
+        Object2IntOpenHashMap<Block> counts = new Object2IntOpenHashMap<>();
+        int checked = 0, scanned = 0;
+
+        for (Section candidate : sections) {
+            if (nearest.size() >= limit && candidate.distanceSq > square(nearest.peek().distance())) break;
+
+            checked++;
+            LevelChunk chunk = level.getChunk(candidate.x, candidate.z);
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(candidate.y));
+            if (section.hasOnlyAir() || !section.maybeHas(valuable)) continue;
+            scanned++;
+
+            int fromX = Math.max(box.minX(), candidate.x << 4), toX = Math.min(box.maxX(), (candidate.x << 4) + 15);
+            int fromY = Math.max(minY, candidate.y << 4), toY = Math.min(maxY, (candidate.y << 4) + 15);
+            int fromZ = Math.max(box.minZ(), candidate.z << 4), toZ = Math.min(box.maxZ(), (candidate.z << 4) + 15);
+            for (int y = toY; y >= fromY; y--) {
+                for (int z = fromZ; z <= toZ; z++) {
+                    for (int x = fromX; x <= toX; x++) {
+                        BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                        if (!valuable.test(state)) continue;
+
+                        counts.addTo(state.getBlock(), 1);
+                        BlockPos pos = new BlockPos(x, y, z);
+                        nearest.add(new Find(pos, state, Math.sqrt(pos.distSqr(center))));
+                        if (nearest.size() > limit) nearest.poll();
+                    }
+                }
+            }
+        }
+
+        List<Find> finds = new ArrayList<>(nearest);
+        finds.sort(Comparator.comparingDouble(Find::distance));
+        return new Result(finds, counts, checked, scanned);
+    }
+
+    private static double square(double value) {
+        return value * value;
+    }
+
+    // Squared distance from center to the closest block of the box
+    private static long distanceSq(BlockPos center, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        long dx = Math.max(0, Math.max(minX - center.getX(), center.getX() - maxX));
+        long dy = Math.max(0, Math.max(minY - center.getY(), center.getY() - maxY));
+        long dz = Math.max(0, Math.max(minZ - center.getZ(), center.getZ() - maxZ));
+        return dx * dx + dy * dy + dz * dz;
+    }
+}
@@ -1,5 +1,6 @@
 package net.autismicannoyance.exadditions.item.custom;
 
+import net.autismicannoyance.exadditions.world.SurfaceFinder;
 import net.autismicannoyance.exadditions.world.dimension.ModDimensions;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -131,42 +132,18 @@ public class VoidPortalItem extends Item {
      * Finds a safe surface position at specific coordinates in the overworld
      */
     private BlockPos findSurfacePosition(ServerLevel level, int x, int z, int startY) {
-        // Scan downward from the top to find solid ground
-        for (int y = startY; y >= level.getMinBuildHeight(); y--) {
-            BlockPos groundPos = new BlockPos(x, y, z);
-            BlockPos airPos1 = new BlockPos(x, y + 1, z);
-            BlockPos airPos2 = new BlockPos(x, y + 2, z);
-
-            // Check if we have solid ground with 2 air blocks above
-            if (isSafeGround(level, groundPos) &&
-                    isPassable(level, airPos1) &&
-                    isPassable(level, airPos2)) {
-                return airPos1; // Return the position where the player's feet will be
-            }
-        }
-        return null;
+        // Solid ground with 2 passable blocks above, highest first
+        return SurfaceFinder.findSurface(level, x, z, startY, level.getMinBuildHeight(),
+                VoidPortalItem::isSafeGround, VoidPortalItem::isPassable);
     }
 
     /**
      * Finds a safe surface position in the void dimension
      */
     private BlockPos findVoidSurfacePosition(ServerLevel voidLevel, int x, int z) {
-        // In void dimension, scan from Y=1000 down to Y=100 for surface
-        for (int y = 1000; y >= 100; y--) {
-            BlockPos groundPos = new BlockPos(x, y, z);
-            BlockPos airPos1 = new BlockPos(x, y + 1, z);
-            BlockPos airPos2 = new BlockPos(x, y + 2, z);
-
-            // Check if we have solid ground with air above (avoid lava)
-            if (isSafeVoidGround(voidLevel, groundPos) &&
-                    isPassable(voidLevel, airPos1) &&
-                    isPassable(voidLevel, airPos2) &&
-                    !isLava(voidLevel, airPos1) &&
-                    !isLava(voidLevel, airPos2)) {
-                return airPos1;
-            }
-        }
-        return null;
+        // In void dimension, look for a surface from Y=1000 down to Y=100 (avoid lava)
+        return SurfaceFinder.findSurface(voidLevel, x, z, 1000, 100,
+                VoidPortalItem::isSafeVoidGround, state -> isPassable(state) && !isLava(state));
     }
 
     /**
@@ -217,8 +194,7 @@ public class VoidPortalItem extends Item {
     /**
      * Checks if a block is safe to stand on in the overworld
      */
-    private boolean isSafeGround(ServerLevel level, BlockPos pos) {
-        BlockState state = level.getBlockState(pos);
+    public static boolean isSafeGround(BlockState state) {
         return !state.isAir() &&
                 state.getBlock() != Blocks.LAVA &&
                 state.getBlock() != Blocks.WATER &&
@@ -229,8 +205,7 @@ public class VoidPortalItem extends Item {
     /**
      * Checks if a block is safe to stand on in the void dimension
      */
-    private boolean isSafeVoidGround(ServerLevel level, BlockPos pos) {
-        BlockState state = level.getBlockState(pos);
+    public static boolean isSafeVoidGround(BlockState state) {
         return !state.isAir() &&
                 state.getBlock() != Blocks.LAVA &&
                 state.getBlock() != Blocks.FIRE &&
@@ -238,19 +213,18 @@ public class VoidPortalItem extends Item {
     }
 
     /**
-     * Checks if a position is passable (air or other non-solid blocks)
+     * Checks if a block is passable (air or other non-solid blocks)
      */
-    private boolean isPassable(ServerLevel level, BlockPos pos) {
-        BlockState state = level.getBlockState(pos);
+    public static boolean isPassable(BlockState state) {
         return state.isAir() ||
                 !state.canOcclude() ||
                 state.canBeReplaced();
     }
 
     /**
-     * Checks if a position contains lava
+     * Checks if a block is lava
      */
-    private boolean isLava(ServerLevel level, BlockPos pos) {
-        return level.getBlockState(pos).getBlock() == Blocks.LAVA;
+    public static boolean isLava(BlockState state) {
+        return state.getBlock() == Blocks.LAVA;
     }
-}
\ No newline at end of file
+}
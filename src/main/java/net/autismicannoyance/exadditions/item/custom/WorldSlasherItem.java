@@ -16,10 +16,10 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.network.PacketDistributor;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -177,45 +177,45 @@ public class WorldSlasherItem extends Item {
         double waveSpan = Math.PI * 0.8;
         double startAngle = -waveSpan / 2.0;
 
-        // Expanded damage area to catch all entities in the wave
-        AABB searchArea = new AABB(
-                center.x - baseWidth, center.y - 3.0, center.z - baseWidth,
-                center.x + baseWidth, center.y + 3.0, center.z + baseWidth
-        );
+        // Sample points along the wave once; they also form the path the entity lookup follows
+        Vec3[] wavePoints = new Vec3[DAMAGE_SEGMENTS + 1];
+        double[] hitDistances = new double[DAMAGE_SEGMENTS + 1];
+        double reach = 0;
+        for (int i = 0; i <= DAMAGE_SEGMENTS; i++) {
+            double t = (double) i / DAMAGE_SEGMENTS;
+            double angle = startAngle + (waveSpan * t);
 
-        List<Entity> entities = level.getEntitiesOfClass(Entity.class, searchArea);
+            double waveProfile = Math.sin(t * Math.PI);
+            double thickness = waveProfile * 0.3 + 0.1;
+            double waveRadius = baseWidth * 0.5;
 
-        for (Entity entity : entities) {
-            if (entity == attacker || !entity.isAlive() || !(entity instanceof LivingEntity livingEntity)) continue;
+            double innerRadius = waveRadius * (0.4 - thickness * 0.2);
+            double outerRadius = waveRadius * (0.7 + thickness * 0.3);
 
-            Vec3 entityPos = entity.getEyePosition();
-            Vec3 toEntity = entityPos.subtract(origin);
+            Vec3 waveDir = forwardFlat.scale(Math.cos(angle)).add(right.scale(Math.sin(angle)));
+            double verticalFlow = Math.sin(t * Math.PI) * baseWidth * 0.05;
+
+            wavePoints[i] = origin.add(waveDir.scale((innerRadius + outerRadius) / 2))
+                    .add(worldUp.scale(verticalFlow));
+            hitDistances[i] = (outerRadius - innerRadius) / 2 + 1.5; // Wave thickness + entity size buffer
+            reach = Math.max(reach, hitDistances[i]);
+        }
+
+        List<BeamQuery.Hit<LivingEntity>> candidates = BeamQuery.path(level, LivingEntity.class,
+                Arrays.asList(wavePoints), reach, e -> e != attacker && e.isAlive());
+
+        for (BeamQuery.Hit<LivingEntity> candidate : candidates) {
+            LivingEntity livingEntity = candidate.entity();
+            Vec3 entityPos = livingEntity.getEyePosition();
 
             // Check if entity is within the flowing wave shape
             boolean hitByWave = false;
             double closestDistance = Double.MAX_VALUE;
             double damageMultiplier = 0;
 
-            // Sample points along the wave to check for hits
             for (int i = 0; i <= DAMAGE_SEGMENTS; i++) {
-                double t = (double) i / DAMAGE_SEGMENTS;
-                double angle = startAngle + (waveSpan * t);
-
-                double waveProfile = Math.sin(t * Math.PI);
-                double thickness = waveProfile * 0.3 + 0.1;
-                double waveRadius = baseWidth * 0.5;
-
-                double innerRadius = waveRadius * (0.4 - thickness * 0.2);
-                double outerRadius = waveRadius * (0.7 + thickness * 0.3);
-
-                Vec3 waveDir = forwardFlat.scale(Math.cos(angle)).add(right.scale(Math.sin(angle)));
-                double verticalFlow = Math.sin(t * Math.PI) * baseWidth * 0.05;
-
-                Vec3 wavePoint = origin.add(waveDir.scale((innerRadius + outerRadius) / 2))
-                        .add(worldUp.scale(verticalFlow));
-
-                double distanceToWave = entityPos.distanceTo(wavePoint);
-                double maxHitDistance = (outerRadius - innerRadius) / 2 + 1.5; // Wave thickness + entity size buffer
+                double distanceToWave = entityPos.distanceTo(wavePoints[i]);
+                double maxHitDistance = hitDistances[i];
 
                 if (distanceToWave <= maxHitDistance) {
                     hitByWave = true;
@@ -236,7 +236,7 @@ public class WorldSlasherItem extends Item {
                 // Wave-style knockback
                 Vec3 knockbackDir = entityPos.subtract(center).normalize();
                 Vec3 knockback = knockbackDir.scale(2.0).add(direction.scale(1.5)).add(0, 0.6, 0);
-                entity.setDeltaMovement(entity.getDeltaMovement().add(knockback));
+                livingEntity.setDeltaMovement(livingEntity.getDeltaMovement().add(knockback));
 
                 livingEntity.addEffect(new MobEffectInstance(MobEffects.WEAKNESS, 100, 1));
                 livingEntity.addEffect(new MobEffectInstance(MobEffects.BLINDNESS, 80, 0));
@@ -317,54 +317,57 @@ public class WorldSlasherItem extends Item {
         Vec3 right = safeNormalize(forwardFlat.cross(worldUp));
         Vec3 origin = playerPos.add(forwardFlat.scale(CURVED_SLASH_RADIUS * 0.3)).add(worldUp.scale(-0.1));
 
-        // Expanded damage area for the flowing wave
-        AABB damageArea = new AABB(
-                playerPos.x - CURVED_SLASH_RADIUS * 2, playerPos.y - 3.0, playerPos.z - CURVED_SLASH_RADIUS * 2,
-                playerPos.x + CURVED_SLASH_RADIUS * 2, playerPos.y + 3.0, playerPos.z + CURVED_SLASH_RADIUS * 2
-        );
-
-        List<Entity> entities = level.getEntitiesOfClass(Entity.class, damageArea);
-
-        for (Entity entity : entities) {
-            if (entity == attacker || !entity.isAlive() || !(entity instanceof LivingEntity livingEntity)) continue;
+        // Sample points along the wave once; they also form the path the entity lookup follows
+        Vec3[] wavePoints = new Vec3[DAMAGE_SEGMENTS + 1];
+        double[] hitDistances = new double[DAMAGE_SEGMENTS + 1];
+        double[] profiles = new double[DAMAGE_SEGMENTS + 1];
+        double reach = 0;
+        double startAngle = -WAVE_SPAN / 2;
+        for (int i = 0; i <= DAMAGE_SEGMENTS; i++) {
+            double t = (double) i / DAMAGE_SEGMENTS;
+            double angle = startAngle + (WAVE_SPAN * t);
 
-            Vec3 entityPos = entity.getEyePosition();
+            double waveProfile = Math.sin(t * Math.PI);
+            double flowProfile = Math.sin(t * Math.PI * 2.0) * 0.3;
+            double combinedProfile = Math.max(0.1, waveProfile + flowProfile);
 
-            // Check if entity is within the flowing wave pattern
-            boolean hitByWave = false;
-            double bestDamageMultiplier = 0;
+            double thickness = combinedProfile * 0.4 + 0.1;
+            double baseRadius = CURVED_SLASH_RADIUS;
 
-            // Sample multiple points along the wave path for precise hit detection
-            double startAngle = -WAVE_SPAN / 2;
-            for (int i = 0; i <= DAMAGE_SEGMENTS; i++) {
-                double t = (double) i / DAMAGE_SEGMENTS;
-                double angle = startAngle + (WAVE_SPAN * t);
+            double innerRadius = baseRadius * (0.5 - thickness * 0.3);
+            double outerRadius = baseRadius * (0.8 + thickness * 0.5);
 
-                double waveProfile = Math.sin(t * Math.PI);
-                double flowProfile = Math.sin(t * Math.PI * 2.0) * 0.3;
-                double combinedProfile = Math.max(0.1, waveProfile + flowProfile);
+            Vec3 waveDir = forwardFlat.scale(Math.cos(angle)).add(right.scale(Math.sin(angle)));
+            double verticalFlow = Math.sin(t * Math.PI * 1.5) * CURVED_SLASH_RADIUS * 0.08;
+            double forwardFlow = Math.sin(t * Math.PI) * CURVED_SLASH_RADIUS * 0.15;
 
-                double thickness = combinedProfile * 0.4 + 0.1;
-                double baseRadius = CURVED_SLASH_RADIUS;
+            wavePoints[i] = origin.add(waveDir.scale((innerRadius + outerRadius) / 2))
+                    .add(worldUp.scale(verticalFlow))
+                    .add(forwardFlat.scale(forwardFlow));
+            hitDistances[i] = (outerRadius - innerRadius) / 2 + 1.2; // Wave thickness + entity buffer
+            profiles[i] = combinedProfile;
+            reach = Math.max(reach, hitDistances[i]);
+        }
 
-                double innerRadius = baseRadius * (0.5 - thickness * 0.3);
-                double outerRadius = baseRadius * (0.8 + thickness * 0.5);
+        List<BeamQuery.Hit<LivingEntity>> candidates = BeamQuery.path(level, LivingEntity.class,
+                Arrays.asList(wavePoints), reach, e -> e != attacker && e.isAlive());
 
-                Vec3 waveDir = forwardFlat.scale(Math.cos(angle)).add(right.scale(Math.sin(angle)));
-                double verticalFlow = Math.sin(t * Math.PI * 1.5) * CURVED_SLASH_RADIUS * 0.08;
-                double forwardFlow = Math.sin(t * Math.PI) * CURVED_SLASH_RADIUS * 0.15;
+        for (BeamQuery.Hit<LivingEntity> candidate : candidates) {
+            LivingEntity livingEntity = candidate.entity();
+            Vec3 entityPos = livingEntity.getEyePosition();
 
-                Vec3 waveCenter = origin.add(waveDir.scale((innerRadius + outerRadius) / 2))
-                        .add(worldUp.scale(verticalFlow))
-                        .add(forwardFlat.scale(forwardFlow));
+            // Check if entity is within the flowing wave pattern
+            boolean hitByWave = false;
+            double bestDamageMultiplier = 0;
 
-                double distanceToWave = entityPos.distanceTo(waveCenter);
-                double waveThickness = (outerRadius - innerRadius) / 2 + 1.2; // Wave thickness + entity buffer
+            for (int i = 0; i <= DAMAGE_SEGMENTS; i++) {
+                double distanceToWave = entityPos.distanceTo(wavePoints[i]);
+                double waveThickness = hitDistances[i];
 
                 if (distanceToWave <= waveThickness) {
                     hitByWave = true;
                     double damageMultiplier = Math.max(0.4, 1.0 - (distanceToWave / waveThickness));
-                    damageMultiplier *= combinedProfile; // Stronger damage at wave peaks
+                    damageMultiplier *= profiles[i]; // Stronger damage at wave peaks
                     bestDamageMultiplier = Math.max(bestDamageMultiplier, damageMultiplier);
                 }
             }
@@ -381,7 +384,7 @@ public class WorldSlasherItem extends Item {
                 Vec3 knockback = knockbackBase.scale(1.8)
                         .add(forward.scale(1.2))
                         .add(worldUp.scale(0.4));
-                entity.setDeltaMovement(entity.getDeltaMovement().add(knockback));
+                livingEntity.setDeltaMovement(livingEntity.getDeltaMovement().add(knockback));
 
                 livingEntity.addEffect(new MobEffectInstance(MobEffects.WEAKNESS, 80, 0));
                 livingEntity.addEffect(new MobEffectInstance(MobEffects.GLOWING, 60, 0)); // Mark hit enemies
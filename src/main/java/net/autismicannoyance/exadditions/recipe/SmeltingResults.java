@@ -0,0 +1,118 @@
+package net.autismicannoyance.exadditions.recipe;
+
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.SimpleContainer;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.AbstractCookingRecipe;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.event.AddReloadListenerEvent;
+import net.minecraftforge.event.OnDatapackSyncEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Memoized furnace results (smelting, blasting, smoking) by input item.
+ *
+ * Every lookup the mod does for "what does this cook into" goes through here, so a vein-mined
+ * ore body or a fast-forwarded furnace hits the recipe manager once per item instead of once per
+ * block. Misses are cached too. Items that some recipe matches by NBT are flagged and looked up
+ * directly whenever the input carries a tag. The table is emptied whenever recipes reload.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public final class SmeltingResults {
+    private static final Map<RecipeType<?>, Map<Item, Result>> CACHE = new HashMap<>();
+
+    public record Result(@Nullable AbstractCookingRecipe recipe, ItemStack output, float experience, boolean nbtSensitive) {
+        public static final Result NONE = new Result(null, ItemStack.EMPTY, 0.0F, false);
+
+        public boolean isEmpty() {
+            return recipe == null || output.isEmpty();
+        }
+    }
+
+    private SmeltingResults() {}
+
+    /**
+     * Result of cooking one {@code input} with {@code type}; never null, {@link Result#NONE} on a miss.
+     * The returned output stack is shared, copy it before handing it out.
+     */
+    public static Result lookup(Level level, RecipeType<? extends AbstractCookingRecipe> type, ItemStack input) {
+        if (input.isEmpty()) return Result.NONE;
+
+        Result cached = lookup(level, type, input.getItem());
+        if (cached.nbtSensitive() && input.hasTag()) {
+            return find(level, type, input.copyWithCount(1), true);
+        }
+        return cached;
+    }
+
+    public static Result lookup(Level level, RecipeType<? extends AbstractCookingRecipe> type, Item item) {
+        return CACHE.computeIfAbsent(type, k -> new HashMap<>())
+                .computeIfAbsent(item, k -> find(level, type, new ItemStack(item), isNbtSensitive(level, type, item)));
+    }
+
+    public static void invalidate() {
+        CACHE.clear();
+    }
+
+    private static Result find(Level level, RecipeType<? extends AbstractCookingRecipe> type, ItemStack input, boolean nbtSensitive) {
+        AbstractCookingRecipe recipe = level.getRecipeManager()
+                .getRecipeFor(type, new SimpleContainer(input), level)
+                .orElse(null);
+        if (recipe == null) {
+            return nbtSensitive ? new Result(null, ItemStack.EMPTY, 0.0F, true) : Result.NONE;
+        }
+        return new Result(recipe, recipe.getResultItem(level.registryAccess()), recipe.getExperience(), nbtSensitive);
+    }
+
+    // True if a recipe of this type could match the item differently depending on its tag
+    private static boolean isNbtSensitive(Level level, RecipeType<? extends AbstractCookingRecipe> type, Item item) {
+        for (AbstractCookingRecipe recipe : level.getRecipeManager().getAllRecipesFor(type)) {
+            for (Ingredient ingredient : recipe.getIngredients()) {
+                if (ingredient.isSimple()) continue;
+                for (ItemStack stack : ingredient.getItems()) {
+                    if (stack.is(item)) return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @SubscribeEvent
+    public static void onAddReloadListeners(AddReloadListenerEvent event) {
+        invalidate();
+        // Runs after the recipe manager has applied the new recipes
+        event.addListener(new SimplePreparableReloadListener<Void>() {
+            @Override
+            protected Void prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+                return null;
+            }
+
+            @Override
+            protected void apply(Void nothing, ResourceManager resourceManager, ProfilerFiller profiler) {
+                invalidate();
+            }
+        });
+    }
+
+    @SubscribeEvent
+    public static void onDatapackSync(OnDatapackSyncEvent event) {
+        invalidate();
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        invalidate();
+    }
+}
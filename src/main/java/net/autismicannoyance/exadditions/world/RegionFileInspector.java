@@ -0,0 +1,104 @@
+package net.autismicannoyance.exadditions.world;
+
+import net.minecraft.Util;
+import net.minecraft.world.level.ChunkPos;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Reads the 8 KiB header of .mca region files to find out which chunks actually exist on disk,
+ * without loading any chunk data. Pure file IO, meant to run on the IO pool via {@link #scanAsync}.
+ *
+ * Header layout (Anvil): 1024 big-endian ints of (sectorOffset << 8 | sectorCount), followed by
+ * 1024 big-endian ints of last-write timestamps (epoch seconds). Index = (x & 31) + (z & 31) * 32.
+ */
+public final class RegionFileInspector {
+    private static final Pattern REGION_PATTERN = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+    private static final int SECTOR_BYTES = 4096;
+    private static final int CHUNKS_PER_REGION = 1024;
+    private static final int HEADER_BYTES = SECTOR_BYTES * 2;
+
+    private RegionFileInspector() {}
+
+    /** One chunk present in a region file. sizeBytes is the allocated size (whole sectors). */
+    public record ChunkInfo(ChunkPos pos, int sizeBytes, long timestampSeconds) {}
+
+    public record RegionReport(List<ChunkInfo> chunks, int regionFiles, long totalBytes) {
+        public static final RegionReport EMPTY = new RegionReport(List.of(), 0, 0L);
+    }
+
+    public static CompletableFuture<RegionReport> scanAsync(Path regionDir) {
+        return CompletableFuture.supplyAsync(() -> scan(regionDir), Util.ioPool());
+    }
+
+    public static RegionReport scan(Path regionDir) {
+        if (!Files.isDirectory(regionDir)) return RegionReport.EMPTY;
+
+        List<ChunkInfo> chunks = new ArrayList<>();
+        int regionFiles = 0;
+        long totalBytes = 0;
+
+        try (Stream<Path> files = Files.list(regionDir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = REGION_PATTERN.matcher(file.getFileName().toString());
+                if (!matcher.matches()) continue;
+
+                int regionX = Integer.parseInt(matcher.group(1));
+                int regionZ = Integer.parseInt(matcher.group(2));
+                int before = chunks.size();
+                readHeader(file, regionX, regionZ, chunks);
+
+                regionFiles++;
+                for (int i = before; i < chunks.size(); i++) {
+                    totalBytes += chunks.get(i).sizeBytes();
+                }
+            }
+        } catch (IOException e) {
+            // Report whatever we managed to read
+        }
+
+        return new RegionReport(Collections.unmodifiableList(chunks), regionFiles, totalBytes);
+    }
+
+    private static void readHeader(Path file, int regionX, int regionZ, List<ChunkInfo> out) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Freshly created / truncated files have no valid header
+            if (channel.size() < HEADER_BYTES) return;
+
+            // Read, not mapped: a live mapping would keep the reset from deleting the file on Windows
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) return;
+            }
+            header.flip();
+            IntBuffer ints = header.order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+
+            for (int i = 0; i < CHUNKS_PER_REGION; i++) {
+                int location = ints.get(i);
+                if (location == 0) continue; // not generated / never saved
+
+                int sectorCount = location & 0xFF;
+                long timestamp = Integer.toUnsignedLong(ints.get(CHUNKS_PER_REGION + i));
+                int chunkX = (regionX << 5) + (i & 31);
+                int chunkZ = (regionZ << 5) + (i >> 5);
+                out.add(new ChunkInfo(new ChunkPos(chunkX, chunkZ), sectorCount * SECTOR_BYTES, timestamp));
+            }
+        } catch (IOException e) {
+            // Unreadable region file, skip it
+        }
+    }
+}
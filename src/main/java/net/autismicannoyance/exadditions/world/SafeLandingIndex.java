@@ -0,0 +1,367 @@
+package net.autismicannoyance.exadditions.world;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ByteOpenHashMap;
+import net.autismicannoyance.exadditions.ExAdditions;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraftforge.event.level.BlockEvent;
+import net.minecraftforge.event.level.ChunkEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.server.ServerStoppedEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lazily built, per-level index of safe standing spots for teleports (Chaos Food, Enderosis).
+ *
+ * A spot is safe when the block below has a sturdy top face and the feet and head blocks have no
+ * collision and no fluid. Each chunk section is classified once into a 4096-bit mask (sections
+ * above the chunk's MOTION_BLOCKING heightmap are skipped outright) and the mask is dropped when a
+ * block in or next to the section changes, or after MAX_AGE_TICKS as a safety net for changes no
+ * Forge event reports.
+ *
+ * {@link #randomWithin} picks uniformly among the set bits of the sections in range.
+ * {@link #farthestFrom} walks sections in order of an upper bound on how far they can be from the
+ * points to avoid and stops as soon as no remaining section can beat the best spot found, so it
+ * only visits the set bits of a few sections instead of probing every position in the box.
+ */
+@Mod.EventBusSubscriber(modid = ExAdditions.MOD_ID)
+public final class SafeLandingIndex {
+    private static final int MAX_AGE_TICKS = 200;
+    private static final int LAYER_LONGS = 4;              // 256 columns per y layer
+    private static final int SECTION_LONGS = 16 * LAYER_LONGS;
+
+    private static final byte GROUND = 1;
+    private static final byte OPEN = 2;
+
+    private static final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Spots>> LEVELS = new HashMap<>();
+
+    // bits == null means "no safe spot in this section"
+    private record Spots(@Nullable long[] bits, long builtAt) {}
+
+    private record Candidate(int sectionX, int sectionY, int sectionZ, long bound) {}
+
+    private SafeLandingIndex() {}
+
+    // ---------------- queries ----------------
+
+    public static boolean isSafe(ServerLevel level, BlockPos pos) {
+        Spots spots = spots(level, SectionPos.blockToSectionCoord(pos.getX()),
+                SectionPos.blockToSectionCoord(pos.getY()), SectionPos.blockToSectionCoord(pos.getZ()));
+        if (spots == null || spots.bits == null) return false;
+        int bit = index(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+        return (spots.bits[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Safe spot within {@code horizontalRadius} / {@code verticalRadius} of {@code center} whose
+     * squared distance to the nearest of {@code avoid} is largest. Spots on top of an avoided
+     * point never qualify. Only loaded chunks are considered.
+     *
+     * @return the spot (feet position), or null if there is none
+     */
+    @Nullable
+    public static BlockPos farthestFrom(ServerLevel level, BlockPos center, int horizontalRadius, int verticalRadius,
+                                        Collection<BlockPos> avoid) {
+        if (avoid.isEmpty()) return null;
+
+        int minX = center.getX() - horizontalRadius, maxX = center.getX() + horizontalRadius;
+        int minZ = center.getZ() - horizontalRadius, maxZ = center.getZ() + horizontalRadius;
+        int minY = Math.max(level.getMinBuildHeight(), center.getY() - verticalRadius);
+        int maxY = Math.min(level.getMaxBuildHeight() - 1, center.getY() + verticalRadius);
+        if (minY > maxY) return null;
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                    long bound = upperBound(
+                            Math.max(minX, sx << 4), Math.max(minY, sy << 4), Math.max(minZ, sz << 4),
+                            Math.min(maxX, (sx << 4) + 15), Math.min(maxY, (sy << 4) + 15), Math.min(maxZ, (sz << 4) + 15),
+                            avoid);
+                    if (bound > 0) candidates.add(new Candidate(sx, sy, sz, bound));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong(Candidate::bound).reversed());
+
+        long bestDistance = 0;
+        BlockPos.MutableBlockPos best = null;
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (Candidate candidate : candidates) {
+            if (candidate.bound <= bestDistance) break;
+
+            Spots spots = spots(level, candidate.sectionX, candidate.sectionY, candidate.sectionZ);
+            if (spots == null || spots.bits == null) continue;
+
+            int baseX = candidate.sectionX << 4, baseY = candidate.sectionY << 4, baseZ = candidate.sectionZ << 4;
+            long[] bits = spots.bits;
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    int bit = (word << 6) | Long.numberOfTrailingZeros(remaining);
+                    remaining &= remaining - 1;
+
+                    int x = baseX + (bit & 15), y = baseY + (bit >>> 8), z = baseZ + ((bit >>> 4) & 15);
+                    if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) continue;
+
+                    cursor.set(x, y, z);
+                    long distance = minDistanceSq(cursor, avoid);
+                    if (distance > bestDistance) {
+                        bestDistance = distance;
+                        best = cursor.mutable();
+                    }
+                }
+            }
+        }
+        return best == null ? null : best.immutable();
+    }
+
+    /**
+     * A safe spot chosen uniformly at random within {@code horizontalRadius} /
+     * {@code verticalRadius} of {@code center}, skipping {@code center} itself. Only loaded chunks
+     * are considered.
+     *
+     * @return the spot (feet position), or null if there is none
+     */
+    @Nullable
+    public static BlockPos randomWithin(ServerLevel level, BlockPos center, int horizontalRadius, int verticalRadius,
+                                        RandomSource random) {
+        int minX = center.getX() - horizontalRadius, maxX = center.getX() + horizontalRadius;
+        int minZ = center.getZ() - horizontalRadius, maxZ = center.getZ() + horizontalRadius;
+        int minY = Math.max(level.getMinBuildHeight(), center.getY() - verticalRadius);
+        int maxY = Math.min(level.getMaxBuildHeight() - 1, center.getY() + verticalRadius);
+        if (minY > maxY) return null;
+
+        // Reservoir sampling over the set bits, so no list of spots is built
+        int seen = 0;
+        BlockPos chosen = null;
+        for (int sx = minX >> 4; sx <= maxX >> 4; sx++) {
+            for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                for (int sz = minZ >> 4; sz <= maxZ >> 4; sz++) {
+                    Spots spots = spots(level, sx, sy, sz);
+                    if (spots == null || spots.bits == null) continue;
+
+                    int baseX = sx << 4, baseY = sy << 4, baseZ = sz << 4;
+                    long[] bits = spots.bits;
+                    for (int word = 0; word < bits.length; word++) {
+                        long remaining = bits[word];
+                        while (remaining != 0) {
+                            int bit = (word << 6) | Long.numberOfTrailingZeros(remaining);
+                            remaining &= remaining - 1;
+
+                            int x = baseX + (bit & 15), y = baseY + (bit >>> 8), z = baseZ + ((bit >>> 4) & 15);
+                            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) continue;
+                            if (x == center.getX() && y == center.getY() && z == center.getZ()) continue;
+
+                            seen++;
+                            if (random.nextInt(seen) == 0) chosen = new BlockPos(x, y, z);
+                        }
+                    }
+                }
+            }
+        }
+        return chosen;
+    }
+
+    public static int size() {
+        int total = 0;
+        for (Long2ObjectOpenHashMap<Spots> sections : LEVELS.values()) {
+            total += sections.size();
+        }
+        return total;
+    }
+
+    private static long minDistanceSq(BlockPos pos, Collection<BlockPos> avoid) {
+        long min = Long.MAX_VALUE;
+        for (BlockPos point : avoid) {
+            long dx = pos.getX() - point.getX(), dy = pos.getY() - point.getY(), dz = pos.getZ() - point.getZ();
+            min = Math.min(min, dx * dx + dy * dy + dz * dz);
+        }
+        return min;
+    }
+
+    /**
+     * No spot in the box can be farther from its nearest avoided point than the farthest corner
+     * of the box is from any single point.
+     */
+    private static long upperBound(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Collection<BlockPos> avoid) {
+        if (minX > maxX || minY > maxY || minZ > maxZ) return 0;
+        long bound = Long.MAX_VALUE;
+        for (BlockPos point : avoid) {
+            long dx = Math.max(Math.abs(point.getX() - minX), Math.abs(point.getX() - maxX));
+            long dy = Math.max(Math.abs(point.getY() - minY), Math.abs(point.getY() - maxY));
+            long dz = Math.max(Math.abs(point.getZ() - minZ), Math.abs(point.getZ() - maxZ));
+            bound = Math.min(bound, dx * dx + dy * dy + dz * dz);
+        }
+        return bound;
+    }
+
+    // ---------------- section masks ----------------
+
+    private static int index(int x, int y, int z) {
+        return (y << 8) | (z << 4) | x;
+    }
+
+    @Nullable
+    private static Spots spots(ServerLevel level, int sectionX, int sectionY, int sectionZ) {
+        if (sectionY < level.getMinSection() || sectionY >= level.getMaxSection()) return null;
+
+        Long2ObjectOpenHashMap<Spots> sections = LEVELS.computeIfAbsent(level.dimension(), k -> new Long2ObjectOpenHashMap<>());
+        long key = SectionPos.asLong(sectionX, sectionY, sectionZ);
+        long now = level.getGameTime();
+        Spots spots = sections.get(key);
+        if (spots != null && now - spots.builtAt <= MAX_AGE_TICKS) return spots;
+
+        LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+        if (chunk == null) {
+            // Never load chunks for a teleport check, and don't remember the miss either
+            sections.remove(key);
+            return null;
+        }
+        spots = new Spots(build(level, chunk, sectionY), now);
+        sections.put(key, spots);
+        return spots;
+    }
+
+    @Nullable
+    private static long[] build(ServerLevel level, LevelChunk chunk, int sectionY) {
+        int baseY = SectionPos.sectionToBlockCoord(sectionY);
+
+        // Nothing above the highest motion-blocking block + 1 can have ground under it
+        int top = level.getMinBuildHeight() - 1;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                top = Math.max(top, chunk.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z));
+            }
+        }
+        if (baseY > top + 1) return null;
+
+        // Layer 0 is the block row under the section, 17 the row above it
+        long[] ground = new long[18 * LAYER_LONGS];
+        long[] open = new long[18 * LAYER_LONGS];
+        Reference2ByteOpenHashMap<BlockState> classified = new Reference2ByteOpenHashMap<>();
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int baseX = chunk.getPos().getMinBlockX(), baseZ = chunk.getPos().getMinBlockZ();
+
+        for (int layer = 0; layer < 18; layer++) {
+            int y = baseY - 1 + layer;
+            if (y < level.getMinBuildHeight() || y >= level.getMaxBuildHeight()) continue;
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    pos.set(baseX + x, y, baseZ + z);
+                    BlockState state = chunk.getBlockState(pos);
+                    byte flags;
+                    if (classified.containsKey(state)) {
+                        flags = classified.getByte(state);
+                    } else {
+                        flags = classify(level, pos, state);
+                        if (isPositionIndependent(state)) classified.put(state, flags);
+                    }
+                    int column = (z << 4) | x;
+                    long mask = 1L << column;
+                    if ((flags & GROUND) != 0) ground[layer * LAYER_LONGS + (column >>> 6)] |= mask;
+                    if ((flags & OPEN) != 0) open[layer * LAYER_LONGS + (column >>> 6)] |= mask;
+                }
+            }
+        }
+
+        long[] bits = new long[SECTION_LONGS];
+        boolean any = false;
+        for (int y = 0; y < 16; y++) {
+            for (int word = 0; word < LAYER_LONGS; word++) {
+                // Standing at layer y + 1: ground one layer down, feet and head open
+                long safe = ground[y * LAYER_LONGS + word]
+                        & open[(y + 1) * LAYER_LONGS + word]
+                        & open[(y + 2) * LAYER_LONGS + word];
+                bits[y * LAYER_LONGS + word] = safe;
+                any |= safe != 0;
+            }
+        }
+        return any ? bits : null;
+    }
+
+    /**
+     * Whether a state's collision shape, and so its classification, is the same at every position.
+     * Offset plants (bamboo, dripstone), dynamic shapes (scaffolding, shulker boxes) and block
+     * entities can differ from one position to the next, so they are classified per position.
+     */
+    private static boolean isPositionIndependent(BlockState state) {
+        return !state.hasOffsetFunction() && !state.hasDynamicShape() && !state.hasBlockEntity();
+    }
+
+    private static byte classify(ServerLevel level, BlockPos pos, BlockState state) {
+        byte flags = 0;
+        if (state.isFaceSturdy(level, pos, Direction.UP)) flags |= GROUND;
+        if (state.getFluidState().isEmpty() && state.getCollisionShape(level, pos).isEmpty()) flags |= OPEN;
+        return flags;
+    }
+
+    // ---------------- invalidation ----------------
+
+    private static void invalidate(Level level, BlockPos pos) {
+        Long2ObjectOpenHashMap<Spots> sections = LEVELS.get(level.dimension());
+        if (sections == null || sections.isEmpty()) return;
+        int sectionX = SectionPos.blockToSectionCoord(pos.getX());
+        int sectionZ = SectionPos.blockToSectionCoord(pos.getZ());
+        // A block is ground for the row above it and head room for the row below it
+        for (int dy = -1; dy <= 1; dy++) {
+            sections.remove(SectionPos.asLong(sectionX, SectionPos.blockToSectionCoord(pos.getY() + dy), sectionZ));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onNeighborNotify(BlockEvent.NeighborNotifyEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            invalidate(serverLevel, event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onBlockBreak(BlockEvent.BreakEvent event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            invalidate(serverLevel, event.getPos());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event) {
+        if (!(event.getLevel() instanceof ServerLevel serverLevel)) return;
+        Long2ObjectOpenHashMap<Spots> sections = LEVELS.get(serverLevel.dimension());
+        if (sections == null || sections.isEmpty()) return;
+        ChunkPos chunkPos = event.getChunk().getPos();
+        for (int sectionY = serverLevel.getMinSection(); sectionY < serverLevel.getMaxSection(); sectionY++) {
+            sections.remove(SectionPos.asLong(chunkPos.x, sectionY, chunkPos.z));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(LevelEvent.Unload event) {
+        if (event.getLevel() instanceof ServerLevel serverLevel) {
+            LEVELS.remove(serverLevel.dimension());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onServerStopped(ServerStoppedEvent event) {
+        LEVELS.clear();
+    }
+}
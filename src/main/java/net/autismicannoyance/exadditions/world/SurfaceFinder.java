@@ -0,0 +1,73 @@
+package net.autismicannoyance.exadditions.world;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.levelgen.Heightmap;
+
+import javax.annotation.Nullable;
+import java.util.function.Predicate;
+
+/**
+ * Top-down search for the highest spot in a column where something can stand: a ground block
+ * with two open blocks above it.
+ *
+ * Gives the same answer as testing every y from the top down, but starts at the chunk's
+ * WORLD_SURFACE heightmap (nothing above the highest non-air block can be ground), skips whole
+ * sections that hold only air, and reads each remaining block once, straight from its section,
+ * carrying the two blocks above along as head room. In the void dimension, which is 2048 blocks
+ * tall and mostly empty, that turns a scan of a thousand block lookups into a few section checks.
+ */
+public final class SurfaceFinder {
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    public static final Predicate<BlockState> NOT_AIR = state -> !state.isAir();
+    public static final Predicate<BlockState> IS_AIR = BlockState::isAir;
+
+    private SurfaceFinder() {}
+
+    /**
+     * Highest spot in column x/z with its ground block between {@code toY} and {@code fromY}
+     * (inclusive). {@code ground} must reject air, or spots above the heightmap would be missed.
+     *
+     * @return the feet position above the ground block, or null if the column has none
+     */
+    @Nullable
+    public static BlockPos findSurface(ServerLevel level, int x, int z, int fromY, int toY,
+                                       Predicate<BlockState> ground, Predicate<BlockState> open) {
+        LevelChunk chunk = level.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+        int localX = x & 15, localZ = z & 15;
+
+        int y = Math.min(fromY, chunk.getHeight(Heightmap.Types.WORLD_SURFACE, localX, localZ));
+        int bottom = Math.max(toY, level.getMinBuildHeight());
+        if (y < bottom) return null;
+
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, y + 2, z);
+        BlockState head = chunk.getBlockState(pos);
+        BlockState feet = chunk.getBlockState(pos.setY(y + 1));
+
+        while (y >= bottom) {
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+            if (section.hasOnlyAir()) {
+                // No ground in here, and the two blocks above whatever is below it are air
+                y = SectionPos.sectionToBlockCoord(SectionPos.blockToSectionCoord(y)) - 1;
+                head = AIR;
+                feet = AIR;
+                continue;
+            }
+
+            BlockState state = section.getBlockState(localX, y & 15, localZ);
+            if (ground.test(state) && open.test(feet) && open.test(head)) {
+                return new BlockPos(x, y + 1, z);
+            }
+            head = feet;
+            feet = state;
+            y--;
+        }
+        return null;
+    }
+}
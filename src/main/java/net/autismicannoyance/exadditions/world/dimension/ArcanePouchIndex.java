@@ -0,0 +1,152 @@
+package net.autismicannoyance.exadditions.world.dimension;
+
+import net.autismicannoyance.exadditions.item.custom.ArcanePouchItem;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.Container;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Server-side index from pouch UUID to wherever that pouch stack currently lives
+ * (a player slot, a container slot or a dropped item entity).
+ *
+ * Entries are hints: they're refreshed from inventoryTick / toss / pickup / container close,
+ * and every lookup validates the hint before trusting it. Only when the hint is missing or
+ * stale do we fall back to the old scan over every online player.
+ */
+public class ArcanePouchIndex {
+    private static final Map<UUID, Holder> HOLDERS = new HashMap<>();
+
+    private interface Holder {
+        /** Returns the live pouch stack, or EMPTY if it is no longer here. */
+        ItemStack resolve(MinecraftServer server, UUID pouchUUID);
+    }
+
+    private record PlayerHolder(UUID playerId, int slot) implements Holder {
+        @Override
+        public ItemStack resolve(MinecraftServer server, UUID pouchUUID) {
+            ServerPlayer player = server.getPlayerList().getPlayer(playerId);
+            if (player == null) return ItemStack.EMPTY;
+
+            Inventory inventory = player.getInventory();
+            if (slot >= 0 && slot < inventory.getContainerSize() && isPouch(inventory.getItem(slot), pouchUUID)) {
+                return inventory.getItem(slot);
+            }
+
+            // Moved around inside the same inventory since the last update
+            int found = findInInventory(inventory, pouchUUID);
+            if (found < 0) return ItemStack.EMPTY;
+            HOLDERS.put(pouchUUID, new PlayerHolder(playerId, found));
+            return inventory.getItem(found);
+        }
+    }
+
+    private record ContainerHolder(ResourceKey<Level> dimension, BlockPos pos, int slot) implements Holder {
+        @Override
+        public ItemStack resolve(MinecraftServer server, UUID pouchUUID) {
+            ServerLevel level = server.getLevel(dimension);
+            // Never load chunks just to answer a lookup
+            if (level == null || !level.isLoaded(pos)) return ItemStack.EMPTY;
+
+            BlockEntity blockEntity = level.getBlockEntity(pos);
+            if (!(blockEntity instanceof Container container)) return ItemStack.EMPTY;
+            if (slot < 0 || slot >= container.getContainerSize()) return ItemStack.EMPTY;
+
+            ItemStack stack = container.getItem(slot);
+            if (!isPouch(stack, pouchUUID)) return ItemStack.EMPTY;
+
+            // Callers edit the stack's tag, make sure the container gets saved
+            blockEntity.setChanged();
+            return stack;
+        }
+    }
+
+    private record ItemEntityHolder(ResourceKey<Level> dimension, UUID entityId) implements Holder {
+        @Override
+        public ItemStack resolve(MinecraftServer server, UUID pouchUUID) {
+            ServerLevel level = server.getLevel(dimension);
+            if (level == null) return ItemStack.EMPTY;
+
+            Entity entity = level.getEntity(entityId);
+            if (!(entity instanceof ItemEntity itemEntity) || !itemEntity.isAlive()) return ItemStack.EMPTY;
+
+            ItemStack stack = itemEntity.getItem();
+            return isPouch(stack, pouchUUID) ? stack : ItemStack.EMPTY;
+        }
+    }
+
+    // ---------------- updates ----------------
+
+    public static void trackPlayerSlot(ServerPlayer player, ItemStack stack, int slot) {
+        UUID pouchUUID = ArcanePouchItem.peekPouchUUID(stack);
+        if (pouchUUID != null) HOLDERS.put(pouchUUID, new PlayerHolder(player.getUUID(), slot));
+    }
+
+    public static void trackContainerSlot(BlockEntity blockEntity, ItemStack stack, int slot) {
+        UUID pouchUUID = ArcanePouchItem.peekPouchUUID(stack);
+        if (pouchUUID == null || blockEntity.getLevel() == null) return;
+        HOLDERS.put(pouchUUID, new ContainerHolder(blockEntity.getLevel().dimension(), blockEntity.getBlockPos(), slot));
+    }
+
+    public static void trackItemEntity(ItemEntity itemEntity) {
+        UUID pouchUUID = ArcanePouchItem.peekPouchUUID(itemEntity.getItem());
+        if (pouchUUID != null) {
+            HOLDERS.put(pouchUUID, new ItemEntityHolder(itemEntity.level().dimension(), itemEntity.getUUID()));
+        }
+    }
+
+    public static void clear() {
+        HOLDERS.clear();
+    }
+
+    public static int size() {
+        return HOLDERS.size();
+    }
+
+    // ---------------- lookup ----------------
+
+    /**
+     * Find the live stack for a pouch. Validated O(1) lookup in the common case,
+     * full scan of online players only on a miss.
+     */
+    public static ItemStack find(MinecraftServer server, UUID pouchUUID) {
+        Holder holder = HOLDERS.get(pouchUUID);
+        if (holder != null) {
+            ItemStack stack = holder.resolve(server, pouchUUID);
+            if (!stack.isEmpty()) return stack;
+            HOLDERS.remove(pouchUUID);
+        }
+
+        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+            int slot = findInInventory(player.getInventory(), pouchUUID);
+            if (slot >= 0) {
+                HOLDERS.put(pouchUUID, new PlayerHolder(player.getUUID(), slot));
+                return player.getInventory().getItem(slot);
+            }
+        }
+        return ItemStack.EMPTY;
+    }
+
+    private static int findInInventory(Inventory inventory, UUID pouchUUID) {
+        for (int i = 0; i < inventory.getContainerSize(); i++) {
+            if (isPouch(inventory.getItem(i), pouchUUID)) return i;
+        }
+        return -1;
+    }
+
+    private static boolean isPouch(ItemStack stack, UUID pouchUUID) {
+        return pouchUUID.equals(ArcanePouchItem.peekPouchUUID(stack));
+    }
+}